@@ -0,0 +1,20 @@
+package fr.vidal.oss.jax_rs_linker.api;
+
+import java.lang.annotation.Documented;
+
+/**
+ * Maps a path or query parameter to a public no-arg method of the {@link LinkedEntity} type.
+ */
+@Documented
+public @interface Binding {
+
+    /**
+     * Path or query parameter name, as declared in {@code @PathParam} or {@code @QueryParam}
+     */
+    String parameter();
+
+    /**
+     * Getter or record component accessor name
+     */
+    String accessor();
+}
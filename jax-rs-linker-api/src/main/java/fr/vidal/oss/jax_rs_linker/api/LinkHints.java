@@ -0,0 +1,23 @@
+package fr.vidal.oss.jax_rs_linker.api;
+
+import java.lang.annotation.Documented;
+
+/**
+ * Sub-resource relations of the annotated resource to hint in its {@code Link} header, so that clients
+ * can start fetching them before parsing the response.
+ * Relations are named as in the generated link sets, e.g. {@code brandResource}.
+ * Only taken into account when the {@code Link} header filter is generated ({@code -AlinkHeaders}).
+ */
+@Documented
+public @interface LinkHints {
+
+    /**
+     * Relations hinted with {@code rel="preload"}, i.e. needed by the current navigation
+     */
+    String[] preload() default {};
+
+    /**
+     * Relations hinted with {@code rel="prefetch"}, i.e. likely needed by the next navigation
+     */
+    String[] prefetch() default {};
+}
@@ -0,0 +1,24 @@
+package fr.vidal.oss.jax_rs_linker.api;
+
+import java.lang.annotation.Documented;
+
+/**
+ * Generates {@code links(entity)} on the resource linker, reading every path and query parameter
+ * from the given entity accessors instead of Strings.
+ *
+ * By default, parameter {@code foo} is read from {@code getFoo()}, {@code isFoo()} or {@code foo()}
+ * (e.g. record components), in that order.
+ */
+@Documented
+public @interface LinkedEntity {
+
+    /**
+     * Entity type the links are rendered from
+     */
+    Class<?> value();
+
+    /**
+     * Explicit accessors, for parameters not following the naming convention
+     */
+    Binding[] bindings() default {};
+}
@@ -1,5 +1,10 @@
 package fr.vidal.oss.jax_rs_linker.base;
 
+import fr.vidal.oss.jax_rs_linker.metrics.LinkerMetrics;
+import fr.vidal.oss.jax_rs_linker.metrics.LinkerMetricsHolder;
+
+import java.util.regex.Pattern;
+
 public class Preconditions {
 
     public static void checkState(boolean expression, String errorMessage) {
@@ -8,6 +13,32 @@ public class Preconditions {
         }
     }
 
+    public static void checkParameterValue(Pattern regex, String value) {
+        if (regex != null && !regex.matcher(value).matches()) {
+            throw invalidParameterValue(regex);
+        }
+    }
+
+    /**
+     * Same as {@link #checkParameterValue(Pattern, String)}, checks being reported to the {@link LinkerMetrics} of the template.
+     */
+    public static void checkParameterValue(String template, Pattern regex, String value) {
+        if (!LinkerMetricsHolder.ENABLED || regex == null) {
+            checkParameterValue(regex, value);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean valid = regex.matcher(value).matches();
+        LinkerMetricsHolder.METRICS.validated(template, System.nanoTime() - start, valid);
+        if (!valid) {
+            throw invalidParameterValue(regex);
+        }
+    }
+
+    private static IllegalArgumentException invalidParameterValue(Pattern regex) {
+        return new IllegalArgumentException(String.format("The given value doesn't match the parameter regex: %s", regex));
+    }
+
     private Preconditions() {
         // Hide me!
     }
@@ -0,0 +1,171 @@
+package fr.vidal.oss.jax_rs_linker.invocation;
+
+import fr.vidal.oss.jax_rs_linker.model.Route;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Resolves a batch of rendered links in-process, each link being routed back to its resource method.
+ *
+ * Resources are looked up on the calling thread, then the resource methods run concurrently on the given executor,
+ * while the calling thread writes their results as they come.
+ * Links that cannot be routed to an invocable method, including links outside of the context path, are answered
+ * with {@code 404}, failures with the status mapped from their exception. Absolute links are routed on their path
+ * only, whatever their host: links to another host sharing the context path resolve to the local resources. Resource methods are only given the path parameters of their link, their query
+ * parameters being left to the values JAX-RS injects when absent: links carrying a query string are therefore
+ * answered with {@code 400} rather than resolved to a different result.
+ *
+ * Resource methods are called directly: the JAX-RS request filters, interceptors and authorization checks
+ * of the linked resources are not applied, only the ones of the batch request itself.
+ */
+public final class BatchResolver {
+
+    public static final int OK = 200;
+    public static final int NO_CONTENT = 204;
+    public static final int BAD_REQUEST = 400;
+    public static final int NOT_FOUND = 404;
+
+    private final ResourceIndex index;
+    private final Executor executor;
+    private final ToIntFunction<Throwable> statuses;
+
+    public BatchResolver(ResourceIndex index, Executor executor, ToIntFunction<Throwable> statuses) {
+        this.index = index;
+        this.executor = executor;
+        this.statuses = statuses;
+    }
+
+    /**
+     * Parses a {@code text/uri-list} body: one link per line, blank lines and comments ({@code #}) being skipped.
+     */
+    public static List<String> uriList(String body) {
+        List<String> links = new ArrayList<>();
+        for (String line : body.split("\r?\n")) {
+            String link = line.trim();
+            if (!link.isEmpty() && !link.startsWith("#")) {
+                links.add(link);
+            }
+        }
+        return links;
+    }
+
+    /**
+     * Streams the results as a JSON array, each of them being written as soon as its link is resolved,
+     * so that the results come in the order their links complete rather than the order of the given links.
+     * Only the results resolved but not written yet are held.
+     *
+     * @param output  the stream of the array, flushed after each result
+     * @param results writes each result as a JSON value, the stream it is given cannot be closed
+     */
+    public void resolve(List<String> links, ResourceLocator resources, String contextPath,
+                        OutputStream output, ResultWriter results) throws IOException {
+
+        BlockingQueue<BatchResult> resolved = new LinkedBlockingQueue<>();
+        for (String link : links) {
+            resolve(link, resources, contextPath, links.size() > 1, resolved::add);
+        }
+        OutputStream element = new UnclosableOutputStream(output);
+        output.write('[');
+        for (int i = 0; i < links.size(); i++) {
+            if (i > 0) {
+                output.write(',');
+            }
+            results.write(take(resolved), element);
+            output.flush();
+        }
+        output.write(']');
+        output.flush();
+    }
+
+    /**
+     * Hands the result of the link over to {@code resolved} as soon as it is known, from the thread computing it,
+     * so that results are received in the order they complete.
+     */
+    private void resolve(String link, ResourceLocator resources, String contextPath, boolean async, Consumer<BatchResult> resolved) {
+        if (Links.hasQuery(link)) {
+            resolved.accept(new BatchResult(link, BAD_REQUEST, null));
+            return;
+        }
+        Optional<Route> route = Links.routablePath(link, contextPath).flatMap(index::route);
+        Optional<ResourceInvoker> invoker = route.flatMap(value -> index.invoker(value.resource(), value.relation()));
+        if (!invoker.isPresent()) {
+            resolved.accept(new BatchResult(link, NOT_FOUND, null));
+            return;
+        }
+        Callable<Object> call;
+        try {
+            call = invoker.get().prepare(resources, route.get());
+        } catch (RuntimeException e) {
+            resolved.accept(failure(link, e));
+            return;
+        }
+        if (!async) {
+            resolved.accept(call(link, call));
+            return;
+        }
+        try {
+            executor.execute(() -> resolved.accept(call(link, call)));
+        } catch (RejectedExecutionException e) {
+            resolved.accept(failure(link, e));
+        }
+    }
+
+    private BatchResult call(String link, Callable<Object> call) {
+        try {
+            Object entity = call.call();
+            return new BatchResult(link, entity == null ? NO_CONTENT : OK, entity);
+        } catch (Exception | Error e) {
+            return failure(link, e);
+        }
+    }
+
+    private BatchResult failure(String link, Throwable failure) {
+        return new BatchResult(link, statuses.applyAsInt(failure), null);
+    }
+
+    private static BatchResult take(BlockingQueue<BatchResult> resolved) throws InterruptedIOException {
+        try {
+            return resolved.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while resolving a batch");
+        }
+    }
+
+    /**
+     * Writes a single result of a batch, e.g. with the {@code MessageBodyWriter} of the application.
+     */
+    public interface ResultWriter {
+        void write(BatchResult result, OutputStream output) throws IOException;
+    }
+
+    private static final class UnclosableOutputStream extends FilterOutputStream {
+
+        private UnclosableOutputStream(OutputStream output) {
+            super(output);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() {
+            // the array is not over yet
+        }
+    }
+}
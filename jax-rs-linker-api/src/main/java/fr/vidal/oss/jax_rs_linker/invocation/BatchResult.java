@@ -0,0 +1,57 @@
+package fr.vidal.oss.jax_rs_linker.invocation;
+
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * Outcome of a single link of a batch: the HTTP status the link would have been answered with, along with its entity, if any.
+ */
+public final class BatchResult {
+
+    private final String href;
+    private final int status;
+    private final Object entity;
+
+    public BatchResult(String href, int status, Object entity) {
+        this.href = href;
+        this.status = status;
+        this.entity = entity;
+    }
+
+    public String getHref() {
+        return href;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public Object getEntity() {
+        return entity;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(href, status, entity);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final BatchResult other = (BatchResult) obj;
+        return Objects.equals(this.href, other.href)
+            && this.status == other.status
+            && Objects.equals(this.entity, other.entity);
+    }
+
+    @Override
+    public String toString() {
+        return format("%s %d %s", href, status, entity);
+    }
+}
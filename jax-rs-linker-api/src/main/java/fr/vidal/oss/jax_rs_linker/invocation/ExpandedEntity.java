@@ -0,0 +1,62 @@
+package fr.vidal.oss.jax_rs_linker.invocation;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * Entity along with the results of its expanded relations, by relation.
+ * Relations whose expansion failed are embedded as {@code null}.
+ */
+public final class ExpandedEntity {
+
+    private final Object entity;
+    private final Map<String, Object> embedded;
+
+    public ExpandedEntity(Object entity) {
+        this(entity, new LinkedHashMap<>());
+    }
+
+    public ExpandedEntity(Object entity, Map<String, Object> embedded) {
+        this.entity = entity;
+        this.embedded = embedded;
+    }
+
+    public Object getEntity() {
+        return entity;
+    }
+
+    public Map<String, Object> getEmbedded() {
+        return Collections.unmodifiableMap(embedded);
+    }
+
+    void embed(String relation, Object value) {
+        embedded.put(relation, value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entity, embedded);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final ExpandedEntity other = (ExpandedEntity) obj;
+        return Objects.equals(this.entity, other.entity)
+            && Objects.equals(this.embedded, other.embedded);
+    }
+
+    @Override
+    public String toString() {
+        return format("%s %s", entity, embedded);
+    }
+}
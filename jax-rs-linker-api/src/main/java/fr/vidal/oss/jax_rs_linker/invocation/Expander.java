@@ -0,0 +1,215 @@
+package fr.vidal.oss.jax_rs_linker.invocation;
+
+import fr.vidal.oss.jax_rs_linker.model.Route;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.lang.String.format;
+import static java.util.Collections.singletonList;
+
+/**
+ * Resolves the {@code expand} query parameter of a request, e.g. {@code expand=brandResource.companyResource,companyResource},
+ * by invoking the linked resource methods in-process and embedding their results.
+ *
+ * Expansions are resolved depth by depth. Resources are looked up on the calling thread, then independent expansions
+ * of the same depth run concurrently on the given executor. Nested expansions need the intermediate result to be
+ * a {@code @LinkedEntity}, so that its own links can be routed. Expansions that cannot be resolved, i.e. relations
+ * without invocable method or path parameters that do not convert, are left out. Failing expansions are logged
+ * and embedded as {@code null}, so that they are told apart from the ones never asked for.
+ *
+ * Resource methods are called directly: the JAX-RS request filters, interceptors and authorization checks
+ * of the expanded resources are not applied, only the ones of the original request.
+ */
+public final class Expander {
+
+    private static final Logger LOGGER = Logger.getLogger(Expander.class.getName());
+    private static final String SELF = "self";
+
+    private final ResourceIndex index;
+    private final Executor executor;
+    private final int maxDepth;
+
+    public Expander(ResourceIndex index, Executor executor, int maxDepth) {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("Expected positive max depth, got " + maxDepth);
+        }
+        this.index = index;
+        this.executor = executor;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * @return the given entity if nothing is to be expanded, an {@link ExpandedEntity} otherwise
+     */
+    public Object expand(Object entity, Route route, Collection<String> expansions, ResourceLocator resources, String contextPath) {
+        Relations relations = Relations.parse(expansions);
+        if (relations.isEmpty() || maxDepth == 0) {
+            return entity;
+        }
+        Optional<Route> selfRoute = SELF.equals(route.relation()) ? Optional.of(route) : selfRoute(entity, contextPath);
+        if (!selfRoute.isPresent()) {
+            return entity;
+        }
+        ExpandedEntity root = new ExpandedEntity(entity);
+        List<Pending> level = singletonList(new Pending(root, selfRoute.get(), relations));
+        for (int depth = 1; depth <= maxDepth && !level.isEmpty(); depth++) {
+            level = expand(level, resources, contextPath, depth < maxDepth);
+        }
+        return root;
+    }
+
+    private List<Pending> expand(List<Pending> level, ResourceLocator resources, String contextPath, boolean nested) {
+        List<Expansion> expansions = new ArrayList<>();
+        for (Pending pending : level) {
+            for (Map.Entry<String, Relations> relation : pending.relations.nested.entrySet()) {
+                Optional<ResourceInvoker> invoker = index.invoker(pending.route.resource(), relation.getKey());
+                if (!invoker.isPresent()) {
+                    continue;
+                }
+                try {
+                    Callable<Object> call = invoker.get().prepare(resources, pending.route);
+                    expansions.add(new Expansion(pending.entity, relation.getKey(), nested ? relation.getValue() : Relations.NONE, call));
+                } catch (IllegalArgumentException unresolvable) {
+                    // left out
+                } catch (RuntimeException e) {
+                    fail(pending.entity, relation.getKey(), e);
+                }
+            }
+        }
+
+        if (expansions.size() == 1) {
+            expansions.get(0).result = callNow(expansions.get(0).call);
+        } else {
+            for (Expansion expansion : expansions) {
+                try {
+                    expansion.result = CompletableFuture.supplyAsync(() -> call(expansion.call), executor);
+                } catch (RejectedExecutionException e) {
+                    expansion.result = new CompletableFuture<>();
+                    expansion.result.completeExceptionally(e);
+                }
+            }
+        }
+
+        List<Pending> next = new ArrayList<>();
+        for (Expansion expansion : expansions) {
+            Object result;
+            try {
+                result = expansion.result.join();
+            } catch (CompletionException e) {
+                fail(expansion.parent, expansion.relation, e.getCause() == null ? e : e.getCause());
+                continue;
+            }
+            if (result == null) {
+                continue;
+            }
+            if (expansion.relations.isEmpty()) {
+                expansion.parent.embed(expansion.relation, result);
+                continue;
+            }
+            ExpandedEntity expanded = new ExpandedEntity(result);
+            expansion.parent.embed(expansion.relation, expanded);
+            selfRoute(result, contextPath).ifPresent(route -> next.add(new Pending(expanded, route, expansion.relations)));
+        }
+        return next;
+    }
+
+    private Optional<Route> selfRoute(Object entity, String contextPath) {
+        return index.selfLink(entity)
+            .flatMap(link -> Links.routablePath(link, contextPath))
+            .flatMap(index::route);
+    }
+
+    private static CompletableFuture<Object> callNow(Callable<Object> call) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        try {
+            result.complete(call.call());
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private static Object call(Callable<Object> call) {
+        try {
+            return call.call();
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static void fail(ExpandedEntity parent, String relation, Throwable failure) {
+        LOGGER.log(Level.WARNING, format("Could not expand relation %s", relation), failure);
+        parent.embed(relation, null);
+    }
+
+    private static final class Pending {
+
+        private final ExpandedEntity entity;
+        private final Route route;
+        private final Relations relations;
+
+        private Pending(ExpandedEntity entity, Route route, Relations relations) {
+            this.entity = entity;
+            this.route = route;
+            this.relations = relations;
+        }
+    }
+
+    private static final class Expansion {
+
+        private final ExpandedEntity parent;
+        private final String relation;
+        private final Relations relations;
+        private final Callable<Object> call;
+        private CompletableFuture<Object> result;
+
+        private Expansion(ExpandedEntity parent, String relation, Relations relations, Callable<Object> call) {
+            this.parent = parent;
+            this.relation = relation;
+            this.relations = relations;
+            this.call = call;
+        }
+    }
+
+    /**
+     * Relations to expand, along with their own nested relations.
+     */
+    private static final class Relations {
+
+        private static final Relations NONE = new Relations();
+
+        private final Map<String, Relations> nested = new LinkedHashMap<>();
+
+        static Relations parse(Collection<String> expansions) {
+            Relations root = new Relations();
+            for (String expansion : expansions) {
+                for (String path : expansion.split(",")) {
+                    Relations node = root;
+                    for (String relation : path.trim().split("\\.")) {
+                        if (relation.isEmpty()) {
+                            break;
+                        }
+                        node = node.nested.computeIfAbsent(relation, key -> new Relations());
+                    }
+                }
+            }
+            return root;
+        }
+
+        boolean isEmpty() {
+            return nested.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package fr.vidal.oss.jax_rs_linker.invocation;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+
+/**
+ * Default executors of the in-process invocations, owned by the generated filters and resources,
+ * so that blocking resource methods never run on the JVM-wide common pool.
+ */
+public final class InvocationExecutors {
+
+    static final int QUEUE_CAPACITY = 256;
+
+    private InvocationExecutors() {
+        // Hide me!
+    }
+
+    /**
+     * Executor bounded to one daemon thread per processor, named after the given prefix, whose idle threads time out.
+     * Once its queue is full, invocations run on the calling thread instead, which slows callers down
+     * rather than failing them. Invocations submitted after shutdown are rejected.
+     */
+    public static ExecutorService bounded(String name) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads, threads,
+            60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            new NamedThreadFactory(name),
+            (task, pool) -> {
+                if (pool.isShutdown()) {
+                    throw new RejectedExecutionException(format("%s is shut down", name));
+                }
+                task.run();
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+
+        private final String name;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private NamedThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, format("%s-%d", name, count.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
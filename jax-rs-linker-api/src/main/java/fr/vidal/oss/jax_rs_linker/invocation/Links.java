@@ -0,0 +1,43 @@
+package fr.vidal.oss.jax_rs_linker.invocation;
+
+import java.util.Optional;
+
+final class Links {
+
+    private Links() {
+        // Hide me!
+    }
+
+    /**
+     * Path of a rendered link as routed, i.e. scheme, authority and context path excluded.
+     * The authority is not checked: links to other hosts are routed as if they were local.
+     *
+     * @return nothing if the path is not within the context path, e.g. {@code /ctxfoo/product/42} for {@code /ctx}
+     */
+    static Optional<String> routablePath(String link, String contextPath) {
+        String path = link;
+        int schemeEnd = path.indexOf("://");
+        if (schemeEnd != -1) {
+            int pathStart = path.indexOf('/', schemeEnd + 3);
+            path = pathStart == -1 ? "" : path.substring(pathStart);
+        }
+        if (!path.startsWith(contextPath)) {
+            return Optional.empty();
+        }
+        int end = contextPath.length();
+        if (!contextPath.isEmpty() && end < path.length() && path.charAt(end) != '/') {
+            return Optional.empty();
+        }
+        return Optional.of(path.substring(end));
+    }
+
+    /**
+     * Whether a rendered link carries a non-empty query string, a fragment being no part of it.
+     */
+    static boolean hasQuery(String link) {
+        int fragmentStart = link.indexOf('#');
+        int queryStart = link.indexOf('?');
+        int queryEnd = fragmentStart == -1 ? link.length() : fragmentStart;
+        return queryStart != -1 && queryStart + 1 < queryEnd;
+    }
+}
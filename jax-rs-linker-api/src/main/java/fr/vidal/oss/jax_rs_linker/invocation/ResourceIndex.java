@@ -0,0 +1,26 @@
+package fr.vidal.oss.jax_rs_linker.invocation;
+
+import fr.vidal.oss.jax_rs_linker.model.Route;
+
+import java.util.Optional;
+
+/**
+ * Compile-time index of the linked resource methods, generated along with the router.
+ */
+public interface ResourceIndex {
+
+    /**
+     * @see fr.vidal.oss.jax_rs_linker.model.Router#route(CharSequence)
+     */
+    Optional<Route> route(CharSequence path);
+
+    /**
+     * Invoker of the method rendering the given relation of a resource, if it can be called in-process.
+     */
+    Optional<ResourceInvoker> invoker(Class<?> resource, String relation);
+
+    /**
+     * Self link of an entity, for entities declared with {@code @LinkedEntity}.
+     */
+    Optional<String> selfLink(Object entity);
+}
@@ -0,0 +1,15 @@
+package fr.vidal.oss.jax_rs_linker.invocation;
+
+import fr.vidal.oss.jax_rs_linker.model.Route;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Invokes a resource method in-process, with the path parameters of a route.
+ *
+ * Preparation happens on the request thread, where resources can be looked up and parameters converted,
+ * whereas the returned call may run on any thread.
+ */
+public interface ResourceInvoker {
+    Callable<Object> prepare(ResourceLocator resources, Route route);
+}
@@ -0,0 +1,8 @@
+package fr.vidal.oss.jax_rs_linker.invocation;
+
+/**
+ * Provides resource instances, e.g. {@code javax.ws.rs.container.ResourceContext::getResource}.
+ */
+public interface ResourceLocator {
+    <T> T getResource(Class<T> resourceClass);
+}
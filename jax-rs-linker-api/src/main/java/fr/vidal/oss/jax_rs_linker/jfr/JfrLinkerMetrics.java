@@ -0,0 +1,37 @@
+package fr.vidal.oss.jax_rs_linker.jfr;
+
+import fr.vidal.oss.jax_rs_linker.metrics.LinkerMetrics;
+
+/**
+ * Reports link rendering as Java Flight Recorder events, once registered in
+ * {@code META-INF/services/fr.vidal.oss.jax_rs_linker.metrics.LinkerMetrics}.
+ *
+ * Events are disabled by default, they have to be enabled in the recording settings, e.g.
+ * {@code fr.vidal.oss.jax_rs_linker.LinkRendering#enabled=true}. Until then, reporting boils down to
+ * a check of the event settings, and requires a JVM shipping JFR (8u272 and later).
+ */
+public class JfrLinkerMetrics implements LinkerMetrics {
+
+    @Override
+    public void rendered(String template, int parameterCount, long durationNanos, CharSequence links) {
+        LinkRenderingEvent event = new LinkRenderingEvent();
+        if (event.shouldCommit()) {
+            event.template = template;
+            event.parameterCount = parameterCount;
+            event.length = links.length();
+            event.renderingDuration = durationNanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void validated(String template, long durationNanos, boolean valid) {
+        ParameterValidationEvent event = new ParameterValidationEvent();
+        if (event.shouldCommit()) {
+            event.template = template;
+            event.valid = valid;
+            event.validationDuration = durationNanos;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package fr.vidal.oss.jax_rs_linker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("fr.vidal.oss.jax_rs_linker.LinkRendering")
+@Label("Link Rendering")
+@Description("Rendering of the links of a template")
+@Category("JAX-RS Linker")
+@Enabled(false)
+@StackTrace(false)
+final class LinkRenderingEvent extends Event {
+
+    @Label("Template")
+    String template;
+
+    @Label("Parameter Count")
+    int parameterCount;
+
+    @Label("Length")
+    @Description("Number of characters produced")
+    int length;
+
+    @Label("Rendering Duration")
+    @Timespan
+    long renderingDuration;
+}
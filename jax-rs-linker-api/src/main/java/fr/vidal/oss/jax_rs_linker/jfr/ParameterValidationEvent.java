@@ -0,0 +1,29 @@
+package fr.vidal.oss.jax_rs_linker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("fr.vidal.oss.jax_rs_linker.ParameterValidation")
+@Label("Path Parameter Validation")
+@Description("Check of a path parameter value against its regex")
+@Category("JAX-RS Linker")
+@Enabled(false)
+@StackTrace(false)
+final class ParameterValidationEvent extends Event {
+
+    @Label("Template")
+    String template;
+
+    @Label("Valid")
+    boolean valid;
+
+    @Label("Validation Duration")
+    @Timespan
+    long validationDuration;
+}
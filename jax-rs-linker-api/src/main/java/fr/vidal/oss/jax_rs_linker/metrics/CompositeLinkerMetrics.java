@@ -0,0 +1,29 @@
+package fr.vidal.oss.jax_rs_linker.metrics;
+
+import java.util.List;
+
+/**
+ * Fans the measures out to every registered {@link LinkerMetrics}, in registration order.
+ */
+final class CompositeLinkerMetrics implements LinkerMetrics {
+
+    private final LinkerMetrics[] metrics;
+
+    CompositeLinkerMetrics(List<LinkerMetrics> metrics) {
+        this.metrics = metrics.toArray(new LinkerMetrics[0]);
+    }
+
+    @Override
+    public void rendered(String template, int parameterCount, long durationNanos, CharSequence links) {
+        for (LinkerMetrics delegate : metrics) {
+            delegate.rendered(template, parameterCount, durationNanos, links);
+        }
+    }
+
+    @Override
+    public void validated(String template, long durationNanos, boolean valid) {
+        for (LinkerMetrics delegate : metrics) {
+            delegate.validated(template, durationNanos, valid);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package fr.vidal.oss.jax_rs_linker.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.lang.String.format;
+
+/**
+ * Fixed-memory frequency estimator: {@code depth} rows of {@code width} counters, each key being counted
+ * in one counter per row. Estimates never undercount, and overcount by at most {@code e * total / width}
+ * with probability {@code 1 - exp(-depth)}.
+ *
+ * Counters are incremented atomically, without locking.
+ */
+final class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException(format("Expected a positive depth and a power of two width, got %d and %d", depth, width));
+        }
+        this.depth = depth;
+        this.mask = width - 1;
+        this.counters = new AtomicLongArray(depth * width);
+    }
+
+    /**
+     * Counts the key of the given 64-bit hash once more.
+     *
+     * @return the estimated count of the key, this occurrence included
+     */
+    long add(long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    long estimate(long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    /**
+     * Derives the hash of each row from both halves of the key hash (Kirsch-Mitzenmacher double hashing).
+     */
+    private int index(long hash, int row) {
+        int rowHash = (int) hash + row * ((int) (hash >>> 32) | 1);
+        return row * (mask + 1) + (rowHash & mask);
+    }
+}
@@ -0,0 +1,201 @@
+package fr.vidal.oss.jax_rs_linker.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.lang.String.format;
+import static java.util.Comparator.comparingLong;
+
+/**
+ * Tracks the most rendered links, i.e. the hottest templates along with the values bound to them,
+ * to tell what is worth pre-rendering or caching.
+ *
+ * One rendering out of {@code sampleRate} is counted in a {@link CountMinSketch}, so that memory stays fixed
+ * whatever the number of distinct links. The links whose estimated count is among the highest ones are kept
+ * in a table of {@code capacity} slots, a link taking over the coldest slot once its estimate exceeds it.
+ * Neither structure is locked: concurrent renderings may occasionally take over a slot with the same link twice,
+ * which {@link #hottest()} merges back.
+ *
+ * Once registered in {@code META-INF/services}, the sampler is polled through
+ * {@code LinkerMetricsHolder.find(HotLinkSampler.class)}.
+ */
+public class HotLinkSampler implements LinkerMetrics {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int sampleRate;
+    private final CountMinSketch sketch;
+    private final AtomicReferenceArray<HotLink> slots;
+
+    /**
+     * Samples one rendering out of 64, in a 4 x 2048 sketch (64 KB), keeping the 32 hottest links.
+     */
+    public HotLinkSampler() {
+        this(64, 4, 2048, 32);
+    }
+
+    /**
+     * @param sampleRate one rendering out of {@code sampleRate} is counted, 1 counting them all
+     * @param depth number of rows of the sketch, i.e. of counters per link
+     * @param width number of counters per row, a power of two
+     * @param capacity number of hottest links kept
+     */
+    public HotLinkSampler(int sampleRate, int depth, int width, int capacity) {
+        if (sampleRate < 1 || capacity < 1) {
+            throw new IllegalArgumentException(format("Expected a positive sample rate and capacity, got %d and %d", sampleRate, capacity));
+        }
+        this.sampleRate = sampleRate;
+        this.sketch = new CountMinSketch(depth, width);
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    @Override
+    public void rendered(String template, int parameterCount, long durationNanos, CharSequence links) {
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return;
+        }
+        long hash = hash(template, links);
+        offer(template, links, hash, sketch.add(hash));
+    }
+
+    @Override
+    public void validated(String template, long durationNanos, boolean valid) {
+    }
+
+    /**
+     * @return a snapshot of the hottest links, most rendered first, counts being scaled back by the sample rate
+     */
+    public List<HotLink> hottest() {
+        Map<HotLink, HotLink> links = new LinkedHashMap<>();
+        for (int i = 0; i < slots.length(); i++) {
+            HotLink link = slots.get(i);
+            if (link != null) {
+                links.putIfAbsent(link, new HotLink(link.template, link.links, link.hash, sketch.estimate(link.hash) * sampleRate));
+            }
+        }
+        List<HotLink> result = new ArrayList<>(links.values());
+        result.sort(comparingLong(HotLink::estimatedCount).reversed());
+        return result;
+    }
+
+    public void reset() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+        sketch.clear();
+    }
+
+    private void offer(String template, CharSequence links, long hash, long count) {
+        while (!tryOffer(template, links, hash, count)) {
+            // another rendering updated the table meanwhile
+        }
+    }
+
+    /**
+     * @return false if the table has changed in the meantime, true otherwise
+     */
+    private boolean tryOffer(String template, CharSequence links, long hash, long count) {
+        int coldest = -1;
+        HotLink coldestLink = null;
+        long coldestCount = Long.MAX_VALUE;
+        for (int i = 0; i < slots.length(); i++) {
+            HotLink link = slots.get(i);
+            if (link != null && link.hash == hash && link.matches(template, links)) {
+                return count <= link.count || slots.compareAndSet(i, link, new HotLink(template, link.links, hash, count));
+            }
+            long linkCount = link == null ? 0 : link.count;
+            if (linkCount < coldestCount) {
+                coldest = i;
+                coldestLink = link;
+                coldestCount = linkCount;
+            }
+        }
+        return count <= coldestCount || slots.compareAndSet(coldest, coldestLink, new HotLink(template, links.toString(), hash, count));
+    }
+
+    /**
+     * 64-bit FNV-1a of the template and the links, mixed with the finalizer of MurmurHash3 so that
+     * both halves of the hash are evenly spread.
+     */
+    static long hash(String template, CharSequence links) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < template.length(); i++) {
+            hash = (hash ^ template.charAt(i)) * FNV_PRIME;
+        }
+        hash = (hash ^ '\n') * FNV_PRIME;
+        for (int i = 0; i < links.length(); i++) {
+            hash = (hash ^ links.charAt(i)) * FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * A rendered link, or all the links of a link set back to back, along with the template it comes from.
+     */
+    public static final class HotLink {
+
+        private final String template;
+        private final String links;
+        private final long hash;
+        private final long count;
+
+        private HotLink(String template, String links, long hash, long count) {
+            this.template = template;
+            this.links = links;
+            this.hash = hash;
+            this.count = count;
+        }
+
+        public String template() {
+            return template;
+        }
+
+        public String links() {
+            return links;
+        }
+
+        public long estimatedCount() {
+            return count;
+        }
+
+        private boolean matches(String template, CharSequence links) {
+            return this.template.equals(template) && this.links.contentEquals(links);
+        }
+
+        /**
+         * Links are equal when they render the same characters from the same template, whatever their counts.
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(template, links);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final HotLink other = (HotLink) obj;
+            return Objects.equals(this.template, other.template)
+                && Objects.equals(this.links, other.links);
+        }
+
+        @Override
+        public String toString() {
+            return format("HotLink{template=%s, links=%s, estimatedCount=%d}", template, links, count);
+        }
+    }
+}
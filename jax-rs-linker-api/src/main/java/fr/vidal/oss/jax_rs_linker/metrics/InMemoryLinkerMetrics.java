@@ -0,0 +1,130 @@
+package fr.vidal.oss.jax_rs_linker.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * Keeps the measures of every template in memory, with striped counters so that concurrent renderings
+ * do not contend on the same cache lines.
+ *
+ * Latencies are counted in power-of-two buckets: the i-th one counts the durations {@code d} such that
+ * {@code 2^(i-1) <= d < 2^i} nanoseconds, the first one counting zero durations.
+ */
+public class InMemoryLinkerMetrics implements LinkerMetrics {
+
+    static final int BUCKETS = 64;
+
+    private final ConcurrentMap<String, TemplateMetrics> templates = new ConcurrentHashMap<>();
+
+    @Override
+    public void rendered(String template, int parameterCount, long durationNanos, CharSequence links) {
+        TemplateMetrics metrics = metrics(template);
+        metrics.renderings.increment();
+        metrics.characters.add(links.length());
+        metrics.latencies[bucket(durationNanos)].increment();
+    }
+
+    @Override
+    public void validated(String template, long durationNanos, boolean valid) {
+        if (!valid) {
+            metrics(template).validationFailures.increment();
+        }
+    }
+
+    /**
+     * @return the live measures of every template rendered so far
+     */
+    public Map<String, TemplateMetrics> templates() {
+        return Collections.unmodifiableMap(templates);
+    }
+
+    public void reset() {
+        templates.clear();
+    }
+
+    private TemplateMetrics metrics(String template) {
+        TemplateMetrics metrics = templates.get(template);
+        if (metrics == null) {
+            metrics = templates.computeIfAbsent(template, key -> new TemplateMetrics());
+        }
+        return metrics;
+    }
+
+    static int bucket(long durationNanos) {
+        return durationNanos <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(durationNanos));
+    }
+
+    public static final class TemplateMetrics {
+
+        private final LongAdder renderings = new LongAdder();
+        private final LongAdder characters = new LongAdder();
+        private final LongAdder validationFailures = new LongAdder();
+        private final LongAdder[] latencies = new LongAdder[BUCKETS];
+
+        private TemplateMetrics() {
+            for (int i = 0; i < BUCKETS; i++) {
+                latencies[i] = new LongAdder();
+            }
+        }
+
+        public long renderings() {
+            return renderings.sum();
+        }
+
+        /**
+         * Characters produced, i.e. bytes as long as links are ASCII.
+         */
+        public long characters() {
+            return characters.sum();
+        }
+
+        public long validationFailures() {
+            return validationFailures.sum();
+        }
+
+        /**
+         * @return the count of each latency bucket
+         */
+        public long[] latencyHistogram() {
+            long[] histogram = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = latencies[i].sum();
+            }
+            return histogram;
+        }
+
+        /**
+         * @return the upper bound, in nanoseconds, of the bucket the given quantile falls in, 0 if nothing has been rendered
+         */
+        public long latencyUpperBound(double quantile) {
+            if (quantile < 0 || quantile > 1) {
+                throw new IllegalArgumentException(format("Expected a quantile between 0 and 1, got %s", quantile));
+            }
+            long[] histogram = latencyHistogram();
+            long total = 0;
+            for (long count : histogram) {
+                total += count;
+            }
+            long rank = (long) Math.ceil(quantile * total);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += histogram[i];
+                if (histogram[i] > 0 && seen >= rank) {
+                    return i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return format("TemplateMetrics{renderings=%d, characters=%d, validationFailures=%d}",
+                renderings(), characters(), validationFailures());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package fr.vidal.oss.jax_rs_linker.metrics;
+
+/**
+ * Receives the measures of link rendering, keyed by template: the path template of a {@code TemplatedUrl},
+ * context path included, or {@code <resource class>#links} for the link sets of generated linkers.
+ *
+ * Implementations are looked up once with {@link java.util.ServiceLoader}, see {@link LinkerMetricsHolder},
+ * and must be thread-safe as well as cheap: they are called on every rendering.
+ */
+public interface LinkerMetrics {
+
+    /**
+     * @param parameterCount number of parameter values rendered
+     * @param durationNanos time spent rendering, validation included
+     * @param links characters produced, only readable during the call: they must be copied to be kept
+     */
+    void rendered(String template, int parameterCount, long durationNanos, CharSequence links);
+
+    /**
+     * A path parameter value has been checked against its regex.
+     */
+    void validated(String template, long durationNanos, boolean valid);
+}
@@ -0,0 +1,67 @@
+package fr.vidal.oss.jax_rs_linker.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Metrics in use, i.e. every {@link LinkerMetrics} registered in {@code META-INF/services}, if any:
+ * several implementations, e.g. the in-memory and the hot link ones, all receive every measure.
+ *
+ * Both fields are constants: when no implementation is registered, the JIT compiler folds the checks of
+ * {@link #ENABLED} away, so that rendering does not even read the clock.
+ */
+public final class LinkerMetricsHolder {
+
+    private static final List<LinkerMetrics> PROVIDERS = load();
+
+    public static final LinkerMetrics METRICS = compose(PROVIDERS);
+    public static final boolean ENABLED = METRICS != NoOpLinkerMetrics.INSTANCE;
+
+    private LinkerMetricsHolder() {
+        // Hide me!
+    }
+
+    /**
+     * @return the registered implementations, in registration order
+     */
+    public static List<LinkerMetrics> providers() {
+        return PROVIDERS;
+    }
+
+    /**
+     * Looks up a registered implementation to read its measures, e.g. {@code find(InMemoryLinkerMetrics.class)},
+     * since {@link #METRICS} wraps them all as soon as several are registered.
+     *
+     * @return the first registered instance of {@code type}, if any
+     */
+    public static <T extends LinkerMetrics> Optional<T> find(Class<T> type) {
+        return find(PROVIDERS, type);
+    }
+
+    static <T extends LinkerMetrics> Optional<T> find(List<LinkerMetrics> metrics, Class<T> type) {
+        return metrics.stream()
+            .filter(type::isInstance)
+            .map(type::cast)
+            .findFirst();
+    }
+
+    private static List<LinkerMetrics> load() {
+        List<LinkerMetrics> metrics = new ArrayList<>();
+        ServiceLoader.load(LinkerMetrics.class, LinkerMetricsHolder.class.getClassLoader()).forEach(metrics::add);
+        return Collections.unmodifiableList(metrics);
+    }
+
+    static LinkerMetrics compose(List<LinkerMetrics> metrics) {
+        switch (metrics.size()) {
+            case 0:
+                return NoOpLinkerMetrics.INSTANCE;
+            case 1:
+                return metrics.get(0);
+            default:
+                return new CompositeLinkerMetrics(metrics);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package fr.vidal.oss.jax_rs_linker.metrics;
+
+enum NoOpLinkerMetrics implements LinkerMetrics {
+
+    INSTANCE;
+
+    @Override
+    public void rendered(String template, int parameterCount, long durationNanos, CharSequence links) {
+    }
+
+    @Override
+    public void validated(String template, long durationNanos, boolean valid) {
+    }
+}
@@ -0,0 +1,136 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import fr.vidal.oss.jax_rs_linker.api.PathParameters;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * RFC 8288 {@code Link} header value of a resource, rendered from fragments pre-rendered once per path template.
+ *
+ * Each link is kept as the literal fragments around its placeholders, the last fragment carrying the closing
+ * {@code >; rel="..."}: rendering only splices the bound path parameter values, percent-encoded, in between.
+ * Links with an unbound parameter are left out. Links can also be hinted for preload or prefetch,
+ * as an extra relation type.
+ */
+public final class LinkHeaders {
+
+    private final String[][] fragments;
+    private final PathParameters[][] parameters;
+
+    private LinkHeaders(String[][] fragments, PathParameters[][] parameters) {
+        this.fragments = fragments;
+        this.parameters = parameters;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the comma-separated links whose parameters are all bound by the route, an empty string if there is none
+     */
+    public String render(String contextPath, Route route) {
+        StringBuilder out = null;
+        for (int i = 0; i < fragments.length; i++) {
+            if (!isBound(parameters[i], route)) {
+                continue;
+            }
+            if (out == null) {
+                out = new StringBuilder(estimatedLength(contextPath));
+            } else {
+                out.append(", ");
+            }
+            out.append('<').append(contextPath).append(fragments[i][0]);
+            for (int j = 0; j < parameters[i].length; j++) {
+                UriComponents.appendPathSegment(out, route.parameter(parameters[i][j]));
+                out.append(fragments[i][j + 1]);
+            }
+        }
+        return out == null ? "" : out.toString();
+    }
+
+    private static boolean isBound(PathParameters[] parameters, Route route) {
+        for (PathParameters parameter : parameters) {
+            if (route.parameter(parameter) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int estimatedLength(String contextPath) {
+        int length = 0;
+        for (String[] linkFragments : fragments) {
+            length += contextPath.length() + 4;
+            for (String fragment : linkFragments) {
+                length += fragment.length() + 8;
+            }
+        }
+        return length;
+    }
+
+    public enum Hint {
+        NONE("\""),
+        PRELOAD(" preload\"; as=\"fetch\""),
+        PREFETCH(" prefetch\"");
+
+        private final String relationSuffix;
+
+        Hint(String relationSuffix) {
+            this.relationSuffix = relationSuffix;
+        }
+    }
+
+    public static final class Builder {
+
+        private final List<String[]> fragments = new ArrayList<>();
+        private final List<PathParameters[]> parameters = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Registers a sanitized path template, e.g. {@code /product/{id}/brand}, along with its relation.
+         */
+        public <P extends Enum<P> & PathParameters> Builder link(String relation, Class<P> parametersType, String template) {
+            return link(relation, Hint.NONE, parametersType, template);
+        }
+
+        public <P extends Enum<P> & PathParameters> Builder link(String relation, Hint hint, Class<P> parametersType, String template) {
+            List<String> linkFragments = new ArrayList<>();
+            List<PathParameters> linkParameters = new ArrayList<>();
+            int position = 0;
+            int openingBrace;
+            while ((openingBrace = template.indexOf('{', position)) != -1) {
+                int closingBrace = template.indexOf('}', openingBrace);
+                if (closingBrace == -1) {
+                    throw new IllegalArgumentException(format("Unclosed placeholder at %d in <%s>", openingBrace, template));
+                }
+                linkFragments.add(template.substring(position, openingBrace));
+                linkParameters.add(parameter(parametersType, template.substring(openingBrace + 1, closingBrace).trim(), template));
+                position = closingBrace + 1;
+            }
+            linkFragments.add(template.substring(position) + ">; rel=\"" + relation + hint.relationSuffix);
+            fragments.add(linkFragments.toArray(new String[0]));
+            parameters.add(linkParameters.toArray(new PathParameters[0]));
+            return this;
+        }
+
+        public LinkHeaders build() {
+            return new LinkHeaders(fragments.toArray(new String[0][]), parameters.toArray(new PathParameters[0][]));
+        }
+
+        private static <P extends Enum<P> & PathParameters> P parameter(Class<P> parametersType, String placeholder, String template) {
+            for (P parameter : parametersType.getEnumConstants()) {
+                if (parameter.placeholder().equals(placeholder)) {
+                    return parameter;
+                }
+            }
+            throw new IllegalArgumentException(format("Unknown parameter <%s> in <%s>, expected one of %s",
+                placeholder, template, parametersType.getName()));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * All the links of a single resource, rendered at once by the generated linker.
+ *
+ * Links share a single character buffer: {@code ends[i]} is the (exclusive) offset
+ * at which the i-th link stops, the next one starting right after.
+ * Relations are shared by all the link sets of the same linker.
+ */
+public final class LinkSet {
+
+    private final String[] relations;
+    private final String links;
+    private final int[] ends;
+
+    public LinkSet(String[] relations, String links, int[] ends) {
+        if (relations.length != ends.length) {
+            throw new IllegalArgumentException(format("Expected %d link ends, got %d", relations.length, ends.length));
+        }
+        this.relations = relations;
+        this.links = links;
+        this.ends = ends;
+    }
+
+    public int size() {
+        return relations.length;
+    }
+
+    public String relation(int index) {
+        return relations[index];
+    }
+
+    public String href(int index) {
+        return links.substring(start(index), ends[index]);
+    }
+
+    public String href(String relation) {
+        return href(indexOf(relation));
+    }
+
+    /**
+     * All the links, back to back: the i-th one spans from {@code start(i)} to {@code end(i)}.
+     * Lets serializers copy links straight from the buffer, without creating a String per link.
+     */
+    public String buffer() {
+        return links;
+    }
+
+    public int start(int index) {
+        return index == 0 ? 0 : ends[index - 1];
+    }
+
+    public int end(int index) {
+        return ends[index];
+    }
+
+    public int indexOf(String relation) {
+        for (int i = 0; i < relations.length; i++) {
+            if (relations[i].equals(relation)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(format("Unknown relation <%s>, expected one of %s", relation, Arrays.toString(relations)));
+    }
+
+    /**
+     * Same links, written as references relative to the given absolute path (e.g. the path of the current request,
+     * context path included) whenever shorter: {@code /ctx/product/42/brand} becomes {@code 42/brand}
+     * from {@code /ctx/product/42}. Links that are not absolute paths are kept as is.
+     */
+    public LinkSet relativeTo(String basePath) {
+        int directoryEnd = basePath.lastIndexOf('/') + 1;
+        if (directoryEnd == 0) {
+            return this;
+        }
+        StringBuilder buffer = new StringBuilder(links.length());
+        int[] relativeEnds = new int[ends.length];
+        for (int i = 0; i < ends.length; i++) {
+            appendRelative(buffer, basePath, directoryEnd, start(i), ends[i]);
+            relativeEnds[i] = buffer.length();
+        }
+        return new LinkSet(relations, buffer.toString(), relativeEnds);
+    }
+
+    /**
+     * Appends the shortest of the link and its reference relative to the base directory,
+     * i.e. the base path up to its last slash.
+     */
+    private void appendRelative(StringBuilder buffer, String basePath, int directoryEnd, int start, int end) {
+        if (start == end || links.charAt(start) != '/' || (end - start > 1 && links.charAt(start + 1) == '/')) {
+            buffer.append(links, start, end);
+            return;
+        }
+        int pathEnd = start;
+        while (pathEnd < end && links.charAt(pathEnd) != '?' && links.charAt(pathEnd) != '#') {
+            pathEnd++;
+        }
+        int common = 0;
+        for (int i = 0; i < directoryEnd && start + i < pathEnd && basePath.charAt(i) == links.charAt(start + i); i++) {
+            if (basePath.charAt(i) == '/') {
+                common = i + 1;
+            }
+        }
+        int parents = 0;
+        for (int i = common; i < directoryEnd; i++) {
+            if (basePath.charAt(i) == '/') {
+                parents++;
+            }
+        }
+        int remainderStart = start + common;
+        boolean dotPrefix = parents == 0 && needsDotPrefix(remainderStart, pathEnd);
+        int relativeLength = parents * 3 + (dotPrefix ? 2 : 0) + end - remainderStart;
+        if (relativeLength >= end - start) {
+            buffer.append(links, start, end);
+            return;
+        }
+        for (int i = 0; i < parents; i++) {
+            buffer.append("../");
+        }
+        if (dotPrefix) {
+            buffer.append("./");
+        }
+        buffer.append(links, remainderStart, end);
+    }
+
+    /**
+     * An empty path, or a first segment with a colon, would not be read as a relative path.
+     */
+    private boolean needsDotPrefix(int start, int pathEnd) {
+        if (start == pathEnd) {
+            return true;
+        }
+        for (int i = start; i < pathEnd && links.charAt(i) != '/'; i++) {
+            if (links.charAt(i) == ':') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(relations), links, Arrays.hashCode(ends));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final LinkSet other = (LinkSet) obj;
+        return Arrays.equals(this.relations, other.relations)
+            && Objects.equals(this.links, other.links)
+            && Arrays.equals(this.ends, other.ends);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("LinkSet{");
+        for (int i = 0; i < relations.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(relations[i]).append('=').append(links, start(i), ends[i]);
+        }
+        return builder.append('}').toString();
+    }
+}
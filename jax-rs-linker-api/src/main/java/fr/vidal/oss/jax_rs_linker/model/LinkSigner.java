@@ -0,0 +1,144 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.lang.String.format;
+
+/**
+ * Signs links with an expiry date, as HMAC-SHA256 over the whole link, and verifies them back.
+ *
+ * Signed links end with {@code expires=<epoch seconds>&signature=<base64url MAC>}, the MAC covering every
+ * character before {@code &signature=}. The MAC state over the constant prefix of each path template
+ * (context path included) is computed once and cloned for every link, so that signing only hashes
+ * the rendered parameters. Links are verified as received, e.g. request URI and query string,
+ * scheme and authority excluded.
+ */
+public final class LinkSigner {
+
+    public static final String EXPIRES_PARAMETER = "expires";
+    public static final String SIGNATURE_PARAMETER = "signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String EXPIRES = EXPIRES_PARAMETER + "=";
+    private static final String SIGNATURE = SIGNATURE_PARAMETER + "=";
+
+    private final SecretKeySpec key;
+    private final Clock clock;
+    private final ConcurrentMap<String, Mac> prefixStates = new ConcurrentHashMap<>();
+
+    public LinkSigner(byte[] key) {
+        this(key, Clock.systemUTC());
+    }
+
+    public LinkSigner(byte[] key, Clock clock) {
+        this.key = new SecretKeySpec(key, ALGORITHM);
+        this.clock = clock;
+        newMac();
+    }
+
+    /**
+     * @return the rendered URL, valid for the given duration
+     */
+    public String sign(TemplatedUrl<?, ?> url, Duration validity) {
+        String value = url.value();
+        StringBuilder builder = new StringBuilder(value.length() + 80)
+            .append(value)
+            .append(value.indexOf('?') == -1 ? '?' : '&')
+            .append(EXPIRES)
+            .append(clock.instant().plus(validity).getEpochSecond());
+        Mac mac = prefixState(value.substring(0, url.templatePrefixLength()));
+        mac.update(bytes(builder, url.templatePrefixLength(), builder.length()));
+        return builder.append('&').append(SIGNATURE)
+            .append(Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal()))
+            .toString();
+    }
+
+    /**
+     * @return true if the link has been signed with the same key and has not expired yet
+     */
+    public boolean verify(String link) {
+        int signatureStart = link.lastIndexOf(SIGNATURE);
+        if (signatureStart < 2 || link.charAt(signatureStart - 1) != '&') {
+            return false;
+        }
+        int messageEnd = signatureStart - 1;
+        int expiresStart = link.lastIndexOf(EXPIRES, messageEnd);
+        if (expiresStart < 1 || (link.charAt(expiresStart - 1) != '?' && link.charAt(expiresStart - 1) != '&')
+            || !hasExpiry(link, expiresStart + EXPIRES.length(), messageEnd)) {
+            return false;
+        }
+        byte[] signature;
+        try {
+            signature = Base64.getUrlDecoder().decode(link.substring(signatureStart + SIGNATURE.length()));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        String prefix = longestPrefix(link, expiresStart);
+        Mac mac = prefixState(prefix);
+        mac.update(bytes(link, prefix.length(), messageEnd));
+        return MessageDigest.isEqual(mac.doFinal(), signature);
+    }
+
+    private boolean hasExpiry(String link, int start, int end) {
+        if (start == end || end - start > 18) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (link.charAt(i) < '0' || link.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return Long.parseLong(link.substring(start, end)) >= clock.instant().getEpochSecond();
+    }
+
+    /**
+     * Links are only verified against prefixes already signed with, so that unknown links do not grow the cache.
+     */
+    private String longestPrefix(String link, int end) {
+        String result = "";
+        for (String prefix : prefixStates.keySet()) {
+            if (prefix.length() > result.length() && prefix.length() <= end && link.startsWith(prefix)) {
+                result = prefix;
+            }
+        }
+        return result;
+    }
+
+    private Mac prefixState(String prefix) {
+        Mac state = prefixStates.computeIfAbsent(prefix, key -> {
+            Mac mac = newMac();
+            mac.update(key.getBytes(StandardCharsets.UTF_8));
+            return mac;
+        });
+        try {
+            return (Mac) state.clone();
+        } catch (CloneNotSupportedException e) {
+            Mac mac = newMac();
+            mac.update(prefix.getBytes(StandardCharsets.UTF_8));
+            return mac;
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(format("Cannot initialize %s", ALGORITHM), e);
+        }
+    }
+
+    private static byte[] bytes(CharSequence characters, int start, int end) {
+        return characters.subSequence(start, end).toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -2,19 +2,54 @@ package fr.vidal.oss.jax_rs_linker.model;
 
 
 import java.util.Objects;
+import java.util.Optional;
 
 public final class QueryParameter {
 
+    private final Optional<ClassName> type;
     private final String name;
+    private final Optional<String> defaultValue;
 
     public QueryParameter(String name) {
+        this(Optional.empty(), name, Optional.empty());
+    }
+
+    public QueryParameter(String name, String defaultValue) {
+        this(Optional.empty(), name, Optional.of(defaultValue));
+    }
+
+    public QueryParameter(ClassName type, String name) {
+        this(Optional.of(type), name, Optional.empty());
+    }
+
+    public QueryParameter(ClassName type, String name, String defaultValue) {
+        this(Optional.of(type), name, Optional.of(defaultValue));
+    }
+
+    private QueryParameter(Optional<ClassName> type, String name, Optional<String> defaultValue) {
+        this.type = type;
         this.name = name;
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * Declared type of the parameter, only known at processing time: generated linkers leave it out
+     */
+    public Optional<ClassName> getType() {
+        return type;
     }
 
     public String getName() {
         return name;
     }
 
+    /**
+     * Value of the JAX-RS {@code @DefaultValue}, if any: links leave the parameter out when it has this value
+     */
+    public Optional<String> getDefaultValue() {
+        return defaultValue;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -24,18 +59,22 @@ public final class QueryParameter {
             return false;
         }
         final QueryParameter other = (QueryParameter) obj;
-        return Objects.equals(this.name, other.name);
+        return Objects.equals(this.type, other.type)
+            && Objects.equals(this.name, other.name)
+            && Objects.equals(this.defaultValue, other.defaultValue);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name);
+        return Objects.hash(type, name, defaultValue);
     }
 
     @Override
     public String toString() {
         return "QueryParameter{" +
+            type.map(value -> "type='" + value + "', ").orElse("") +
             "name='" + name + '\'' +
+            defaultValue.map(value -> ", defaultValue='" + value + '\'').orElse("") +
             '}';
     }
 }
@@ -0,0 +1,88 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import fr.vidal.oss.jax_rs_linker.api.PathParameters;
+
+import java.util.EnumMap;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * Resource mapping a path has been routed to, along with its decoded path parameter values.
+ */
+public final class Route {
+
+    private final Class<?> resource;
+    private final Class<?> target;
+    private final String relation;
+    private final Class<? extends PathParameters> parametersType;
+    private final EnumMap<?, String> parameters;
+
+    public <P extends Enum<P> & PathParameters> Route(Class<?> resource, Class<?> target, String relation,
+                                                       Class<P> parametersType, EnumMap<P, String> parameters) {
+        this.resource = resource;
+        this.target = target;
+        this.relation = relation;
+        this.parametersType = parametersType;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Resource class declaring the matched method.
+     */
+    public Class<?> resource() {
+        return resource;
+    }
+
+    /**
+     * Resource class the matched path stands for: the resource itself for {@code @Self}, the sub-resource otherwise.
+     */
+    public Class<?> target() {
+        return target;
+    }
+
+    /**
+     * Relation of the matched link, as rendered in {@link LinkSet}.
+     */
+    public String relation() {
+        return relation;
+    }
+
+    public String parameter(PathParameters parameter) {
+        return parameters.get(parameter);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <P extends Enum<P> & PathParameters> EnumMap<P, String> parameters(Class<P> type) {
+        if (parametersType != type) {
+            throw new IllegalArgumentException(format("Expected parameters of type <%s>, got <%s>", parametersType.getName(), type.getName()));
+        }
+        return new EnumMap<>((EnumMap<P, String>) parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(resource, target, relation, parametersType, parameters);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final Route other = (Route) obj;
+        return Objects.equals(this.resource, other.resource)
+            && Objects.equals(this.target, other.target)
+            && Objects.equals(this.relation, other.relation)
+            && Objects.equals(this.parametersType, other.parametersType)
+            && Objects.equals(this.parameters, other.parameters);
+    }
+
+    @Override
+    public String toString() {
+        return format("%s#%s %s", resource.getName(), relation, parameters);
+    }
+}
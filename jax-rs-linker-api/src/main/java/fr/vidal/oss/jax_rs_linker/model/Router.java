@@ -0,0 +1,322 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import fr.vidal.oss.jax_rs_linker.api.PathParameters;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+
+/**
+ * Routes paths, context path excluded, back to the resource mapping they have been rendered from.
+ *
+ * Routes are kept in a trie of path segments. Literal segments are dispatched through a hash table
+ * sized so that literals of the same node do not collide, segment hashes being computed in place:
+ * a path that matches no route is rejected without allocating, except when a regex-constrained
+ * segment has to be checked. Literal segments take precedence over regex-constrained placeholders,
+ * which themselves take precedence over unconstrained ones. Empty segments, query and fragment are ignored.
+ */
+public final class Router {
+
+    private static final Node[] NO_NODES = new Node[0];
+    private static final Pattern[] NO_PATTERNS = new Pattern[0];
+
+    private final Node root;
+
+    private Router(Node root) {
+        this.root = root;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Optional<Route> route(CharSequence path) {
+        int end = pathEnd(path);
+        Node node = match(root, path, 0, end);
+        if (node == null) {
+            return Optional.empty();
+        }
+        return Optional.of(node.endpoint.route(path, end));
+    }
+
+    private static Node match(Node node, CharSequence path, int position, int end) {
+        int start = position;
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+        if (start == end) {
+            return node.endpoint == null ? null : node;
+        }
+        int segmentEnd = start;
+        int hash = 0;
+        char character;
+        while (segmentEnd < end && (character = path.charAt(segmentEnd)) != '/') {
+            hash = 31 * hash + character;
+            segmentEnd++;
+        }
+
+        Node literal = node.literal(path, start, segmentEnd, hash);
+        if (literal != null) {
+            Node result = match(literal, path, segmentEnd, end);
+            if (result != null) {
+                return result;
+            }
+        }
+        for (int i = 0; i < node.placeholders.length; i++) {
+            Pattern pattern = node.patterns[i];
+            if (pattern == null || pattern.matcher(path).region(start, segmentEnd).matches()) {
+                Node result = match(node.placeholders[i], path, segmentEnd, end);
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static int pathEnd(CharSequence path) {
+        for (int i = 0; i < path.length(); i++) {
+            char character = path.charAt(i);
+            if (character == '?' || character == '#') {
+                return i;
+            }
+        }
+        return path.length();
+    }
+
+    public static final class Builder {
+
+        private final Node root = new Node();
+
+        private Builder() {
+        }
+
+        /**
+         * Registers a sanitized path template, e.g. {@code /product/{id}/brand}, each placeholder standing for a whole segment.
+         * Placeholders are constrained by the regex of the matching parameter, if any.
+         * When several routes share the same template, the first registered one wins.
+         */
+        public <P extends Enum<P> & PathParameters> Builder route(Class<?> resource, Class<?> target, String relation,
+                                                                  Class<P> parametersType, String template) {
+            List<P> segmentParameters = new ArrayList<>();
+            Node node = root;
+            for (String segment : template.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (segment.startsWith("{") && segment.endsWith("}")) {
+                    P parameter = parameter(parametersType, segment.substring(1, segment.length() - 1).trim(), template);
+                    segmentParameters.add(parameter);
+                    node = node.placeholder(parameter.regex());
+                } else if (segment.indexOf('{') == -1 && segment.indexOf('}') == -1) {
+                    segmentParameters.add(null);
+                    node = node.literal(segment);
+                } else {
+                    throw new IllegalArgumentException(format("Unsupported segment <%s> in <%s>: placeholders must span whole segments", segment, template));
+                }
+            }
+            if (node.endpoint == null) {
+                node.endpoint = new Endpoint<>(resource, target, relation, parametersType, segmentParameters);
+            }
+            return this;
+        }
+
+        public Router build() {
+            root.freeze();
+            return new Router(root);
+        }
+
+        private static <P extends Enum<P> & PathParameters> P parameter(Class<P> parametersType, String placeholder, String template) {
+            for (P parameter : parametersType.getEnumConstants()) {
+                if (parameter.placeholder().equals(placeholder)) {
+                    return parameter;
+                }
+            }
+            throw new IllegalArgumentException(format("Unknown parameter <%s> in <%s>, expected one of %s",
+                placeholder, template, parametersType.getName()));
+        }
+    }
+
+    private static final class Endpoint<P extends Enum<P> & PathParameters> {
+
+        private final Class<?> resource;
+        private final Class<?> target;
+        private final String relation;
+        private final Class<P> parametersType;
+        private final List<P> segmentParameters;
+
+        private Endpoint(Class<?> resource, Class<?> target, String relation, Class<P> parametersType, List<P> segmentParameters) {
+            this.resource = resource;
+            this.target = target;
+            this.relation = relation;
+            this.parametersType = parametersType;
+            this.segmentParameters = segmentParameters;
+        }
+
+        Route route(CharSequence path, int end) {
+            EnumMap<P, String> parameters = new EnumMap<>(parametersType);
+            int segment = 0;
+            int position = 0;
+            while (position < end) {
+                if (path.charAt(position) == '/') {
+                    position++;
+                    continue;
+                }
+                int start = position;
+                while (position < end && path.charAt(position) != '/') {
+                    position++;
+                }
+                P parameter = segmentParameters.get(segment++);
+                if (parameter != null) {
+                    parameters.put(parameter, decode(path, start, position));
+                }
+            }
+            return new Route(resource, target, relation, parametersType, parameters);
+        }
+
+        /**
+         * Percent-decodes a segment as UTF-8, {@code +} being kept as is.
+         */
+        private static String decode(CharSequence path, int start, int end) {
+            StringBuilder result = new StringBuilder(end - start);
+            byte[] bytes = null;
+            int i = start;
+            while (i < end) {
+                if (!isEncodedByte(path, i, end)) {
+                    result.append(path.charAt(i++));
+                    continue;
+                }
+                if (bytes == null) {
+                    bytes = new byte[(end - start) / 3];
+                }
+                int length = 0;
+                while (isEncodedByte(path, i, end)) {
+                    bytes[length++] = (byte) ((Character.digit(path.charAt(i + 1), 16) << 4) + Character.digit(path.charAt(i + 2), 16));
+                    i += 3;
+                }
+                result.append(new String(bytes, 0, length, StandardCharsets.UTF_8));
+            }
+            return result.toString();
+        }
+
+        private static boolean isEncodedByte(CharSequence path, int index, int end) {
+            return index + 2 < end
+                && path.charAt(index) == '%'
+                && Character.digit(path.charAt(index + 1), 16) != -1
+                && Character.digit(path.charAt(index + 2), 16) != -1;
+        }
+    }
+
+    private static final class Node {
+
+        private Map<String, Node> literalsByName = new LinkedHashMap<>();
+        private Map<String, Node> placeholdersByRegex = new LinkedHashMap<>();
+        private Map<String, Pattern> patternsByRegex = new LinkedHashMap<>();
+
+        private String[] literals;
+        private int[] hashes;
+        private Node[] children;
+        private int mask;
+        private Node[] placeholders = NO_NODES;
+        private Pattern[] patterns = NO_PATTERNS;
+        private Endpoint<?> endpoint;
+
+        Node literal(String segment) {
+            return literalsByName.computeIfAbsent(segment, key -> new Node());
+        }
+
+        Node placeholder(Pattern regex) {
+            String key = regex == null ? "" : regex.pattern();
+            patternsByRegex.putIfAbsent(key, regex);
+            return placeholdersByRegex.computeIfAbsent(key, any -> new Node());
+        }
+
+        Node literal(CharSequence path, int start, int end, int hash) {
+            for (int i = spread(hash) & mask; children[i] != null; i = (i + 1) & mask) {
+                if (hashes[i] == hash && regionMatches(literals[i], path, start, end)) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Looks for the smallest table without any collision, falling back to linear probing
+         * when literals share the same hash code.
+         */
+        void freeze() {
+            int size = Integer.highestOneBit(Math.max(1, literalsByName.size()) * 2 - 1) * 2;
+            int maxSize = size << 4;
+            while (size < maxSize && hasCollisions(size - 1)) {
+                size <<= 1;
+            }
+            literals = new String[size];
+            hashes = new int[size];
+            children = new Node[size];
+            mask = size - 1;
+            for (Map.Entry<String, Node> literal : literalsByName.entrySet()) {
+                int hash = literal.getKey().hashCode();
+                int i = spread(hash) & mask;
+                while (children[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                literals[i] = literal.getKey();
+                hashes[i] = hash;
+                children[i] = literal.getValue();
+                literal.getValue().freeze();
+            }
+
+            if (!placeholdersByRegex.isEmpty()) {
+                List<String> regexes = new ArrayList<>(placeholdersByRegex.keySet());
+                if (regexes.remove("")) {
+                    regexes.add("");
+                }
+                placeholders = new Node[regexes.size()];
+                patterns = new Pattern[regexes.size()];
+                for (int i = 0; i < regexes.size(); i++) {
+                    placeholders[i] = placeholdersByRegex.get(regexes.get(i));
+                    patterns[i] = patternsByRegex.get(regexes.get(i));
+                    placeholders[i].freeze();
+                }
+            }
+            literalsByName = null;
+            placeholdersByRegex = null;
+            patternsByRegex = null;
+        }
+
+        private boolean hasCollisions(int mask) {
+            boolean[] used = new boolean[mask + 1];
+            for (String literal : literalsByName.keySet()) {
+                int i = spread(literal.hashCode()) & mask;
+                if (used[i]) {
+                    return true;
+                }
+                used[i] = true;
+            }
+            return false;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+
+        private static boolean regionMatches(String literal, CharSequence path, int start, int end) {
+            if (literal.length() != end - start) {
+                return false;
+            }
+            for (int i = 0; i < literal.length(); i++) {
+                if (literal.charAt(i) != path.charAt(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
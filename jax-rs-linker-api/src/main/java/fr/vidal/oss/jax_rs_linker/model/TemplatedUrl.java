@@ -2,15 +2,21 @@ package fr.vidal.oss.jax_rs_linker.model;
 
 import fr.vidal.oss.jax_rs_linker.api.PathParameters;
 import fr.vidal.oss.jax_rs_linker.api.QueryParameters;
+import fr.vidal.oss.jax_rs_linker.metrics.LinkerMetricsHolder;
 import fr.vidal.oss.jax_rs_linker.predicates.PathParameterPredicate;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
+import static fr.vidal.oss.jax_rs_linker.base.Preconditions.checkParameterValue;
 import static fr.vidal.oss.jax_rs_linker.base.Preconditions.checkState;
 import static fr.vidal.oss.jax_rs_linker.functions.QueryParametersToQueryString.TO_QUERY_STRING;
 import static java.lang.String.format;
@@ -18,59 +24,213 @@ import static java.util.stream.Collectors.toList;
 
 public class TemplatedUrl<T extends PathParameters, U extends QueryParameters> {
 
+    private final String pathTemplate;
     private final String path;
     private final Collection<PathParameter> pathParameters;
     private final Map<String, Collection<String>> queryParameters = new LinkedHashMap<>();
+    private final Map<String, String> defaultValues;
 
     public TemplatedUrl(String path, Collection<PathParameter> pathParameters, Collection<QueryParameter> queryParameters) {
+        this.pathTemplate = path;
         this.path = path;
         this.pathParameters = new ArrayList<>(pathParameters);
+        this.defaultValues = new HashMap<>();
         for (QueryParameter queryParameter : queryParameters) {
             this.queryParameters.put(queryParameter.getName(), new ArrayList<>());
+            queryParameter.getDefaultValue().ifPresent(value -> defaultValues.put(queryParameter.getName(), value));
         }
     }
 
-    private TemplatedUrl(String path, Collection<PathParameter> pathParameters, Map<String, Collection<String>> queryParameters) {
+    private TemplatedUrl(String pathTemplate, String path, Collection<PathParameter> pathParameters, Map<String, Collection<String>> queryParameters,
+                         Map<String, String> defaultValues) {
+        this.pathTemplate = pathTemplate;
         this.path = path;
         this.pathParameters = pathParameters;
         this.queryParameters.putAll(queryParameters);
+        this.defaultValues = defaultValues;
     }
 
     public TemplatedUrl<T,U> replace(T parameter, String value) {
         checkState(!pathParameters.isEmpty(), "No more path parameters to replace");
-        validateParamValue(parameter.regex(), value);
+        checkParameterValue(pathTemplate, parameter.regex(), value);
 
         return new TemplatedUrl<>(
+            pathTemplate,
             path.replace(placeholder(parameter.placeholder()), value),
             pathParameters.stream().filter(PathParameterPredicate.byName(parameter.placeholder()).negate()).collect(toList()),
-            queryParameters);
+            queryParameters,
+            defaultValues);
     }
 
     public TemplatedUrl<T,U> append(U queryParameter, String value) {
         this.queryParameters.get(queryParameter.value()).add(value);
         return new TemplatedUrl<>(
+            pathTemplate,
             path,
             pathParameters,
-            queryParameters);
+            queryParameters,
+            defaultValues);
     }
 
+    /**
+     * Compact alternative to {@link #append(QueryParameters, String)}: a value equal to the {@code @DefaultValue}
+     * of the parameter is left out, as in the generated link sets, since the server falls back to it anyway.
+     */
+    public TemplatedUrl<T,U> appendUnlessDefault(U queryParameter, String value) {
+        if (value.equals(defaultValues.get(queryParameter.value()))) {
+            return new TemplatedUrl<>(
+                pathTemplate,
+                path,
+                pathParameters,
+                queryParameters,
+                defaultValues);
+        }
+        return append(queryParameter, value);
+    }
+
+    /**
+     * All the values are kept, even the ones equal to the {@code @DefaultValue} of the parameter.
+     */
     public TemplatedUrl<T,U> appendAll(U queryParameter, Collection<String> value) {
         this.queryParameters.get(queryParameter.value()).addAll(value);
         return new TemplatedUrl<>(
+            pathTemplate,
             path,
             pathParameters,
-            queryParameters);
+            queryParameters,
+            defaultValues);
     }
 
     public String value() {
         checkState(pathParameters.isEmpty(), format("Parameters to replace: %s", parameterNames()));
-        return path + TO_QUERY_STRING.apply(queryParameters);
+        if (!LinkerMetricsHolder.ENABLED) {
+            return path + TO_QUERY_STRING.apply(queryParameters);
+        }
+        long start = System.nanoTime();
+        String value = path + TO_QUERY_STRING.apply(queryParameters);
+        LinkerMetricsHolder.METRICS.rendered(pathTemplate, parameterCount(), System.nanoTime() - start, value);
+        return value;
+    }
+
+    /**
+     * Renders the URL with a canonical query string, so that equivalent links share the same characters,
+     * e.g. as a cache key: parameters are sorted in the lexicographic order of their names, repeated values
+     * are dropped and names as well as values are percent-encoded in the RFC 3986 normal form. Values of the same parameter keep their relative order.
+     */
+    public String canonicalValue() {
+        checkState(pathParameters.isEmpty(), format("Parameters to replace: %s", parameterNames()));
+        StringBuilder builder = new StringBuilder(path.length() + 16).append(path);
+        char separator = '?';
+        for (Map.Entry<String, Collection<String>> valuesPerKey : new TreeMap<>(queryParameters).entrySet()) {
+            StringBuilder name = new StringBuilder(valuesPerKey.getKey().length());
+            UriTemplate.appendNormalized(name, valuesPerKey.getKey());
+            Set<String> values = new LinkedHashSet<>();
+            for (String value : valuesPerKey.getValue()) {
+                StringBuilder normalizedValue = new StringBuilder(value.length());
+                UriTemplate.appendNormalized(normalizedValue, value);
+                values.add(normalizedValue.toString());
+            }
+            for (String value : values) {
+                builder.append(separator).append(name).append('=').append(value);
+                separator = '&';
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Appends the same characters as {@link #value()}, without concatenating them first.
+     * When metrics are enabled, the URL is rendered in a buffer for {@link LinkerMetricsHolder#METRICS} to read it,
+     * then appended at once.
+     */
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        checkState(pathParameters.isEmpty(), format("Parameters to replace: %s", parameterNames()));
+        if (!LinkerMetricsHolder.ENABLED) {
+            return appendValueTo(out);
+        }
+        long start = System.nanoTime();
+        StringBuilder value = appendValueTo(new StringBuilder(path.length() + 16));
+        LinkerMetricsHolder.METRICS.rendered(pathTemplate, parameterCount(), System.nanoTime() - start, value);
+        out.append(value);
+        return out;
+    }
+
+    private <A extends Appendable> A appendValueTo(A out) throws IOException {
+        out.append(path);
+        char separator = '?';
+        for (Map.Entry<String, Collection<String>> valuesPerKey : queryParameters.entrySet()) {
+            for (String value : valuesPerKey.getValue()) {
+                out.append(separator).append(valuesPerKey.getKey()).append('=').append(value);
+                separator = '&';
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Renders the URL as a RFC 6570 URI template, for clients to expand it themselves.
+     * Path parameters not replaced yet are left as expressions and query parameters without any value
+     * become form-style query expansions, e.g. {@code /product/{id}{?label*}}.
+     *
+     * @see UriTemplate
+     */
+    public String template() {
+        StringBuilder builder = new StringBuilder(path.length() + 16);
+        appendPathTemplate(builder);
+        char separator = '?';
+        for (Map.Entry<String, Collection<String>> valuesPerKey : queryParameters.entrySet()) {
+            for (String value : valuesPerKey.getValue()) {
+                builder.append(separator).append(valuesPerKey.getKey()).append('=').append(value);
+                separator = '&';
+            }
+        }
+        String expressionSeparator = separator == '?' ? "{?" : "{&";
+        for (Map.Entry<String, Collection<String>> valuesPerKey : queryParameters.entrySet()) {
+            if (valuesPerKey.getValue().isEmpty()) {
+                builder.append(expressionSeparator).append(UriTemplate.variableName(valuesPerKey.getKey())).append('*');
+                expressionSeparator = ",";
+            }
+        }
+        if (!expressionSeparator.startsWith("{")) {
+            builder.append('}');
+        }
+        return builder.toString();
     }
 
-    private void validateParamValue(Pattern regex, String value) {
-        if (regex != null && !regex.matcher(value).matches()) {
-            throw new IllegalArgumentException(String.format("The given value doesn't match the parameter regex: %s", regex));
+    private void appendPathTemplate(StringBuilder builder) {
+        int position = 0;
+        while (position < path.length()) {
+            int openingBrace = path.indexOf('{', position);
+            int closingBrace = openingBrace == -1 ? -1 : path.indexOf('}', openingBrace);
+            if (closingBrace == -1) {
+                builder.append(path, position, path.length());
+                return;
+            }
+            builder.append(path, position, openingBrace + 1)
+                .append(UriTemplate.variableName(path.substring(openingBrace + 1, closingBrace).trim()))
+                .append('}');
+            position = closingBrace + 1;
+        }
+    }
+
+    /**
+     * Length of the path up to its first placeholder, i.e. of the characters shared by all the URLs
+     * rendered from the same template.
+     */
+    int templatePrefixLength() {
+        int placeholder = pathTemplate.indexOf('{');
+        return placeholder == -1 ? pathTemplate.length() : placeholder;
+    }
+
+    private int parameterCount() {
+        int count = 0;
+        for (int i = pathTemplate.indexOf('{'); i != -1; i = pathTemplate.indexOf('{', i + 1)) {
+            count++;
+        }
+        for (Collection<String> values : queryParameters.values()) {
+            count += values.size();
         }
+        return count;
     }
 
     private String parameterNames() {
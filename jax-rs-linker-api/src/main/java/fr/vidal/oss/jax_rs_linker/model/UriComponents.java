@@ -0,0 +1,59 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import java.util.Arrays;
+
+/**
+ * Percent-encodes path segments and query parameters as they are appended, for the generated client links.
+ */
+public final class UriComponents {
+
+    private static final String PATH_SEGMENT_RESERVED = "!$&'()*+,;=:@";
+
+    private UriComponents() {
+        // Hide me!
+    }
+
+    /**
+     * Appends a path segment value, characters other than unreserved ones and path sub-delimiters being percent-encoded.
+     */
+    public static StringBuilder appendPathSegment(StringBuilder out, String value) {
+        return appendEncoded(out, value, PATH_SEGMENT_RESERVED);
+    }
+
+    /**
+     * Appends the parameter once per value, characters other than unreserved ones being percent-encoded.
+     * Null values are left out, iterables and arrays are appended item by item.
+     *
+     * @return the separator of the next query parameter
+     */
+    public static char appendQueryParameter(StringBuilder out, char separator, String name, Object value) {
+        if (value == null) {
+            return separator;
+        }
+        if (value instanceof Iterable || value instanceof Object[]) {
+            Iterable<?> values = value instanceof Object[] ? Arrays.asList((Object[]) value) : (Iterable<?>) value;
+            for (Object item : values) {
+                separator = appendQueryParameter(out, separator, name, item);
+            }
+            return separator;
+        }
+        out.append(separator);
+        appendEncoded(out, name, "").append('=');
+        appendEncoded(out, String.valueOf(value), "");
+        return '&';
+    }
+
+    private static StringBuilder appendEncoded(StringBuilder out, String value, String allowedReserved) {
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (UriTemplate.isUnreserved(character) || allowedReserved.indexOf(character) != -1) {
+                out.append(character);
+                continue;
+            }
+            int next = Character.isHighSurrogate(character) && i + 1 < value.length() ? i + 2 : i + 1;
+            UriTemplate.appendEncoded(out, value.substring(i, next));
+            i = next - 1;
+        }
+        return out;
+    }
+}
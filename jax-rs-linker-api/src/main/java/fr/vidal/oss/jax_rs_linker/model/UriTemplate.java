@@ -0,0 +1,394 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * RFC 6570 URI template (up to level 4), parsed once and expanded as many times as needed.
+ *
+ * Values are either scalars (rendered with {@code String.valueOf}), lists ({@code Iterable} or arrays)
+ * or associative arrays ({@code Map}). Null values and empty lists or maps are undefined.
+ * Percent-encoded variable names (e.g. {@code customer%2Did}) are looked up decoded ({@code customer-id}).
+ */
+public final class UriTemplate {
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private static final String RESERVED = ":/?#[]@!$&'()*+,;=";
+
+    private final String template;
+    private final Object[] parts;
+
+    private UriTemplate(String template, Object[] parts) {
+        this.template = template;
+        this.parts = parts;
+    }
+
+    public static UriTemplate parse(String template) {
+        List<Object> parts = new ArrayList<>();
+        int position = 0;
+        while (position < template.length()) {
+            int openingBrace = template.indexOf('{', position);
+            if (openingBrace == -1) {
+                parts.add(template.substring(position));
+                break;
+            }
+            int closingBrace = template.indexOf('}', openingBrace);
+            if (closingBrace == -1) {
+                throw new IllegalArgumentException(format("Unclosed expression at %d in <%s>", openingBrace, template));
+            }
+            if (openingBrace > position) {
+                parts.add(template.substring(position, openingBrace));
+            }
+            parts.add(Expression.parse(template, openingBrace + 1, closingBrace));
+            position = closingBrace + 1;
+        }
+        return new UriTemplate(template, parts.toArray());
+    }
+
+    public List<String> variableNames() {
+        List<String> names = new ArrayList<>();
+        for (Object part : parts) {
+            if (part instanceof Expression) {
+                for (VariableSpec variable : ((Expression) part).variables) {
+                    names.add(variable.name);
+                }
+            }
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    public String expand(Map<String, ?> variables) {
+        return expandTo(new StringBuilder(template.length() + 32), variables).toString();
+    }
+
+    public StringBuilder expandTo(StringBuilder out, Map<String, ?> variables) {
+        for (Object part : parts) {
+            if (part instanceof Expression) {
+                ((Expression) part).expandTo(out, variables);
+            } else {
+                out.append((String) part);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Variable name as allowed in an expression, characters other than {@code ALPHA / DIGIT / "_" / "."}
+     * being percent-encoded.
+     */
+    static String variableName(String name) {
+        StringBuilder result = null;
+        for (int i = 0; i < name.length(); i++) {
+            char character = name.charAt(i);
+            boolean allowed = isAlphaNumeric(character) || character == '_' || (character == '.' && i > 0);
+            if (!allowed && result == null) {
+                result = new StringBuilder(name.length() + 8).append(name, 0, i);
+            }
+            if (result != null) {
+                if (allowed) {
+                    result.append(character);
+                } else {
+                    appendEncoded(result, String.valueOf(character));
+                }
+            }
+        }
+        return result == null ? name : result.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return template.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final UriTemplate other = (UriTemplate) obj;
+        return template.equals(other.template);
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    private enum Operator {
+        SIMPLE("", ",", false, "", false),
+        RESERVED("", ",", false, "", true),
+        FRAGMENT("#", ",", false, "", true),
+        LABEL(".", ".", false, "", false),
+        PATH("/", "/", false, "", false),
+        PATH_PARAMETER(";", ";", true, "", false),
+        QUERY("?", "&", true, "=", false),
+        QUERY_CONTINUATION("&", "&", true, "=", false);
+
+        private final String first;
+        private final String separator;
+        private final boolean named;
+        private final String ifEmpty;
+        private final boolean allowReserved;
+
+        Operator(String first, String separator, boolean named, String ifEmpty, boolean allowReserved) {
+            this.first = first;
+            this.separator = separator;
+            this.named = named;
+            this.ifEmpty = ifEmpty;
+            this.allowReserved = allowReserved;
+        }
+
+        static Operator of(char character) {
+            switch (character) {
+                case '+': return RESERVED;
+                case '#': return FRAGMENT;
+                case '.': return LABEL;
+                case '/': return PATH;
+                case ';': return PATH_PARAMETER;
+                case '?': return QUERY;
+                case '&': return QUERY_CONTINUATION;
+                default: return null;
+            }
+        }
+    }
+
+    private static final class VariableSpec {
+
+        private final String name;
+        private final String encodedName;
+        private final int maxLength;
+        private final boolean explode;
+
+        private VariableSpec(String name, String encodedName, int maxLength, boolean explode) {
+            this.name = name;
+            this.encodedName = encodedName;
+            this.maxLength = maxLength;
+            this.explode = explode;
+        }
+
+        static VariableSpec parse(String template, String spec) {
+            boolean explode = spec.endsWith("*");
+            String encodedName = explode ? spec.substring(0, spec.length() - 1) : spec;
+            int maxLength = -1;
+            int colon = encodedName.indexOf(':');
+            if (colon != -1) {
+                try {
+                    maxLength = Integer.parseInt(encodedName.substring(colon + 1));
+                } catch (NumberFormatException e) {
+                    maxLength = 0;
+                }
+                if (maxLength <= 0 || maxLength >= 10000 || explode) {
+                    throw new IllegalArgumentException(format("Invalid prefix modifier <%s> in <%s>", spec, template));
+                }
+                encodedName = encodedName.substring(0, colon);
+            }
+            if (encodedName.isEmpty()) {
+                throw new IllegalArgumentException(format("Empty variable name in <%s>", template));
+            }
+            return new VariableSpec(decode(encodedName), encodedName, maxLength, explode);
+        }
+    }
+
+    private static final class Expression {
+
+        private final Operator operator;
+        private final VariableSpec[] variables;
+
+        private Expression(Operator operator, VariableSpec[] variables) {
+            this.operator = operator;
+            this.variables = variables;
+        }
+
+        static Expression parse(String template, int start, int end) {
+            Operator operator = start < end ? Operator.of(template.charAt(start)) : null;
+            int variablesStart = start;
+            if (operator == null) {
+                operator = Operator.SIMPLE;
+            } else {
+                variablesStart++;
+            }
+            String[] specs = template.substring(variablesStart, end).split(",", -1);
+            VariableSpec[] variables = new VariableSpec[specs.length];
+            for (int i = 0; i < specs.length; i++) {
+                variables[i] = VariableSpec.parse(template, specs[i]);
+            }
+            return new Expression(operator, variables);
+        }
+
+        void expandTo(StringBuilder out, Map<String, ?> values) {
+            boolean first = true;
+            for (VariableSpec variable : variables) {
+                Object value = values.get(variable.name);
+                if (isUndefined(value)) {
+                    continue;
+                }
+                out.append(first ? operator.first : operator.separator);
+                first = false;
+                if (value instanceof Map) {
+                    expandMap(out, variable, (Map<?, ?>) value);
+                } else if (value instanceof Iterable || value instanceof Object[]) {
+                    expandList(out, variable, iterable(value));
+                } else {
+                    expandScalar(out, variable, String.valueOf(value));
+                }
+            }
+        }
+
+        private void expandScalar(StringBuilder out, VariableSpec variable, String value) {
+            if (operator.named) {
+                out.append(variable.encodedName).append(value.isEmpty() ? operator.ifEmpty : "=");
+            }
+            if (variable.maxLength != -1 && value.codePointCount(0, value.length()) > variable.maxLength) {
+                value = value.substring(0, value.offsetByCodePoints(0, variable.maxLength));
+            }
+            appendValue(out, value);
+        }
+
+        private void expandList(StringBuilder out, VariableSpec variable, Iterable<?> values) {
+            if (!variable.explode && operator.named) {
+                out.append(variable.encodedName).append('=');
+            }
+            boolean first = true;
+            for (Object item : values) {
+                if (!first) {
+                    out.append(variable.explode ? operator.separator : ",");
+                }
+                first = false;
+                String value = String.valueOf(item);
+                if (variable.explode && operator.named) {
+                    out.append(variable.encodedName).append(value.isEmpty() ? operator.ifEmpty : "=");
+                }
+                appendValue(out, value);
+            }
+        }
+
+        private void expandMap(StringBuilder out, VariableSpec variable, Map<?, ?> values) {
+            if (!variable.explode && operator.named) {
+                out.append(variable.encodedName).append('=');
+            }
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : values.entrySet()) {
+                if (!first) {
+                    out.append(variable.explode ? operator.separator : ",");
+                }
+                first = false;
+                appendValue(out, String.valueOf(entry.getKey()));
+                String value = String.valueOf(entry.getValue());
+                if (variable.explode) {
+                    out.append(value.isEmpty() && operator.named ? operator.ifEmpty : "=");
+                } else {
+                    out.append(',');
+                }
+                appendValue(out, value);
+            }
+        }
+
+        private void appendValue(StringBuilder out, String value) {
+            int start = 0;
+            for (int i = 0; i < value.length(); i++) {
+                char character = value.charAt(i);
+                if (isUnreserved(character)) {
+                    continue;
+                }
+                if (operator.allowReserved && (RESERVED.indexOf(character) != -1 || isPercentEncoded(value, i))) {
+                    continue;
+                }
+                out.append(value, start, i);
+                int next = Character.isHighSurrogate(character) && i + 1 < value.length() ? i + 2 : i + 1;
+                appendEncoded(out, value.substring(i, next));
+                start = next;
+                i = next - 1;
+            }
+            out.append(value, start, value.length());
+        }
+
+        private static boolean isUndefined(Object value) {
+            return value == null
+                || (value instanceof Map && ((Map<?, ?>) value).isEmpty())
+                || (value instanceof Iterable && !((Iterable<?>) value).iterator().hasNext())
+                || (value instanceof Object[] && ((Object[]) value).length == 0);
+        }
+
+        private static Iterable<?> iterable(Object value) {
+            if (value instanceof Object[]) {
+                return Arrays.asList((Object[]) value);
+            }
+            return (Iterable<?>) value;
+        }
+    }
+
+    private static boolean isAlphaNumeric(char character) {
+        return (character >= 'a' && character <= 'z')
+            || (character >= 'A' && character <= 'Z')
+            || (character >= '0' && character <= '9');
+    }
+
+    static boolean isUnreserved(char character) {
+        return isAlphaNumeric(character) || character == '-' || character == '.' || character == '_' || character == '~';
+    }
+
+    private static boolean isPercentEncoded(String value, int index) {
+        return value.charAt(index) == '%'
+            && index + 2 < value.length()
+            && Character.digit(value.charAt(index + 1), 16) != -1
+            && Character.digit(value.charAt(index + 2), 16) != -1;
+    }
+
+    static void appendEncoded(StringBuilder out, String characters) {
+        for (byte b : characters.getBytes(StandardCharsets.UTF_8)) {
+            out.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+        }
+    }
+
+    /**
+     * Appends the RFC 3986 normal form of a URI component: unreserved characters as is, other characters
+     * percent-encoded as UTF-8 with uppercase hex digits, existing triplets being kept unless they stand
+     * for an unreserved character.
+     */
+    static void appendNormalized(StringBuilder out, String component) {
+        for (int i = 0; i < component.length(); i++) {
+            char character = component.charAt(i);
+            if (isUnreserved(character)) {
+                out.append(character);
+            } else if (isPercentEncoded(component, i)) {
+                char decoded = (char) Integer.parseInt(component.substring(i + 1, i + 3), 16);
+                if (isUnreserved(decoded)) {
+                    out.append(decoded);
+                } else {
+                    out.append('%').append(HEX_DIGITS[decoded >> 4]).append(HEX_DIGITS[decoded & 0xF]);
+                }
+                i += 2;
+            } else {
+                int next = Character.isHighSurrogate(character) && i + 1 < component.length() ? i + 2 : i + 1;
+                appendEncoded(out, component.substring(i, next));
+                i = next - 1;
+            }
+        }
+    }
+
+    private static String decode(String encodedName) {
+        if (encodedName.indexOf('%') == -1) {
+            return encodedName;
+        }
+        byte[] bytes = new byte[encodedName.length()];
+        int length = 0;
+        for (int i = 0; i < encodedName.length(); i++) {
+            if (isPercentEncoded(encodedName, i)) {
+                bytes[length++] = (byte) Integer.parseInt(encodedName.substring(i + 1, i + 3), 16);
+                i += 2;
+            } else {
+                bytes[length++] = (byte) encodedName.charAt(i);
+            }
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.regex.Pattern;
+
 public class PreconditionsTest {
 
     @Rule
@@ -21,4 +23,22 @@ public class PreconditionsTest {
 
         Preconditions.checkState(false, "must fail!");
     }
+
+    @Test
+    public void do_not_throw_IllegalArgumentException_when_value_matches_regex() {
+        Preconditions.checkParameterValue(Pattern.compile("[0-9]+"), "42");
+    }
+
+    @Test
+    public void do_not_throw_IllegalArgumentException_when_there_is_no_regex() {
+        Preconditions.checkParameterValue(null, "anything");
+    }
+
+    @Test
+    public void throw_IllegalArgumentException_when_value_does_not_match_regex() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("The given value doesn't match the parameter regex: [0-9]+");
+
+        Preconditions.checkParameterValue(Pattern.compile("[0-9]+"), "forty-two");
+    }
 }
@@ -0,0 +1,148 @@
+package fr.vidal.oss.jax_rs_linker.invocation;
+
+import fr.vidal.oss.jax_rs_linker.invocation.ShopIndex.Brand;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BatchResolverTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final BatchResolver resolver = new BatchResolver(new ShopIndex(), executor, failure -> 500);
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final List<BatchResult> results = new ArrayList<>();
+
+    @Test
+    public void parses_uri_list() {
+        List<String> links = BatchResolver.uriList("# products\r\n/ctx/product/42\r\n\r\n  http://example.com/ctx/brand/7/company  \n");
+
+        assertThat(links).containsExactly("/ctx/product/42", "http://example.com/ctx/brand/7/company");
+    }
+
+    @Test
+    public void resolves_links() throws IOException {
+        resolve(resolver, asList("/ctx/product/42/brand", "http://example.com/ctx/brand/7/company", "/ctx/product/42/company"));
+
+        assertThat(results).containsExactlyInAnyOrder(
+            new BatchResult("/ctx/product/42/brand", 200, new Brand(7)),
+            new BatchResult("http://example.com/ctx/brand/7/company", 200, "company of brand 7"),
+            new BatchResult("/ctx/product/42/company", 200, "company of product 42")
+        );
+    }
+
+    @Test
+    public void writes_results_in_the_order_they_complete() throws IOException {
+        CountDownLatch secondCompleted = new CountDownLatch(1);
+        AtomicInteger submitted = new AtomicInteger();
+        BatchResolver lastInFirstOut = new BatchResolver(new ShopIndex(), command -> {
+            if (submitted.getAndIncrement() == 0) {
+                new Thread(() -> {
+                    try {
+                        secondCompleted.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    command.run();
+                }).start();
+            } else {
+                new Thread(() -> {
+                    command.run();
+                    secondCompleted.countDown();
+                }).start();
+            }
+        }, failure -> 500);
+
+        resolve(lastInFirstOut, asList("/ctx/product/42/company", "/ctx/brand/7/company"));
+
+        assertThat(results).containsExactly(
+            new BatchResult("/ctx/brand/7/company", 200, "company of brand 7"),
+            new BatchResult("/ctx/product/42/company", 200, "company of product 42")
+        );
+    }
+
+    @Test
+    public void streams_results_as_a_json_array() throws IOException {
+        resolver.resolve(asList("/ctx/unknown", "/ctx/product/42"), ShopIndex.NEW_INSTANCES, "/ctx", output, (result, element) -> {
+            element.write(("\"" + result.getHref() + "\"").getBytes(UTF_8));
+            element.close();
+        });
+
+        assertThat(new String(output.toByteArray(), UTF_8)).isEqualTo("[\"/ctx/unknown\",\"/ctx/product/42\"]");
+    }
+
+    @Test
+    public void streams_empty_batches_as_an_empty_array() throws IOException {
+        resolve(resolver, new ArrayList<>());
+
+        assertThat(new String(output.toByteArray(), UTF_8)).isEqualTo("[]");
+    }
+
+    @Test
+    public void answers_not_found_for_links_without_invoker() throws IOException {
+        resolve(resolver, asList("/ctx/unknown", "/ctx/product/42"));
+
+        assertThat(results).containsExactly(
+            new BatchResult("/ctx/unknown", 404, null),
+            new BatchResult("/ctx/product/42", 404, null)
+        );
+    }
+
+    @Test
+    public void answers_not_found_for_links_outside_of_the_context_path() throws IOException {
+        resolve(resolver, asList("/ctxfoo/product/42/company", "http://example.com/product/42/company", "/ctx/product/42/company"));
+
+        assertThat(results).containsExactlyInAnyOrder(
+            new BatchResult("/ctxfoo/product/42/company", 404, null),
+            new BatchResult("http://example.com/product/42/company", 404, null),
+            new BatchResult("/ctx/product/42/company", 200, "company of product 42")
+        );
+    }
+
+    @Test
+    public void answers_bad_request_for_links_with_query_string() throws IOException {
+        resolve(resolver, asList("/ctx/product/42/company?qParameter=true", "/ctx/product/42/company?#top"));
+
+        assertThat(results).containsExactlyInAnyOrder(
+            new BatchResult("/ctx/product/42/company?qParameter=true", 400, null),
+            new BatchResult("/ctx/product/42/company?#top", 200, "company of product 42")
+        );
+    }
+
+    @Test
+    public void maps_failures_to_status() throws IOException {
+        resolve(resolver, singletonList("/ctx/product/13/brand"));
+
+        assertThat(results).containsExactly(new BatchResult("/ctx/product/13/brand", 500, null));
+    }
+
+    @Test
+    public void maps_rejected_links_to_status() throws IOException {
+        BatchResolver saturated = new BatchResolver(new ShopIndex(), command -> {
+            throw new RejectedExecutionException("saturated");
+        }, failure -> failure instanceof RejectedExecutionException ? 503 : 500);
+
+        resolve(saturated, asList("/ctx/product/42/company", "/ctx/brand/7/company"));
+
+        assertThat(results).containsExactly(
+            new BatchResult("/ctx/product/42/company", 503, null),
+            new BatchResult("/ctx/brand/7/company", 503, null)
+        );
+    }
+
+    private void resolve(BatchResolver batchResolver, List<String> links) throws IOException {
+        batchResolver.resolve(links, ShopIndex.NEW_INSTANCES, "/ctx", output, (result, element) -> results.add(result));
+    }
+}
@@ -0,0 +1,12 @@
+package fr.vidal.oss.jax_rs_linker.invocation;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.Test;
+
+public class BatchResultTest {
+
+    @Test
+    public void equals_contract() {
+        EqualsVerifier.forClass(BatchResult.class).verify();
+    }
+}
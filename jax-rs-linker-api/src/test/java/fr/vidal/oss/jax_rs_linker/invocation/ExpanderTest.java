@@ -0,0 +1,102 @@
+package fr.vidal.oss.jax_rs_linker.invocation;
+
+import fr.vidal.oss.jax_rs_linker.invocation.ShopIndex.Brand;
+import fr.vidal.oss.jax_rs_linker.model.Route;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExpanderTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final ResourceIndex index = new ShopIndex();
+    private final ResourceLocator resources = ShopIndex.NEW_INSTANCES;
+
+    @Test
+    public void leaves_entity_as_is_without_expansion() {
+        Object result = new Expander(index, executor, 2).expand("product 42", route("/product/42"), Collections.emptyList(), resources, "/ctx");
+
+        assertThat(result).isEqualTo("product 42");
+    }
+
+    @Test
+    public void embeds_expanded_relations() {
+        Object result = new Expander(index, executor, 2)
+            .expand("product 42", route("/product/42"), singletonList("brand,company"), resources, "/ctx");
+
+        assertThat(result).isEqualTo(new ExpandedEntity("product 42", map(
+            "brand", new Brand(7),
+            "company", "company of product 42"
+        )));
+    }
+
+    @Test
+    public void expands_nested_relations_through_linked_entities() {
+        Object result = new Expander(index, executor, 2)
+            .expand("product 42", route("/product/42"), asList("brand.company", "unknown"), resources, "/ctx");
+
+        assertThat(result).isEqualTo(new ExpandedEntity("product 42", map(
+            "brand", new ExpandedEntity(new Brand(7), map("company", "company of brand 7"))
+        )));
+    }
+
+    @Test
+    public void stops_at_max_depth() {
+        Object result = new Expander(index, executor, 1)
+            .expand("product 42", route("/product/42"), singletonList("brand.company"), resources, "/ctx");
+
+        assertThat(result).isEqualTo(new ExpandedEntity("product 42", map("brand", new Brand(7))));
+    }
+
+    @Test
+    public void embeds_failed_expansions_as_null() {
+        Object result = new Expander(index, executor, 2)
+            .expand("product 13", route("/product/13"), singletonList("brand,company"), resources, "/ctx");
+
+        assertThat(result).isEqualTo(new ExpandedEntity("product 13", map(
+            "brand", null,
+            "company", "company of product 13"
+        )));
+    }
+
+    @Test
+    public void leaves_unresolvable_expansions_out() {
+        Object result = new Expander(index, executor, 2)
+            .expand("product", route("/product/none"), singletonList("brand,company"), resources, "/ctx");
+
+        assertThat(result).isEqualTo(new ExpandedEntity("product", map()));
+    }
+
+    @Test
+    public void embeds_rejected_expansions_as_null() {
+        Object result = new Expander(index, command -> {
+            throw new RejectedExecutionException("saturated");
+        }, 2).expand("product 42", route("/product/42"), singletonList("brand,company"), resources, "/ctx");
+
+        assertThat(result).isEqualTo(new ExpandedEntity("product 42", map(
+            "brand", null,
+            "company", null
+        )));
+    }
+
+    private Route route(String path) {
+        return index.route(path).get();
+    }
+
+    private static Map<String, Object> map(Object... entries) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            result.put((String) entries[i], entries[i + 1]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,71 @@
+package fr.vidal.oss.jax_rs_linker.invocation;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InvocationExecutorsTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ExecutorService executor = InvocationExecutors.bounded("expansion");
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void runs_invocations_on_named_daemon_threads() throws Exception {
+        Thread thread = executor.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+
+        assertThat(thread.getName()).startsWith("expansion-");
+        assertThat(thread.isDaemon()).isTrue();
+    }
+
+    @Test
+    public void runs_invocations_on_the_calling_thread_once_saturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        try {
+            int busy = Runtime.getRuntime().availableProcessors() + InvocationExecutors.QUEUE_CAPACITY;
+            for (int i = 0; i < busy; i++) {
+                executor.execute(() -> await(release));
+            }
+            executor.execute(() -> threads.add(Thread.currentThread()));
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    public void rejects_invocations_once_shut_down() {
+        executor.shutdown();
+
+        thrown.expect(RejectedExecutionException.class);
+        thrown.expectMessage("expansion is shut down");
+
+        executor.execute(() -> {});
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package fr.vidal.oss.jax_rs_linker.invocation;
+
+import fr.vidal.oss.jax_rs_linker.api.PathParameters;
+import fr.vidal.oss.jax_rs_linker.model.Route;
+import fr.vidal.oss.jax_rs_linker.model.Router;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+final class ShopIndex implements ResourceIndex {
+
+    static final ResourceLocator NEW_INSTANCES = new ResourceLocator() {
+        @Override
+        public <T> T getResource(Class<T> resourceClass) {
+            try {
+                return resourceClass.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
+    private final Router router = Router.builder()
+        .route(ProductResource.class, ProductResource.class, "self", ShopParameters.class, "/product/{id}")
+        .route(ProductResource.class, BrandResource.class, "brand", ShopParameters.class, "/product/{id}/brand")
+        .route(ProductResource.class, ProductResource.class, "company", ShopParameters.class, "/product/{id}/company")
+        .route(BrandResource.class, BrandResource.class, "self", ShopParameters.class, "/brand/{id}")
+        .route(BrandResource.class, BrandResource.class, "company", ShopParameters.class, "/brand/{id}/company")
+        .build();
+    private final Map<String, ResourceInvoker> invokers = new HashMap<>();
+
+    ShopIndex() {
+        invokers.put("ProductResource#brand", (resources, route) -> {
+            ProductResource resource = resources.getResource(ProductResource.class);
+            int id = Integer.valueOf(route.parameter(ShopParameters.ID));
+            return () -> resource.brand(id);
+        });
+        invokers.put("ProductResource#company", (resources, route) -> {
+            ProductResource resource = resources.getResource(ProductResource.class);
+            int id = Integer.valueOf(route.parameter(ShopParameters.ID));
+            return () -> resource.company(id);
+        });
+        invokers.put("BrandResource#company", (resources, route) -> {
+            BrandResource resource = resources.getResource(BrandResource.class);
+            int id = Integer.valueOf(route.parameter(ShopParameters.ID));
+            return () -> resource.company(id);
+        });
+    }
+
+    @Override
+    public Optional<Route> route(CharSequence path) {
+        return router.route(path);
+    }
+
+    @Override
+    public Optional<ResourceInvoker> invoker(Class<?> resource, String relation) {
+        return Optional.ofNullable(invokers.get(resource.getSimpleName() + "#" + relation));
+    }
+
+    @Override
+    public Optional<String> selfLink(Object entity) {
+        if (entity instanceof Brand) {
+            return Optional.of("/ctx/brand/" + ((Brand) entity).id);
+        }
+        return Optional.empty();
+    }
+
+    public static class ProductResource {
+
+        public Brand brand(int id) {
+            if (id == 13) {
+                throw new IllegalStateException("unlucky");
+            }
+            return new Brand(7);
+        }
+
+        public String company(int id) {
+            return "company of product " + id;
+        }
+    }
+
+    public static class BrandResource {
+
+        public String company(int id) {
+            return "company of brand " + id;
+        }
+    }
+
+    static final class Brand {
+
+        private final int id;
+
+        Brand(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Brand && ((Brand) obj).id == id;
+        }
+    }
+}
+
+enum ShopParameters implements PathParameters {
+    ID;
+
+    @Override
+    public String placeholder() {
+        return "id";
+    }
+
+    @Override
+    public Pattern regex() {
+        return null;
+    }
+}
@@ -0,0 +1,70 @@
+package fr.vidal.oss.jax_rs_linker.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JfrLinkerMetricsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final JfrLinkerMetrics metrics = new JfrLinkerMetrics();
+
+    @Test
+    public void records_renderings_once_enabled() throws Exception {
+        List<RecordedEvent> events = record("fr.vidal.oss.jax_rs_linker.LinkRendering",
+            () -> metrics.rendered("/product/{id}", 1, 1500, "/product/42"));
+
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("template")).isEqualTo("/product/{id}");
+        assertThat(event.getInt("parameterCount")).isEqualTo(1);
+        assertThat(event.getInt("length")).isEqualTo(11);
+        assertThat(event.getDuration("renderingDuration").toNanos()).isEqualTo(1500);
+    }
+
+    @Test
+    public void records_validations_once_enabled() throws Exception {
+        List<RecordedEvent> events = record("fr.vidal.oss.jax_rs_linker.ParameterValidation",
+            () -> metrics.validated("/product/{id}", 300, false));
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getBoolean("valid")).isFalse();
+        assertThat(events.get(0).getDuration("validationDuration").toNanos()).isEqualTo(300);
+    }
+
+    @Test
+    public void records_nothing_by_default() throws Exception {
+        Path file = folder.newFile("default.jfr").toPath();
+        try (Recording recording = new Recording()) {
+            recording.start();
+            metrics.rendered("/product/{id}", 1, 1500, "/product/42");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertThat(RecordingFile.readAllEvents(file))
+            .noneMatch(event -> event.getEventType().getName().startsWith("fr.vidal.oss.jax_rs_linker"));
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws Exception {
+        Path file = folder.newFile().toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+}
@@ -0,0 +1,58 @@
+package fr.vidal.oss.jax_rs_linker.metrics;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CountMinSketchTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void never_underestimates_counts() {
+        CountMinSketch sketch = new CountMinSketch(4, 16);
+
+        for (long key = 0; key < 100; key++) {
+            for (int i = 0; i <= key % 5; i++) {
+                sketch.add(HotLinkSampler.hash("/product/{id}", "/product/" + key));
+            }
+        }
+
+        for (long key = 0; key < 100; key++) {
+            assertThat(sketch.estimate(HotLinkSampler.hash("/product/{id}", "/product/" + key))).isGreaterThanOrEqualTo(key % 5 + 1);
+        }
+    }
+
+    @Test
+    public void counts_exactly_without_collisions() {
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+        long hash = HotLinkSampler.hash("/product/{id}", "/product/42");
+
+        assertThat(sketch.add(hash)).isEqualTo(1);
+        assertThat(sketch.add(hash)).isEqualTo(2);
+        assertThat(sketch.estimate(hash)).isEqualTo(2);
+        assertThat(sketch.estimate(HotLinkSampler.hash("/product/{id}", "/product/43"))).isZero();
+    }
+
+    @Test
+    public void forgets_counts_when_cleared() {
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+        long hash = HotLinkSampler.hash("/product/{id}", "/product/42");
+        sketch.add(hash);
+
+        sketch.clear();
+
+        assertThat(sketch.estimate(hash)).isZero();
+    }
+
+    @Test
+    public void rejects_widths_that_are_not_powers_of_two() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Expected a positive depth and a power of two width, got 4 and 1000");
+
+        new CountMinSketch(4, 1000);
+    }
+}
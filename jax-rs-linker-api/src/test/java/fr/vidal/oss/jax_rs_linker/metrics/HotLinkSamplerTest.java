@@ -0,0 +1,76 @@
+package fr.vidal.oss.jax_rs_linker.metrics;
+
+import fr.vidal.oss.jax_rs_linker.metrics.HotLinkSampler.HotLink;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class HotLinkSamplerTest {
+
+    private final HotLinkSampler sampler = new HotLinkSampler(1, 4, 1024, 2);
+
+    @Test
+    public void ranks_hottest_links_first() {
+        render("/product/{id}", "/product/1", 1);
+        render("/product/{id}", "/product/2", 3);
+        render("/brand/{id}", "/brand/2", 2);
+
+        assertThat(sampler.hottest())
+            .extracting(HotLink::template, HotLink::links, HotLink::estimatedCount)
+            .containsExactly(
+                tuple("/product/{id}", "/product/2", 3L),
+                tuple("/brand/{id}", "/brand/2", 2L));
+    }
+
+    @Test
+    public void lets_a_link_take_over_the_coldest_slot_once_hotter() {
+        render("/product/{id}", "/product/1", 2);
+        render("/product/{id}", "/product/2", 2);
+        render("/product/{id}", "/product/3", 3);
+
+        assertThat(sampler.hottest())
+            .extracting(HotLink::links)
+            .containsExactly("/product/3", "/product/2");
+    }
+
+    @Test
+    public void copies_rendered_links() {
+        StringBuilder links = new StringBuilder("/product/1");
+        sampler.rendered("/product/{id}", 1, 100, links);
+        links.setLength(0);
+        links.append("/product/2");
+
+        assertThat(sampler.hottest()).extracting(HotLink::links).containsExactly("/product/1");
+    }
+
+    @Test
+    public void scales_sampled_counts_back() {
+        HotLinkSampler sampler = new HotLinkSampler(16, 4, 1024, 2);
+
+        for (int i = 0; i < 16_000; i++) {
+            sampler.rendered("/product/{id}", 1, 100, "/product/1");
+        }
+
+        List<HotLink> hottest = sampler.hottest();
+        assertThat(hottest).hasSize(1);
+        assertThat(hottest.get(0).estimatedCount()).isBetween(12_000L, 20_000L).isEqualTo(hottest.get(0).estimatedCount() / 16 * 16);
+    }
+
+    @Test
+    public void forgets_links_when_reset() {
+        render("/product/{id}", "/product/1", 1);
+
+        sampler.reset();
+
+        assertThat(sampler.hottest()).isEmpty();
+    }
+
+    private void render(String template, String link, int times) {
+        for (int i = 0; i < times; i++) {
+            sampler.rendered(template, 1, 100, link);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package fr.vidal.oss.jax_rs_linker.metrics;
+
+import fr.vidal.oss.jax_rs_linker.metrics.InMemoryLinkerMetrics.TemplateMetrics;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InMemoryLinkerMetricsTest {
+
+    private final InMemoryLinkerMetrics metrics = new InMemoryLinkerMetrics();
+
+    @Test
+    public void counts_renderings_and_characters_per_template() {
+        metrics.rendered("/product/{id}", 1, 100, "/product/42");
+        metrics.rendered("/product/{id}", 1, 300, "/product/420");
+        metrics.rendered("/brand/{id}", 1, 50, "/brand/7");
+
+        TemplateMetrics product = metrics.templates().get("/product/{id}");
+        assertThat(product.renderings()).isEqualTo(2);
+        assertThat(product.characters()).isEqualTo(23);
+        assertThat(metrics.templates().get("/brand/{id}").renderings()).isEqualTo(1);
+    }
+
+    @Test
+    public void counts_validation_failures_per_template() {
+        metrics.validated("/product/{id}", 100, false);
+        metrics.validated("/product/{id}", 100, true);
+        metrics.validated("/product/{id}", 100, false);
+
+        TemplateMetrics product = metrics.templates().get("/product/{id}");
+        assertThat(product.validationFailures()).isEqualTo(2);
+        assertThat(product.renderings()).isZero();
+    }
+
+    @Test
+    public void counts_latencies_in_power_of_two_buckets() {
+        metrics.rendered("/product/{id}", 1, 0, "/product/42");
+        metrics.rendered("/product/{id}", 1, 100, "/product/42");
+        metrics.rendered("/product/{id}", 1, 127, "/product/42");
+        metrics.rendered("/product/{id}", 1, 128, "/product/42");
+
+        long[] histogram = metrics.templates().get("/product/{id}").latencyHistogram();
+        assertThat(histogram[0]).isEqualTo(1);
+        assertThat(histogram[7]).isEqualTo(2);
+        assertThat(histogram[8]).isEqualTo(1);
+    }
+
+    @Test
+    public void computes_latency_upper_bounds_of_quantiles() {
+        for (int i = 0; i < 99; i++) {
+            metrics.rendered("/product/{id}", 1, 100, "/product/42");
+        }
+        metrics.rendered("/product/{id}", 1, 5000, "/product/42");
+
+        TemplateMetrics product = metrics.templates().get("/product/{id}");
+        assertThat(product.latencyUpperBound(0.5)).isEqualTo(127);
+        assertThat(product.latencyUpperBound(0.99)).isEqualTo(127);
+        assertThat(product.latencyUpperBound(1)).isEqualTo(8191);
+    }
+
+    @Test
+    public void forgets_templates_when_reset() {
+        metrics.rendered("/product/{id}", 1, 100, "/product/42");
+
+        metrics.reset();
+
+        assertThat(metrics.templates()).isEmpty();
+    }
+}
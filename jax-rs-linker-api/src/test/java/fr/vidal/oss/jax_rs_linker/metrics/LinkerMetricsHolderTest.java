@@ -0,0 +1,55 @@
+package fr.vidal.oss.jax_rs_linker.metrics;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LinkerMetricsHolderTest {
+
+    @Test
+    public void disables_metrics_without_implementation() {
+        assertThat(LinkerMetricsHolder.compose(Collections.emptyList())).isSameAs(NoOpLinkerMetrics.INSTANCE);
+    }
+
+    @Test
+    public void uses_a_single_implementation_as_is() {
+        InMemoryLinkerMetrics metrics = new InMemoryLinkerMetrics();
+
+        assertThat(LinkerMetricsHolder.compose(Collections.singletonList(metrics))).isSameAs(metrics);
+    }
+
+    @Test
+    public void fans_measures_out_to_every_implementation() {
+        InMemoryLinkerMetrics first = new InMemoryLinkerMetrics();
+        InMemoryLinkerMetrics second = new InMemoryLinkerMetrics();
+        LinkerMetrics metrics = LinkerMetricsHolder.compose(Arrays.asList(first, second));
+
+        metrics.rendered("/product/{id}", 1, 100, "/product/42");
+        metrics.validated("/product/{id}", 100, false);
+
+        for (InMemoryLinkerMetrics implementation : Arrays.asList(first, second)) {
+            assertThat(implementation.templates().get("/product/{id}").renderings()).isEqualTo(1);
+            assertThat(implementation.templates().get("/product/{id}").validationFailures()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void finds_registered_implementations_by_type() {
+        InMemoryLinkerMetrics inMemory = new InMemoryLinkerMetrics();
+        HotLinkSampler sampler = new HotLinkSampler();
+        List<LinkerMetrics> metrics = Arrays.asList(inMemory, sampler);
+
+        assertThat(LinkerMetricsHolder.find(metrics, InMemoryLinkerMetrics.class)).containsSame(inMemory);
+        assertThat(LinkerMetricsHolder.find(metrics, HotLinkSampler.class)).containsSame(sampler);
+        assertThat(LinkerMetricsHolder.find(metrics, LinkerMetrics.class)).containsSame(inMemory);
+    }
+
+    @Test
+    public void finds_nothing_when_no_implementation_matches() {
+        assertThat(LinkerMetricsHolder.find(Collections.singletonList(new InMemoryLinkerMetrics()), HotLinkSampler.class)).isEmpty();
+    }
+}
@@ -0,0 +1,85 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import fr.vidal.oss.jax_rs_linker.api.NoPathParameters;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.EnumMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LinkHeadersTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final LinkHeaders headers = LinkHeaders.builder()
+        .link("self", CatalogParameters.class, "/catalog/{region}")
+        .link("brand", CatalogParameters.class, "/catalog/{region}/brand/{brand-id}")
+        .link("catalogNew", NoPathParameters.class, "/catalog/new")
+        .build();
+
+    @Test
+    public void renders_links_with_bound_parameters() {
+        EnumMap<CatalogParameters, String> parameters = new EnumMap<>(CatalogParameters.class);
+        parameters.put(CatalogParameters.REGION, "europe");
+        parameters.put(CatalogParameters.BRAND_ID, "42");
+
+        assertThat(headers.render("/ctx", route(parameters))).isEqualTo(
+            "</ctx/catalog/europe>; rel=\"self\", </ctx/catalog/europe/brand/42>; rel=\"brand\", </ctx/catalog/new>; rel=\"catalogNew\"");
+    }
+
+    @Test
+    public void leaves_links_with_unbound_parameters_out() {
+        EnumMap<CatalogParameters, String> parameters = new EnumMap<>(CatalogParameters.class);
+        parameters.put(CatalogParameters.REGION, "europe");
+
+        assertThat(headers.render("", route(parameters))).isEqualTo(
+            "</catalog/europe>; rel=\"self\", </catalog/new>; rel=\"catalogNew\"");
+    }
+
+    @Test
+    public void percent_encodes_parameter_values() {
+        EnumMap<CatalogParameters, String> parameters = new EnumMap<>(CatalogParameters.class);
+        parameters.put(CatalogParameters.REGION, "Île-de-France");
+        parameters.put(CatalogParameters.BRAND_ID, "a/b>c");
+
+        assertThat(LinkHeaders.builder().link("brand", CatalogParameters.class, "/catalog/{region}/brand/{brand-id}").build()
+            .render("", route(parameters)))
+            .isEqualTo("</catalog/%C3%8Ele-de-France/brand/a%2Fb%3Ec>; rel=\"brand\"");
+    }
+
+    @Test
+    public void renders_hints_as_extra_relation_types() {
+        EnumMap<CatalogParameters, String> parameters = new EnumMap<>(CatalogParameters.class);
+        parameters.put(CatalogParameters.REGION, "europe");
+        LinkHeaders headers = LinkHeaders.builder()
+            .link("self", CatalogParameters.class, "/catalog/{region}")
+            .link("catalogNew", LinkHeaders.Hint.PRELOAD, NoPathParameters.class, "/catalog/new")
+            .link("catalogOld", LinkHeaders.Hint.PREFETCH, NoPathParameters.class, "/catalog/old")
+            .build();
+
+        assertThat(headers.render("", route(parameters))).isEqualTo(
+            "</catalog/europe>; rel=\"self\", </catalog/new>; rel=\"catalogNew preload\"; as=\"fetch\", </catalog/old>; rel=\"catalogOld prefetch\"");
+    }
+
+    @Test
+    public void renders_nothing_without_bound_link() {
+        LinkHeaders headers = LinkHeaders.builder().link("self", CatalogParameters.class, "/catalog/{region}").build();
+
+        assertThat(headers.render("", route(new EnumMap<>(CatalogParameters.class)))).isEmpty();
+    }
+
+    @Test
+    public void fails_to_register_unknown_parameter() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Unknown parameter <id> in </catalog/{id}>");
+
+        LinkHeaders.builder().link("self", CatalogParameters.class, "/catalog/{id}");
+    }
+
+    private static Route route(EnumMap<CatalogParameters, String> parameters) {
+        return new Route(Object.class, Object.class, "self", CatalogParameters.class, parameters);
+    }
+}
@@ -0,0 +1,94 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LinkSetTest {
+
+    private static final String[] RELATIONS = {"self", "brandResource"};
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final LinkSet links = new LinkSet(RELATIONS, "/product/42/product/42/brand", new int[]{11, 28});
+
+    @Test
+    public void exposes_links_by_index() {
+        assertThat(links.size()).isEqualTo(2);
+        assertThat(links.relation(0)).isEqualTo("self");
+        assertThat(links.href(0)).isEqualTo("/product/42");
+        assertThat(links.relation(1)).isEqualTo("brandResource");
+        assertThat(links.href(1)).isEqualTo("/product/42/brand");
+    }
+
+    @Test
+    public void exposes_link_bounds_within_shared_buffer() {
+        assertThat(links.buffer()).isEqualTo("/product/42/product/42/brand");
+        assertThat(links.start(0)).isEqualTo(0);
+        assertThat(links.end(0)).isEqualTo(11);
+        assertThat(links.start(1)).isEqualTo(11);
+        assertThat(links.end(1)).isEqualTo(28);
+    }
+
+    @Test
+    public void writes_links_relative_to_base_path() {
+        LinkSet links = new LinkSet(
+            new String[]{"self", "brandResource", "companyResource", "catalog", "search"},
+            "/ctx/product/42/ctx/product/42/brand/ctx/company/7/ctx/product//ctx/product/42/a:b?q=1",
+            new int[]{15, 36, 50, 63, 86}
+        );
+
+        LinkSet relative = links.relativeTo("/ctx/product/42");
+
+        assertThat(relative.href("self")).isEqualTo("42");
+        assertThat(relative.href("brandResource")).isEqualTo("42/brand");
+        assertThat(relative.href("companyResource")).isEqualTo("../company/7");
+        assertThat(relative.href("catalog")).isEqualTo("./");
+        assertThat(relative.href("search")).isEqualTo("42/a:b?q=1");
+    }
+
+    @Test
+    public void keeps_links_shorter_than_relative_references() {
+        LinkSet links = new LinkSet(new String[]{"self", "external"}, "/brand/7http://example.com/brand/7", new int[]{8, 34});
+
+        LinkSet relative = links.relativeTo("/ctx/product/42/brand");
+
+        assertThat(relative.href("self")).isEqualTo("/brand/7");
+        assertThat(relative.href("external")).isEqualTo("http://example.com/brand/7");
+    }
+
+    @Test
+    public void exposes_links_by_relation() {
+        assertThat(links.href("brandResource")).isEqualTo("/product/42/brand");
+    }
+
+    @Test
+    public void fails_on_unknown_relation() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Unknown relation <companyResource>, expected one of [self, brandResource]");
+
+        links.href("companyResource");
+    }
+
+    @Test
+    public void fails_when_relations_and_ends_do_not_match() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Expected 2 link ends, got 1");
+
+        new LinkSet(RELATIONS, "/product/42", new int[]{11});
+    }
+
+    @Test
+    public void renders_all_links() {
+        assertThat(links.toString()).isEqualTo("LinkSet{self=/product/42, brandResource=/product/42/brand}");
+    }
+
+    @Test
+    public void equals_contract() {
+        EqualsVerifier.forClass(LinkSet.class).verify();
+    }
+}
@@ -0,0 +1,85 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import org.junit.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LinkSignerTest {
+
+    private static final byte[] KEY = "s3cr3t".getBytes(StandardCharsets.UTF_8);
+    private static final Instant NOW = Instant.ofEpochSecond(1_500_000_000L);
+
+    private final LinkSigner signer = new LinkSigner(KEY, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    public void signs_link_with_expiry() throws Exception {
+        String link = signer.sign(download("42"), Duration.ofMinutes(5));
+
+        String message = "/ctx/download/42?label=manual&expires=1500000300";
+        assertThat(link).isEqualTo(message + "&signature=" + hmac(message));
+    }
+
+    @Test
+    public void verifies_signed_links() {
+        assertThat(signer.verify(signer.sign(download("42"), Duration.ofMinutes(5)))).isTrue();
+        assertThat(signer.verify(signer.sign(download("43"), Duration.ofMinutes(5)))).isTrue();
+    }
+
+    @Test
+    public void verifies_links_signed_by_another_instance() {
+        String link = signer.sign(download("42"), Duration.ofMinutes(5));
+
+        assertThat(new LinkSigner(KEY, Clock.fixed(NOW, ZoneOffset.UTC)).verify(link)).isTrue();
+    }
+
+    @Test
+    public void rejects_tampered_links() {
+        String link = signer.sign(download("42"), Duration.ofMinutes(5));
+
+        assertThat(signer.verify(link.replace("/42?", "/43?"))).isFalse();
+        assertThat(signer.verify(link.replace("expires=1500000300", "expires=1600000300"))).isFalse();
+        assertThat(signer.verify(link.substring(0, link.length() - 2))).isFalse();
+        assertThat(signer.verify(link.substring(0, link.indexOf("&signature=")))).isFalse();
+    }
+
+    @Test
+    public void rejects_links_signed_with_another_key() {
+        String link = new LinkSigner("other".getBytes(StandardCharsets.UTF_8), Clock.fixed(NOW, ZoneOffset.UTC))
+            .sign(download("42"), Duration.ofMinutes(5));
+
+        assertThat(signer.verify(link)).isFalse();
+    }
+
+    @Test
+    public void rejects_expired_links() {
+        String link = signer.sign(download("42"), Duration.ofMinutes(5));
+
+        LinkSigner later = new LinkSigner(KEY, Clock.fixed(NOW.plusSeconds(301), ZoneOffset.UTC));
+        assertThat(later.verify(link)).isFalse();
+    }
+
+    private TemplatedUrl<ProductParameters, ProductQueryParameters> download(String id) {
+        return new TemplatedUrl<ProductParameters, ProductQueryParameters>(
+            "/ctx/download/{id}",
+            singletonList(new PathParameter(ClassName.valueOf("int"), "id")),
+            singletonList(new QueryParameter("label")))
+            .replace(ProductParameters.ID, id)
+            .append(ProductQueryParameters.LABEL, "manual");
+    }
+
+    private static String hmac(String message) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(KEY, "HmacSHA256"));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(message.getBytes(StandardCharsets.UTF_8)));
+    }
+}
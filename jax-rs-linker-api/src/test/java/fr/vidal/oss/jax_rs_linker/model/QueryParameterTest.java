@@ -38,6 +38,20 @@ public class QueryParameterTest {
         assertThat(queryParameter.toString()).isEqualTo("QueryParameter{name='Foo'}");
     }
 
+    @Test
+    public void toString_should_include_default_value() {
+        QueryParameter queryParameter = new QueryParameter("Foo", "bar");
+
+        assertThat(queryParameter.toString()).isEqualTo("QueryParameter{name='Foo', defaultValue='bar'}");
+    }
+
+    @Test
+    public void toString_should_include_declared_type() {
+        QueryParameter queryParameter = new QueryParameter(ClassName.valueOf("int"), "Foo", "1");
+
+        assertThat(queryParameter.toString()).isEqualTo("QueryParameter{type='int', name='Foo', defaultValue='1'}");
+    }
+
     @Test
     public void equals_contract() {
         EqualsVerifier.forClass(QueryParameter.class).verify();
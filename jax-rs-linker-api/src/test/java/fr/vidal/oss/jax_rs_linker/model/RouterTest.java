@@ -0,0 +1,139 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import fr.vidal.oss.jax_rs_linker.api.NoPathParameters;
+import fr.vidal.oss.jax_rs_linker.api.PathParameters;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.EnumMap;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RouterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Router router = Router.builder()
+        .route(Catalog.class, Catalog.class, "self", NoPathParameters.class, "/catalog")
+        .route(Catalog.class, Catalog.class, "catalogByRegion", CatalogParameters.class, "/catalog/{region}/")
+        .route(Catalog.class, Catalog.class, "catalogNew", CatalogParameters.class, "/catalog/new")
+        .route(Catalog.class, Catalog.class, "catalogByYear", CatalogParameters.class, "/catalog/{year}")
+        .route(Catalog.class, Brand.class, "brand", CatalogParameters.class, "/catalog/{region}/brand/{brand-id}")
+        .route(Catalog.class, Brand.class, "brandDuplicate", CatalogParameters.class, "/catalog/{region}/brand/{brand-id}")
+        .build();
+
+    @Test
+    public void routes_literal_path() {
+        assertThat(router.route("/catalog")).contains(route(Catalog.class, "self", NoPathParameters.class, new EnumMap<>(NoPathParameters.class)));
+    }
+
+    @Test
+    public void routes_literal_segment_before_placeholder() {
+        assertThat(router.route("/catalog/new").get().relation()).isEqualTo("catalogNew");
+    }
+
+    @Test
+    public void routes_regex_constrained_placeholder_before_unconstrained_one() {
+        assertThat(router.route("/catalog/2019").get().relation()).isEqualTo("catalogByYear");
+        assertThat(router.route("/catalog/europe").get().relation()).isEqualTo("catalogByRegion");
+    }
+
+    @Test
+    public void decodes_path_parameters() {
+        Route route = router.route("/catalog/%C3%8Ele-de-France/brand/a%2Fb+c").get();
+
+        EnumMap<CatalogParameters, String> parameters = new EnumMap<>(CatalogParameters.class);
+        parameters.put(CatalogParameters.REGION, "Île-de-France");
+        parameters.put(CatalogParameters.BRAND_ID, "a/b+c");
+        assertThat(route).isEqualTo(route(Brand.class, "brand", CatalogParameters.class, parameters));
+        assertThat(route.resource()).isEqualTo(Catalog.class);
+        assertThat(route.parameter(CatalogParameters.BRAND_ID)).isEqualTo("a/b+c");
+        assertThat(route.parameters(CatalogParameters.class)).isEqualTo(parameters);
+    }
+
+    @Test
+    public void ignores_empty_segments_query_and_fragment() {
+        assertThat(router.route("//catalog/europe/brand/42/?sort=name#top").get().relation()).isEqualTo("brand");
+    }
+
+    @Test
+    public void does_not_route_unknown_paths() {
+        assertThat(router.route("/")).isEmpty();
+        assertThat(router.route("/catalogue")).isEmpty();
+        assertThat(router.route("/catalog/europe/brand")).isEmpty();
+        assertThat(router.route("/catalog/europe/brand/42/logo")).isEmpty();
+    }
+
+    @Test
+    public void dispatches_literals_sharing_the_same_hash_code() {
+        Router router = Router.builder()
+            .route(Catalog.class, Catalog.class, "aa", NoPathParameters.class, "/Aa")
+            .route(Catalog.class, Catalog.class, "bb", NoPathParameters.class, "/BB")
+            .build();
+
+        assertThat(router.route("/Aa").get().relation()).isEqualTo("aa");
+        assertThat(router.route("/BB").get().relation()).isEqualTo("bb");
+        assertThat(router.route("/C#")).isEmpty();
+    }
+
+    @Test
+    public void fails_to_expose_parameters_of_another_type() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Expected parameters of type <" + CatalogParameters.class.getName() + ">");
+
+        router.route("/catalog/europe").get().parameters(ProductParameters.class);
+    }
+
+    @Test
+    public void fails_to_register_unknown_parameter() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Unknown parameter <id> in </catalog/{id}>");
+
+        Router.builder().route(Catalog.class, Catalog.class, "self", CatalogParameters.class, "/catalog/{id}");
+    }
+
+    @Test
+    public void fails_to_register_placeholder_within_segment() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Unsupported segment <{region}.json> in </catalog/{region}.json>");
+
+        Router.builder().route(Catalog.class, Catalog.class, "self", CatalogParameters.class, "/catalog/{region}.json");
+    }
+
+    private static <P extends Enum<P> & PathParameters> Route route(Class<?> target, String relation, Class<P> parametersType, EnumMap<P, String> parameters) {
+        return new Route(Catalog.class, target, relation, parametersType, parameters);
+    }
+
+    private static class Catalog {
+    }
+
+    private static class Brand {
+    }
+}
+
+enum CatalogParameters implements PathParameters {
+    BRAND_ID("brand-id", null),
+    REGION("region", null),
+    YEAR("year", Pattern.compile("[0-9]{4}"));
+
+    private final String placeholder;
+    private final Pattern regex;
+
+    CatalogParameters(String placeholder, Pattern regex) {
+        this.placeholder = placeholder;
+        this.regex = regex;
+    }
+
+    @Override
+    public String placeholder() {
+        return placeholder;
+    }
+
+    @Override
+    public Pattern regex() {
+        return regex;
+    }
+}
@@ -8,9 +8,12 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import static fr.vidal.oss.jax_rs_linker.model.ProductQueryParameters.LABEL;
+import static fr.vidal.oss.jax_rs_linker.model.ProductQueryParameters.SORT;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -101,6 +104,132 @@ public class TemplatedUrlTest {
         ).isEqualTo("/product/42?label=bleue&label=rouge");
     }
 
+    @Test
+    public void leaves_out_query_parameters_equal_to_their_default_value() throws Exception {
+        TemplatedUrl<ProductParameters, ProductQueryParameters> templatedUrl = templatedUrl(
+            "/product/{id}",
+            singletonList(pathParameter(className("int"), "id")),
+            asList(new QueryParameter("label", "bleue"), new QueryParameter("sort", "name")))
+            .replace(ProductParameters.ID, "42")
+            .appendUnlessDefault(LABEL, "bleue")
+            .appendUnlessDefault(SORT, "price");
+
+        assertThat(templatedUrl.value()).isEqualTo("/product/42?sort=price");
+        assertThat(templatedUrl.canonicalValue()).isEqualTo("/product/42?sort=price");
+        assertThat(templatedUrl.appendTo(new StringBuilder()).toString()).isEqualTo("/product/42?sort=price");
+    }
+
+    @Test
+    public void keeps_appended_query_parameters_equal_to_their_default_value() throws Exception {
+        TemplatedUrl<ProductParameters, ProductQueryParameters> templatedUrl = templatedUrl(
+            "/product/{id}",
+            singletonList(pathParameter(className("int"), "id")),
+            asList(new QueryParameter("label", "bleue"), new QueryParameter("sort", "name")))
+            .replace(ProductParameters.ID, "42")
+            .append(LABEL, "bleue")
+            .append(SORT, "price");
+
+        assertThat(templatedUrl.value()).isEqualTo("/product/42?label=bleue&sort=price");
+    }
+
+    @Test
+    public void appends_value_to_existing_characters() throws Exception {
+        TemplatedUrl<ProductParameters, ProductQueryParameters> templatedUrl = templatedUrl(
+            "/product/{id}",
+            singletonList(pathParameter(className("int"), "id")),
+            singletonList(queryParameter("label")));
+
+        StringBuilder result = templatedUrl
+            .replace(ProductParameters.ID, "42")
+            .appendAll(LABEL, asList("bleue", "rouge"))
+            .appendTo(new StringBuilder("http://example.com"));
+
+        assertThat(result.toString()).isEqualTo("http://example.com/product/42?label=bleue&label=rouge");
+    }
+
+    @Test
+    public void fails_to_append_value_with_unreplaced_parameters() throws Exception {
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("Parameters to replace: id");
+
+        templatedUrl("/product/{id}", singletonList(pathParameter(className("int"), "id")))
+            .appendTo(new StringBuilder());
+    }
+
+    @Test
+    public void renders_canonical_value_whatever_the_order_of_appended_parameters() {
+        TemplatedUrl<ProductParameters, ProductQueryParameters> templatedUrl = templatedUrl(
+            "/product/{id}",
+            singletonList(pathParameter(className("int"), "id")),
+            asList(queryParameter("sort"), queryParameter("label")))
+            .replace(ProductParameters.ID, "42");
+
+        assertThat(templatedUrl.append(SORT, "price").append(LABEL, "bleue").canonicalValue())
+            .isEqualTo("/product/42?label=bleue&sort=price");
+    }
+
+    @Test
+    public void renders_canonical_value_without_repeated_values() {
+        TemplatedUrl<ProductParameters, ProductQueryParameters> templatedUrl = templatedUrl(
+            "/product/{id}",
+            singletonList(pathParameter(className("int"), "id")),
+            singletonList(queryParameter("label")));
+
+        assertThat(templatedUrl
+            .replace(ProductParameters.ID, "42")
+            .appendAll(LABEL, asList("rouge", "bleue", "rouge", "bleu%20ciel", "bleu ciel"))
+            .canonicalValue()
+        ).isEqualTo("/product/42?label=rouge&label=bleue&label=bleu%20ciel");
+    }
+
+    @Test
+    public void renders_canonical_value_with_normalized_encoding() {
+        TemplatedUrl<ProductParameters, ProductQueryParameters> templatedUrl = templatedUrl(
+            "/product/{id}",
+            singletonList(pathParameter(className("int"), "id")),
+            singletonList(queryParameter("label")));
+
+        assertThat(templatedUrl
+            .replace(ProductParameters.ID, "42")
+            .appendAll(LABEL, asList("%7e%2f", "vert&or", "\u00e9t\u00e9"))
+            .canonicalValue()
+        ).isEqualTo("/product/42?label=~%2F&label=vert%26or&label=%C3%A9t%C3%A9");
+    }
+
+    @Test
+    public void renders_uri_template_with_remaining_parameters() {
+        TemplatedUrl<ProductParameters, ProductQueryParameters> templatedUrl = templatedUrl(
+            "/product/{id}",
+            singletonList(pathParameter(className("int"), "id")),
+            asList(queryParameter("label"), queryParameter("sort-by")));
+
+        assertThat(templatedUrl.template()).isEqualTo("/product/{id}{?label*,sort%2Dby*}");
+    }
+
+    @Test
+    public void renders_uri_template_continuing_bound_query_parameters() {
+        TemplatedUrl<ProductParameters, ProductQueryParameters> templatedUrl = templatedUrl(
+            "/product/{id}",
+            singletonList(pathParameter(className("int"), "id")),
+            asList(queryParameter("label"), queryParameter("sort")));
+
+        assertThat(templatedUrl.append(LABEL, "bleue").template()).isEqualTo("/product/{id}?label=bleue{&sort*}");
+    }
+
+    @Test
+    public void renders_uri_template_expanding_to_value() {
+        TemplatedUrl<ProductParameters, ProductQueryParameters> templatedUrl = templatedUrl(
+            "/product/{id}",
+            singletonList(pathParameter(className("int"), "id")),
+            singletonList(queryParameter("label")));
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("id", 42);
+        variables.put("label", asList("bleue", "rouge"));
+
+        assertThat(UriTemplate.parse(templatedUrl.template()).expand(variables))
+            .isEqualTo(templatedUrl.replace(ProductParameters.ID, "42").appendAll(LABEL, asList("bleue", "rouge")).value());
+    }
+
     private TemplatedUrl<ProductParameters, NoQueryParameters> templatedUrl(String path, Collection<PathParameter> parameters) {
         return new TemplatedUrl<>(path, parameters, emptyList());
     }
@@ -137,7 +266,8 @@ enum ProductParameters implements PathParameters {
 }
 
 enum ProductQueryParameters implements QueryParameters {
-    LABEL("label");
+    LABEL("label"),
+    SORT("sort");
 
     private final String value;
 
@@ -0,0 +1,49 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UriComponentsTest {
+
+    @Test
+    public void encodes_path_segments() {
+        StringBuilder link = new StringBuilder("/product/");
+
+        UriComponents.appendPathSegment(link, "bleu ciel/été;v=2");
+
+        assertThat(link.toString()).isEqualTo("/product/bleu%20ciel%2F%C3%A9t%C3%A9;v=2");
+    }
+
+    @Test
+    public void appends_query_parameters_with_their_separator() {
+        StringBuilder link = new StringBuilder("/product");
+
+        char separator = UriComponents.appendQueryParameter(link, '?', "label", "vert&or");
+        separator = UriComponents.appendQueryParameter(link, separator, "page", 2);
+
+        assertThat(link.toString()).isEqualTo("/product?label=vert%26or&page=2");
+        assertThat(separator).isEqualTo('&');
+    }
+
+    @Test
+    public void appends_query_parameter_once_per_value() {
+        StringBuilder link = new StringBuilder("/product");
+
+        char separator = UriComponents.appendQueryParameter(link, '?', "tag", asList("a", null, "b"));
+        UriComponents.appendQueryParameter(link, separator, "color", new String[]{"red"});
+
+        assertThat(link.toString()).isEqualTo("/product?tag=a&tag=b&color=red");
+    }
+
+    @Test
+    public void leaves_null_query_parameters_out() {
+        StringBuilder link = new StringBuilder("/product");
+
+        char separator = UriComponents.appendQueryParameter(link, '?', "label", null);
+
+        assertThat(link.toString()).isEqualTo("/product");
+        assertThat(separator).isEqualTo('?');
+    }
+}
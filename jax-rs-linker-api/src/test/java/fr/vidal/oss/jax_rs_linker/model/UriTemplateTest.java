@@ -0,0 +1,167 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UriTemplateTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Map<String, Object> variables = rfcVariables();
+
+    @Test
+    public void expands_simple_strings() {
+        assertThat(expand("{var}")).isEqualTo("value");
+        assertThat(expand("{hello}")).isEqualTo("Hello%20World%21");
+        assertThat(expand("{half}")).isEqualTo("50%25");
+        assertThat(expand("O{empty}X")).isEqualTo("OX");
+        assertThat(expand("O{undef}X")).isEqualTo("OX");
+        assertThat(expand("{x,y}")).isEqualTo("1024,768");
+        assertThat(expand("{x,hello,y}")).isEqualTo("1024,Hello%20World%21,768");
+        assertThat(expand("?{x,empty}")).isEqualTo("?1024,");
+        assertThat(expand("?{x,undef}")).isEqualTo("?1024");
+        assertThat(expand("{var:3}")).isEqualTo("val");
+        assertThat(expand("{var:30}")).isEqualTo("value");
+        assertThat(expand("{list}")).isEqualTo("red,green,blue");
+        assertThat(expand("{list*}")).isEqualTo("red,green,blue");
+        assertThat(expand("{keys}")).isEqualTo("semi,%3B,dot,.,comma,%2C");
+        assertThat(expand("{keys*}")).isEqualTo("semi=%3B,dot=.,comma=%2C");
+    }
+
+    @Test
+    public void expands_reserved_strings() {
+        assertThat(expand("{+path}/here")).isEqualTo("/foo/bar/here");
+        assertThat(expand("{+hello}")).isEqualTo("Hello%20World!");
+        assertThat(expand("{+half}")).isEqualTo("50%25");
+        assertThat(expand("{base}index")).isEqualTo("http%3A%2F%2Fexample.com%2Fhome%2Findex");
+        assertThat(expand("{+base}index")).isEqualTo("http://example.com/home/index");
+        assertThat(expand("{+path:6}/here")).isEqualTo("/foo/b/here");
+        assertThat(expand("{+keys*}")).isEqualTo("semi=;,dot=.,comma=,");
+    }
+
+    @Test
+    public void expands_fragments() {
+        assertThat(expand("{#var}")).isEqualTo("#value");
+        assertThat(expand("{#hello}")).isEqualTo("#Hello%20World!");
+        assertThat(expand("{#path:6}/here")).isEqualTo("#/foo/b/here");
+        assertThat(expand("{#list*}")).isEqualTo("#red,green,blue");
+    }
+
+    @Test
+    public void expands_labels_and_path_segments() {
+        assertThat(expand("X{.var}")).isEqualTo("X.value");
+        assertThat(expand("X{.x,y}")).isEqualTo("X.1024.768");
+        assertThat(expand("X{.list*}")).isEqualTo("X.red.green.blue");
+        assertThat(expand("X{.empty_keys}")).isEqualTo("X");
+        assertThat(expand("{/var}")).isEqualTo("/value");
+        assertThat(expand("{/var,x}/here")).isEqualTo("/value/1024/here");
+        assertThat(expand("{/var:1,var}")).isEqualTo("/v/value");
+        assertThat(expand("{/list*,path:4}")).isEqualTo("/red/green/blue/%2Ffoo");
+        assertThat(expand("{/keys*}")).isEqualTo("/semi=%3B/dot=./comma=%2C");
+    }
+
+    @Test
+    public void expands_path_style_parameters() {
+        assertThat(expand("{;x,y}")).isEqualTo(";x=1024;y=768");
+        assertThat(expand("{;x,y,empty}")).isEqualTo(";x=1024;y=768;empty");
+        assertThat(expand("{;hello:5}")).isEqualTo(";hello=Hello");
+        assertThat(expand("{;list}")).isEqualTo(";list=red,green,blue");
+        assertThat(expand("{;list*}")).isEqualTo(";list=red;list=green;list=blue");
+        assertThat(expand("{;keys*}")).isEqualTo(";semi=%3B;dot=.;comma=%2C");
+    }
+
+    @Test
+    public void expands_form_style_queries() {
+        assertThat(expand("{?x,y}")).isEqualTo("?x=1024&y=768");
+        assertThat(expand("{?x,y,empty}")).isEqualTo("?x=1024&y=768&empty=");
+        assertThat(expand("{?x,y,undef}")).isEqualTo("?x=1024&y=768");
+        assertThat(expand("{?list}")).isEqualTo("?list=red,green,blue");
+        assertThat(expand("{?list*}")).isEqualTo("?list=red&list=green&list=blue");
+        assertThat(expand("{?keys}")).isEqualTo("?keys=semi,%3B,dot,.,comma,%2C");
+        assertThat(expand("{?keys*}")).isEqualTo("?semi=%3B&dot=.&comma=%2C");
+        assertThat(expand("?fixed=yes{&x}")).isEqualTo("?fixed=yes&x=1024");
+        assertThat(expand("{&x,y,empty}")).isEqualTo("&x=1024&y=768&empty=");
+    }
+
+    @Test
+    public void looks_percent_encoded_variable_names_up_decoded() {
+        UriTemplate template = UriTemplate.parse("/customer/{customer%2Did}{?sort%2Dby*}");
+
+        assertThat(template.variableNames()).containsExactly("customer-id", "sort-by");
+        Map<String, Object> values = new HashMap<>();
+        values.put("customer-id", "é");
+        values.put("sort-by", asList("name", "date"));
+        assertThat(template.expand(values)).isEqualTo("/customer/%C3%A9?sort%2Dby=name&sort%2Dby=date");
+    }
+
+    @Test
+    public void encodes_variable_names() {
+        assertThat(UriTemplate.variableName("id")).isEqualTo("id");
+        assertThat(UriTemplate.variableName("customer-id")).isEqualTo("customer%2Did");
+        assertThat(UriTemplate.variableName("a.b_c")).isEqualTo("a.b_c");
+    }
+
+    @Test
+    public void treats_empty_lists_as_undefined() {
+        assertThat(UriTemplate.parse("/product{?label*}").expand(singletonMap("label", emptyList())))
+            .isEqualTo("/product");
+    }
+
+    @Test
+    public void fails_on_unclosed_expression() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Unclosed expression at 9 in </product/{id>");
+
+        UriTemplate.parse("/product/{id");
+    }
+
+    @Test
+    public void fails_on_invalid_prefix() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Invalid prefix modifier <var:0> in <{var:0}>");
+
+        UriTemplate.parse("{var:0}");
+    }
+
+    @Test
+    public void is_equal_to_template_with_same_text() {
+        assertThat(UriTemplate.parse("/product/{id}"))
+            .isEqualTo(UriTemplate.parse("/product/{id}"))
+            .hasToString("/product/{id}");
+    }
+
+    private String expand(String template) {
+        return UriTemplate.parse(template).expand(variables);
+    }
+
+    private static Map<String, Object> rfcVariables() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("var", "value");
+        variables.put("hello", "Hello World!");
+        variables.put("half", "50%");
+        variables.put("empty", "");
+        variables.put("x", "1024");
+        variables.put("y", 768);
+        variables.put("path", "/foo/bar");
+        variables.put("base", "http://example.com/home/");
+        variables.put("list", asList("red", "green", "blue"));
+        Map<String, String> keys = new LinkedHashMap<>();
+        keys.put("semi", ";");
+        keys.put("dot", ".");
+        keys.put("comma", ",");
+        variables.put("keys", keys);
+        variables.put("empty_keys", new HashMap<>());
+        return variables;
+    }
+}
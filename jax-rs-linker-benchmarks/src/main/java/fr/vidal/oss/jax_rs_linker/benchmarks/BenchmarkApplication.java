@@ -0,0 +1,15 @@
+package fr.vidal.oss.jax_rs_linker.benchmarks;
+
+import fr.vidal.oss.jax_rs_linker.api.ExposedApplication;
+
+import javax.ws.rs.ApplicationPath;
+import javax.ws.rs.core.Application;
+
+/**
+ * Never deployed: the context path of the generated linkers stays empty, as does the one of Jersey's
+ * {@code UriBuilder.fromResource}, so that both render the same links.
+ */
+@ApplicationPath("rest")
+@ExposedApplication
+public class BenchmarkApplication extends Application {
+}
@@ -0,0 +1,19 @@
+package fr.vidal.oss.jax_rs_linker.benchmarks;
+
+
+import fr.vidal.oss.jax_rs_linker.api.Self;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+@Path("/brand")
+public class BrandResource {
+
+    @Self
+    @Path("/{id}")
+    @GET
+    public String getById(@PathParam("id") int id) {
+        return "Brand " + String.valueOf(id);
+    }
+}
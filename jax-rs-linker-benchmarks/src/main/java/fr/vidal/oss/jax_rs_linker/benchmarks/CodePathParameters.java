@@ -0,0 +1,30 @@
+package fr.vidal.oss.jax_rs_linker.benchmarks;
+
+import fr.vidal.oss.jax_rs_linker.api.PathParameters;
+
+import java.util.regex.Pattern;
+
+/**
+ * A regex-constrained parameter, as generated for {@code @Path("/code/{code: [A-Z]{3}\\d+}")}.
+ */
+public enum CodePathParameters implements PathParameters {
+    CODE("code", Pattern.compile("[A-Z]{3}\\d+"));
+
+    private final String placeholder;
+    private final Pattern regex;
+
+    CodePathParameters(String placeholder, Pattern regex) {
+        this.placeholder = placeholder;
+        this.regex = regex;
+    }
+
+    @Override
+    public String placeholder() {
+        return placeholder;
+    }
+
+    @Override
+    public Pattern regex() {
+        return regex;
+    }
+}
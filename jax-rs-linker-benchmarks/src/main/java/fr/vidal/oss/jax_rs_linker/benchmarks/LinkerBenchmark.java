@@ -0,0 +1,93 @@
+package fr.vidal.oss.jax_rs_linker.benchmarks;
+
+import fr.vidal.oss.jax_rs_linker.model.LinkSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.ws.rs.core.UriBuilder;
+import java.util.concurrent.TimeUnit;
+
+import static fr.vidal.oss.jax_rs_linker.benchmarks.BrandResourceLinker.brandResourceLinker;
+import static fr.vidal.oss.jax_rs_linker.benchmarks.CompanyResourceLinker.companyResourceLinker;
+import static fr.vidal.oss.jax_rs_linker.benchmarks.ProductResourceLinker.productResourceLinker;
+import static fr.vidal.oss.jax_rs_linker.benchmarks.ProductResourceQueryParameters.Q_PARAMETER;
+
+/**
+ * Generated linker methods of the integration test resources, against the same links built with
+ * Jersey's {@link UriBuilder}, which reads the {@code @Path} annotations at runtime.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class LinkerBenchmark {
+
+    private final String id = "42";
+    private final Product product = new Product(42, true);
+
+    @Benchmark
+    public String productSelf() {
+        return productResourceLinker().self().replace(ProductResourcePathParameters.ID, id).value();
+    }
+
+    @Benchmark
+    public String productSelfWithJersey() {
+        return UriBuilder.fromResource(ProductResource.class).path(ProductResource.class, "getById").build(id).toString();
+    }
+
+    @Benchmark
+    public String productCompany() {
+        return productResourceLinker().relatedCompanyResource()
+            .replace(ProductResourcePathParameters.ID, id)
+            .append(Q_PARAMETER, "true")
+            .value();
+    }
+
+    @Benchmark
+    public String productCompanyWithJersey() {
+        return UriBuilder.fromResource(ProductResource.class)
+            .path(ProductResource.class, "getCompanyByProductId")
+            .queryParam("qParameter", true)
+            .build(id)
+            .toString();
+    }
+
+    @Benchmark
+    public LinkSet productLinks() {
+        return productResourceLinker().links(product.getId());
+    }
+
+    @Benchmark
+    public LinkSet productEntityLinks() {
+        return productResourceLinker().links(product);
+    }
+
+    @Benchmark
+    public String brandSelf() {
+        return brandResourceLinker().self().replace(BrandResourcePathParameters.ID, id).value();
+    }
+
+    @Benchmark
+    public String brandSelfWithJersey() {
+        return UriBuilder.fromResource(BrandResource.class).path(BrandResource.class, "getById").build(id).toString();
+    }
+
+    @Benchmark
+    public String companySelf() {
+        return companyResourceLinker().self().replace(CompanyResourcePathParameters.ID, id).value();
+    }
+
+    @Benchmark
+    public String companySelfWithJersey() {
+        return UriBuilder.fromResource(CompanyResource.class).path(CompanyResource.class, "getById").build(id).toString();
+    }
+}
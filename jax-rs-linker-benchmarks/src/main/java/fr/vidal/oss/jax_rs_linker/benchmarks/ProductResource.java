@@ -0,0 +1,37 @@
+package fr.vidal.oss.jax_rs_linker.benchmarks;
+
+import fr.vidal.oss.jax_rs_linker.api.Binding;
+import fr.vidal.oss.jax_rs_linker.api.LinkedEntity;
+import fr.vidal.oss.jax_rs_linker.api.Self;
+import fr.vidal.oss.jax_rs_linker.api.SubResource;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+
+@Path("/product")
+@LinkedEntity(value = Product.class, bindings = @Binding(parameter = "qParameter", accessor = "isDiscontinued"))
+public class ProductResource {
+
+    @Self
+    @Path("/{id}")
+    @GET
+    public String getById(@PathParam("id") int id) {
+        return "Product " + String.valueOf(id);
+    }
+
+    @SubResource(BrandResource.class)
+    @Path("/{id}/brand")
+    @GET
+    public String getBrandByProductId(@PathParam("id") int productId) {
+        return "Brand for Product " + String.valueOf(productId);
+    }
+
+    @SubResource(CompanyResource.class)
+    @Path("/{id}/company")
+    @GET
+    public String getCompanyByProductId(@PathParam("id") int productId, @QueryParam("qParameter") boolean qParameter) {
+        return "Company for Product " + productId;
+    }
+}
@@ -0,0 +1,50 @@
+package fr.vidal.oss.jax_rs_linker.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static fr.vidal.oss.jax_rs_linker.functions.QueryParametersToQueryString.TO_QUERY_STRING;
+import static java.util.Arrays.asList;
+
+/**
+ * Query string rendering, depending on the number of parameters, each one bound to two values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class QueryStringBenchmark {
+
+    @Param({"1", "4", "16"})
+    private int parameters;
+
+    private final Map<String, Collection<String>> queryParameters = new LinkedHashMap<>();
+
+    @Setup
+    public void prepare() {
+        for (int i = 0; i < parameters; i++) {
+            queryParameters.put("parameter" + i, asList("value" + i, String.valueOf(i)));
+        }
+    }
+
+    @Benchmark
+    public String queryString() {
+        return TO_QUERY_STRING.apply(queryParameters);
+    }
+}
@@ -0,0 +1,53 @@
+package fr.vidal.oss.jax_rs_linker.benchmarks;
+
+import fr.vidal.oss.jax_rs_linker.api.NoQueryParameters;
+import fr.vidal.oss.jax_rs_linker.base.Preconditions;
+import fr.vidal.oss.jax_rs_linker.model.ClassName;
+import fr.vidal.oss.jax_rs_linker.model.PathParameter;
+import fr.vidal.oss.jax_rs_linker.model.QueryParameter;
+import fr.vidal.oss.jax_rs_linker.model.TemplatedUrl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static fr.vidal.oss.jax_rs_linker.benchmarks.CodePathParameters.CODE;
+
+/**
+ * Checks of path parameter values against their regex, alone and as part of {@link TemplatedUrl#replace}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RegexValidationBenchmark {
+
+    private static final String TEMPLATE = "/code/{code}";
+
+    private final String code = "ABC123";
+    private final TemplatedUrl<CodePathParameters, NoQueryParameters> constrained = new TemplatedUrl<>(
+        TEMPLATE,
+        Collections.singletonList(new PathParameter(ClassName.valueOf("java.lang.String"), "code")),
+        Collections.<QueryParameter>emptyList());
+
+    @Benchmark
+    public String checkParameterValue() {
+        Preconditions.checkParameterValue(TEMPLATE, CODE.regex(), code);
+        return code;
+    }
+
+    @Benchmark
+    public TemplatedUrl<CodePathParameters, NoQueryParameters> replaceConstrained() {
+        return constrained.replace(CODE, code);
+    }
+}
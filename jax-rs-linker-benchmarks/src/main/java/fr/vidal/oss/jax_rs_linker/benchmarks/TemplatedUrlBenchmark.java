@@ -0,0 +1,67 @@
+package fr.vidal.oss.jax_rs_linker.benchmarks;
+
+import fr.vidal.oss.jax_rs_linker.api.NoQueryParameters;
+import fr.vidal.oss.jax_rs_linker.model.TemplatedUrl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static fr.vidal.oss.jax_rs_linker.benchmarks.ProductResourceLinker.productResourceLinker;
+import static fr.vidal.oss.jax_rs_linker.benchmarks.ProductResourcePathParameters.ID;
+import static fr.vidal.oss.jax_rs_linker.benchmarks.ProductResourceQueryParameters.Q_PARAMETER;
+
+/**
+ * Each step of rendering a link through the fluent API, on templates generated for {@link ProductResource}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TemplatedUrlBenchmark {
+
+    private final String id = "42";
+    private final TemplatedUrl<ProductResourcePathParameters, NoQueryParameters> self = productResourceLinker().self();
+    private final TemplatedUrl<ProductResourcePathParameters, ProductResourceQueryParameters> company = productResourceLinker().relatedCompanyResource();
+    private final TemplatedUrl<ProductResourcePathParameters, ProductResourceQueryParameters> companyOf42 = company.replace(ID, id);
+    private final TemplatedUrl<ProductResourcePathParameters, ProductResourceQueryParameters> renderableCompany = companyOf42.append(Q_PARAMETER, "true");
+
+    @Benchmark
+    public TemplatedUrl<ProductResourcePathParameters, ProductResourceQueryParameters> replace() {
+        return company.replace(ID, id);
+    }
+
+    @Benchmark
+    public TemplatedUrl<ProductResourcePathParameters, ProductResourceQueryParameters> append() {
+        return companyOf42.append(Q_PARAMETER, "true");
+    }
+
+    @Benchmark
+    public String value() {
+        return renderableCompany.value();
+    }
+
+    @Benchmark
+    public String selfLink() {
+        return productResourceLinker().self().replace(ID, id).value();
+    }
+
+    @Benchmark
+    public String companyLink() {
+        return productResourceLinker().relatedCompanyResource().replace(ID, id).append(Q_PARAMETER, "true").value();
+    }
+
+    @Benchmark
+    public String selfLinkFromTemplate() {
+        return self.replace(ID, id).value();
+    }
+}
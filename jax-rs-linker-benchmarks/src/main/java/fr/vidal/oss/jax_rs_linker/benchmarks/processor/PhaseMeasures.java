@@ -0,0 +1,100 @@
+package fr.vidal.oss.jax_rs_linker.benchmarks.processor;
+
+import fr.vidal.oss.jax_rs_linker.jfr.ProcessorPhases;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Measures each processing phase, rounds being summed up: wall time, bytes allocated by the compiling thread
+ * and peak heap usage. The peak is the sum of the peaks of the heap pools, reset when the phase starts,
+ * and thus an upper bound of the actual peak.
+ */
+final class PhaseMeasures implements ProcessorPhases.Listener {
+
+    private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final List<MemoryPoolMXBean> heapPools = heapPools();
+    private final Map<String, Measure> measures = new LinkedHashMap<>();
+
+    private long startNanos;
+    private long startAllocatedBytes;
+
+    @Override
+    public void started(String phase, int round) {
+        for (MemoryPoolMXBean pool : heapPools) {
+            pool.resetPeakUsage();
+        }
+        startAllocatedBytes = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void finished(String phase, int round) {
+        long durationNanos = System.nanoTime() - startNanos;
+        long allocatedBytes = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - startAllocatedBytes;
+        long peakHeapBytes = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            peakHeapBytes += pool.getPeakUsage().getUsed();
+        }
+        measures.computeIfAbsent(phase, key -> new Measure()).add(durationNanos, allocatedBytes, peakHeapBytes);
+    }
+
+    Map<String, Measure> measures() {
+        return Collections.unmodifiableMap(measures);
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        List<MemoryPoolMXBean> pools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pools.add(pool);
+            }
+        }
+        return pools;
+    }
+
+    static final class Measure {
+
+        private int rounds;
+        private long durationNanos;
+        private long allocatedBytes;
+        private long peakHeapBytes;
+
+        private void add(long durationNanos, long allocatedBytes, long peakHeapBytes) {
+            this.rounds++;
+            this.durationNanos += durationNanos;
+            this.allocatedBytes += allocatedBytes;
+            this.peakHeapBytes = Math.max(this.peakHeapBytes, peakHeapBytes);
+        }
+
+        int rounds() {
+            return rounds;
+        }
+
+        long durationNanos() {
+            return durationNanos;
+        }
+
+        long allocatedBytes() {
+            return allocatedBytes;
+        }
+
+        long peakHeapBytes() {
+            return peakHeapBytes;
+        }
+
+        @Override
+        public String toString() {
+            return format("Measure{rounds=%d, durationNanos=%d, allocatedBytes=%d, peakHeapBytes=%d}",
+                rounds, durationNanos, allocatedBytes, peakHeapBytes);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package fr.vidal.oss.jax_rs_linker.benchmarks.processor;
+
+import fr.vidal.oss.jax_rs_linker.LinkerAnnotationProcessor;
+import fr.vidal.oss.jax_rs_linker.benchmarks.processor.PhaseMeasures.Measure;
+import fr.vidal.oss.jax_rs_linker.jfr.ProcessorPhases;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+import static java.util.Collections.singletonList;
+
+/**
+ * Runs {@link LinkerAnnotationProcessor} over synthetic APIs of growing sizes and reports, for each processing phase,
+ * wall time, allocation and peak heap, so that scaling regressions show up before they hit large code bases:
+ * <pre>
+ * java -cp jax-rs-linker-benchmarks/target/benchmarks.jar \
+ *     fr.vidal.oss.jax_rs_linker.benchmarks.processor.ProcessorScalability 250 1000 3000
+ * </pre>
+ * Each argument is a number of resources, 250, 1000 and 3000 by default. The shape of the API is set with
+ * {@code -Dedges.per.resource} (2), {@code -Dbean.param.depth} (2) and {@code -Dregex.every} (4), and the number
+ * of measured compilations per size, after a warm-up one, with {@code -Druns} (3): the median one is reported.
+ *
+ * Sources are only processed ({@code -proc:only}), javac's own parsing and attribution being part of the total.
+ * Must run on a JDK.
+ */
+public final class ProcessorScalability {
+
+    private static final List<String> PROCESSOR_OPTIONS = Arrays.asList(
+        "-Agraph=true", "-Arouter", "-Aexpand", "-Abatch", "-AlinkHeaders", "-AclientLinks");
+
+    private ProcessorScalability() {
+        // Hide me!
+    }
+
+    public static void main(String[] args) throws IOException {
+        int edgesPerResource = Integer.getInteger("edges.per.resource", 2);
+        int beanParamDepth = Integer.getInteger("bean.param.depth", 2);
+        int regexEvery = Integer.getInteger("regex.every", 4);
+        int runs = Integer.getInteger("runs", 3);
+        String[] sizes = args.length == 0 ? new String[]{"250", "1000", "3000"} : args;
+
+        System.out.println(format("%-10s %-8s %-10s %6s %10s %14s %14s",
+            "resources", "edges", "phase", "rounds", "wall (ms)", "alloc (MB)", "peak heap (MB)"));
+        for (String size : sizes) {
+            int resources = Integer.parseInt(size);
+            SyntheticApi api = new SyntheticApi(resources, resources * edgesPerResource, beanParamDepth, regexEvery);
+            compile(api);
+            List<Run> measuredRuns = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                System.gc();
+                measuredRuns.add(compile(api));
+            }
+            measuredRuns.sort(Comparator.comparingLong(Run::totalNanos));
+            print(resources, resources * edgesPerResource, measuredRuns.get(measuredRuns.size() / 2));
+        }
+    }
+
+    static Run compile(SyntheticApi api) throws IOException {
+        Path output = Files.createTempDirectory("synthetic-api");
+        PhaseMeasures measures = new PhaseMeasures();
+        try {
+            List<String> options = new ArrayList<>(Arrays.asList(
+                "-proc:only",
+                "-d", output.toString(),
+                "-s", output.toString()));
+            options.addAll(PROCESSOR_OPTIONS);
+            long totalNanos = SyntheticCompiler.compile(api, options, singletonList(new LinkerAnnotationProcessor(new ProcessorPhases(measures))));
+            return new Run(totalNanos, measures.measures());
+        } finally {
+            SyntheticCompiler.delete(output);
+        }
+    }
+
+    private static void print(int resources, int edges, Run run) {
+        for (Map.Entry<String, Measure> phase : run.phases().entrySet()) {
+            Measure measure = phase.getValue();
+            System.out.println(format("%-10d %-8d %-10s %6d %10.1f %14.1f %14.1f",
+                resources, edges, phase.getKey(), measure.rounds(),
+                measure.durationNanos() / 1e6, measure.allocatedBytes() / 1e6, measure.peakHeapBytes() / 1e6));
+        }
+        System.out.println(format("%-10d %-8d %-10s %6s %10.1f", resources, edges, "javac", "", run.totalNanos() / 1e6));
+    }
+
+    static final class Run {
+
+        private final long totalNanos;
+        private final Map<String, Measure> phases;
+
+        private Run(long totalNanos, Map<String, Measure> phases) {
+            this.totalNanos = totalNanos;
+            this.phases = phases;
+        }
+
+        long totalNanos() {
+            return totalNanos;
+        }
+
+        Map<String, Measure> phases() {
+            return phases;
+        }
+    }
+}
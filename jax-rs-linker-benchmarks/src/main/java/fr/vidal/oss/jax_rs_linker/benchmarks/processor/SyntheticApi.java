@@ -0,0 +1,141 @@
+package fr.vidal.oss.jax_rs_linker.benchmarks.processor;
+
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.lang.String.format;
+
+/**
+ * Generates the sources of a synthetic JAX-RS application, deterministically:
+ * <ul>
+ *     <li>{@code resources} classes {@code ResourceN}, each with a {@code @Self} method returning its generated link,</li>
+ *     <li>{@code edges} {@code @SubResource} methods, spread over all resources,</li>
+ *     <li>a chain of {@code beanParamDepth} nested {@code @BeanParam} classes per resource, each one binding a query parameter,</li>
+ *     <li>a regex-constrained {@code id} parameter for one resource out of {@code regexEvery} (none when 0).</li>
+ * </ul>
+ */
+public final class SyntheticApi {
+
+    private static final String PACKAGE = "synthetic";
+
+    private final int resources;
+    private final int edges;
+    private final int beanParamDepth;
+    private final int regexEvery;
+
+    public SyntheticApi(int resources, int edges, int beanParamDepth, int regexEvery) {
+        if (resources < 2 || edges < 0 || edges > resources * (resources - 1) || beanParamDepth < 0 || regexEvery < 0) {
+            throw new IllegalArgumentException(format("Invalid API: %d resources, %d edges, bean parameters %d deep, regex every %d",
+                resources, edges, beanParamDepth, regexEvery));
+        }
+        this.resources = resources;
+        this.edges = edges;
+        this.beanParamDepth = beanParamDepth;
+        this.regexEvery = regexEvery;
+    }
+
+    public List<JavaFileObject> sources() {
+        List<List<Integer>> targets = targets();
+        List<JavaFileObject> sources = new ArrayList<>();
+        sources.add(source("SyntheticApplication", application()));
+        for (int i = 0; i < resources; i++) {
+            sources.add(source("Resource" + i, resource(i, targets.get(i))));
+            for (int depth = 0; depth < beanParamDepth; depth++) {
+                sources.add(source(beanParamName(i, depth), beanParam(i, depth)));
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Spreads edges round-robin over the resources, each one linking to resources further and further away.
+     */
+    private List<List<Integer>> targets() {
+        List<Set<Integer>> targets = new ArrayList<>();
+        for (int i = 0; i < resources; i++) {
+            targets.add(new LinkedHashSet<>());
+        }
+        int distance = 1;
+        int created = 0;
+        while (created < edges) {
+            for (int i = 0; i < resources && created < edges; i++) {
+                if (targets.get(i).add((i + distance) % resources)) {
+                    created++;
+                }
+            }
+            distance++;
+        }
+        List<List<Integer>> result = new ArrayList<>();
+        for (Set<Integer> resourceTargets : targets) {
+            result.add(new ArrayList<>(resourceTargets));
+        }
+        return result;
+    }
+
+    private static String application() {
+        return new StringBuilder()
+            .append(format("package %s;%n%n", PACKAGE))
+            .append(format("@javax.ws.rs.ApplicationPath(\"api\")%n"))
+            .append(format("@fr.vidal.oss.jax_rs_linker.api.ExposedApplication%n"))
+            .append(format("public class SyntheticApplication extends javax.ws.rs.core.Application {%n}%n"))
+            .toString();
+    }
+
+    private String resource(int index, List<Integer> targets) {
+        String id = regexEvery > 0 && index % regexEvery == 0 ? "{id: [0-9]+}" : "{id}";
+        String beanParam = beanParamDepth > 0 ? format(", @BeanParam %s query", beanParamName(index, 0)) : "";
+        StringBuilder source = new StringBuilder()
+            .append(format("package %s;%n%n", PACKAGE))
+            .append(format("import fr.vidal.oss.jax_rs_linker.api.Self;%n"))
+            .append(format("import fr.vidal.oss.jax_rs_linker.api.SubResource;%n"))
+            .append(format("import javax.ws.rs.*;%n%n"))
+            .append(format("@Path(\"/resource%d\")%n", index))
+            .append(format("public class Resource%d {%n%n", index))
+            .append(format("    @Self @GET @Path(\"/%s\")%n", id))
+            .append(format("    public String get(@PathParam(\"id\") int id%s) {%n", beanParam))
+            .append(format("        return Resource%dLinker.resource%dLinker().self()%n", index, index))
+            .append(format("            .replace(Resource%dPathParameters.ID, String.valueOf(id)).value();%n    }%n", index));
+        for (int target : targets) {
+            source
+                .append(format("%n    @SubResource(Resource%d.class) @GET @Path(\"/%s/resource%d\")%n", target, id, target))
+                .append(format("    public String getResource%d(@PathParam(\"id\") int id%s) {%n        return \"\";%n    }%n", target, beanParam));
+        }
+        return source.append(format("}%n")).toString();
+    }
+
+    private String beanParam(int index, int depth) {
+        StringBuilder source = new StringBuilder()
+            .append(format("package %s;%n%n", PACKAGE))
+            .append(format("import javax.ws.rs.*;%n%n"))
+            .append(format("public class %s {%n%n", beanParamName(index, depth)))
+            .append(format("    @QueryParam(\"q%d\")%n    public String q%d;%n", depth, depth));
+        if (depth + 1 < beanParamDepth) {
+            source.append(format("%n    @BeanParam%n    public %s nested;%n", beanParamName(index, depth + 1)));
+        }
+        return source.append(format("}%n")).toString();
+    }
+
+    private static String beanParamName(int index, int depth) {
+        return format("Resource%dQuery%d", index, depth);
+    }
+
+    private static JavaFileObject source(String className, String content) {
+        URI uri = URI.create(format("string:///%s/%s.java", PACKAGE, className));
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return format("%d resources, %d edges, bean parameters %d deep, regex every %d", resources, edges, beanParamDepth, regexEvery);
+    }
+}
@@ -0,0 +1,72 @@
+package fr.vidal.oss.jax_rs_linker.benchmarks.processor;
+
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Compiles {@link SyntheticApi synthetic APIs} with the system Java compiler, for the processor scalability
+ * and startup harnesses. Must run on a JDK.
+ */
+public final class SyntheticCompiler {
+
+    private SyntheticCompiler() {
+        // Hide me!
+    }
+
+    /**
+     * Compiles the API against the class path of the current JVM, failing with the compilation errors.
+     *
+     * @return time spent by javac, file manager setup excluded
+     */
+    public static long compile(SyntheticApi api, List<String> options, List<? extends Processor> processors) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system Java compiler: benchmarks must run on a JDK");
+        }
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, UTF_8)) {
+            List<String> allOptions = new ArrayList<>(options);
+            allOptions.add("-classpath");
+            allOptions.add(System.getProperty("java.class.path"));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics, allOptions, null, api.sources());
+            task.setProcessors(processors);
+
+            long start = System.nanoTime();
+            boolean success = task.call();
+            long durationNanos = System.nanoTime() - start;
+            if (!success) {
+                throw new IllegalStateException(format("Could not compile %s:%n%s", api, errors(diagnostics)));
+            }
+            return durationNanos;
+        }
+    }
+
+    public static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static String errors(DiagnosticCollector<JavaFileObject> diagnostics) {
+        return diagnostics.getDiagnostics().stream()
+            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .map(Object::toString)
+            .collect(joining(System.lineSeparator()));
+    }
+}
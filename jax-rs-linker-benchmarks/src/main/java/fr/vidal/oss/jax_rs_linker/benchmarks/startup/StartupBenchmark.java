@@ -0,0 +1,168 @@
+package fr.vidal.oss.jax_rs_linker.benchmarks.startup;
+
+import fr.vidal.oss.jax_rs_linker.ExposedApplicationAnnotationProcessor;
+import fr.vidal.oss.jax_rs_linker.LinkerAnnotationProcessor;
+import fr.vidal.oss.jax_rs_linker.benchmarks.processor.SyntheticApi;
+import fr.vidal.oss.jax_rs_linker.benchmarks.processor.SyntheticCompiler;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures the cold start of webapps with many generated linkers, so that startup regressions show up:
+ * <pre>
+ * java -cp jax-rs-linker-benchmarks/target/benchmarks.jar \
+ *     fr.vidal.oss.jax_rs_linker.benchmarks.startup.StartupBenchmark 100 1000 5000
+ * </pre>
+ * Each argument is a number of resources, 100, 1000 and 5000 by default. For each size, a {@link SyntheticApi}
+ * is compiled with the annotation processor into an exploded webapp, then deployed {@code -Druns} (5) times
+ * by a {@link StartupProbe}, each time in a fresh JVM started with {@code -Djvm.args} (none): the median run is reported.
+ * The shape of the API is set as for the processor scalability harness, with {@code -Dedges.per.resource} (2),
+ * {@code -Dbean.param.depth} (2) and {@code -Dregex.every} (4).
+ *
+ * Startup covers Jetty's annotation scanning, which discovers {@code ContextPathHolder}, Jersey's initialization
+ * and the first request, which loads and initializes the linker of the requested resource.
+ * Must run on a JDK.
+ */
+public final class StartupBenchmark {
+
+    private StartupBenchmark() {
+        // Hide me!
+    }
+
+    public static void main(String[] args) throws Exception {
+        int edgesPerResource = Integer.getInteger("edges.per.resource", 2);
+        int beanParamDepth = Integer.getInteger("bean.param.depth", 2);
+        int regexEvery = Integer.getInteger("regex.every", 4);
+        int runs = Integer.getInteger("runs", 5);
+        String[] sizes = args.length == 0 ? new String[]{"100", "1000", "5000"} : args;
+
+        System.out.println(format("%-10s %12s %16s %12s %16s %10s",
+            "resources", "deploy (ms)", "first link (ms)", "uptime (ms)", "metaspace (MB)", "classes"));
+        for (String size : sizes) {
+            int resources = Integer.parseInt(size);
+            Path webapp = webapp(new SyntheticApi(resources, resources * edgesPerResource, beanParamDepth, regexEvery));
+            try {
+                List<Startup> startups = new ArrayList<>();
+                for (int i = 0; i < runs; i++) {
+                    startups.add(start(webapp));
+                }
+                startups.sort(Comparator.comparingLong(Startup::firstLinkNanos));
+                Startup median = startups.get(startups.size() / 2);
+                System.out.println(format("%-10d %12.1f %16.1f %12.1f %16.1f %10d",
+                    resources, median.deployNanos() / 1e6, median.firstLinkNanos() / 1e6, median.uptimeNanos() / 1e6,
+                    median.metaspaceBytes() / 1e6, median.loadedClasses()));
+            } finally {
+                SyntheticCompiler.delete(webapp);
+            }
+        }
+    }
+
+    /**
+     * Compiles the API, generated linkers included, into the {@code WEB-INF/classes} of an exploded webapp.
+     */
+    static Path webapp(SyntheticApi api) throws IOException {
+        Path webapp = Files.createTempDirectory("synthetic-webapp");
+        Path classes = Files.createDirectories(webapp.resolve("WEB-INF").resolve("classes"));
+        Path generatedSources = Files.createTempDirectory("synthetic-sources");
+        try {
+            SyntheticCompiler.compile(api,
+                Arrays.asList("-d", classes.toString(), "-s", generatedSources.toString()),
+                Arrays.asList(new ExposedApplicationAnnotationProcessor(), new LinkerAnnotationProcessor()));
+            return webapp;
+        } catch (IOException | RuntimeException e) {
+            SyntheticCompiler.delete(webapp);
+            throw e;
+        } finally {
+            SyntheticCompiler.delete(generatedSources);
+        }
+    }
+
+    static Startup start(Path webapp) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        String jvmArgs = System.getProperty("jvm.args", "").trim();
+        if (!jvmArgs.isEmpty()) {
+            command.addAll(Arrays.asList(jvmArgs.split("\\s+")));
+        }
+        command.addAll(Arrays.asList(
+            "-Dorg.eclipse.jetty.LEVEL=WARN",
+            "-cp", System.getProperty("java.class.path"),
+            StartupProbe.class.getName(),
+            webapp.toString()));
+        Process probe = new ProcessBuilder(command)
+            .redirectError(ProcessBuilder.Redirect.INHERIT)
+            .start();
+
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(probe.getInputStream(), UTF_8))) {
+            String line;
+            while ((line = output.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        int exitCode = probe.waitFor();
+        if (exitCode != 0 || lines.isEmpty()) {
+            throw new IllegalStateException(format("Startup probe failed with exit code %d:%n%s",
+                exitCode, String.join(System.lineSeparator(), lines)));
+        }
+        return Startup.parse(lines.get(lines.size() - 1));
+    }
+
+    static final class Startup {
+
+        private final long deployNanos;
+        private final long firstLinkNanos;
+        private final long uptimeNanos;
+        private final long metaspaceBytes;
+        private final long loadedClasses;
+
+        private Startup(long deployNanos, long firstLinkNanos, long uptimeNanos, long metaspaceBytes, long loadedClasses) {
+            this.deployNanos = deployNanos;
+            this.firstLinkNanos = firstLinkNanos;
+            this.uptimeNanos = uptimeNanos;
+            this.metaspaceBytes = metaspaceBytes;
+            this.loadedClasses = loadedClasses;
+        }
+
+        private static Startup parse(String line) {
+            String[] values = line.split("\t");
+            if (values.length != 5) {
+                throw new IllegalStateException(format("Unexpected startup probe output <%s>", line));
+            }
+            return new Startup(Long.parseLong(values[0]), Long.parseLong(values[1]), Long.parseLong(values[2]),
+                Long.parseLong(values[3]), Long.parseLong(values[4]));
+        }
+
+        long deployNanos() {
+            return deployNanos;
+        }
+
+        long firstLinkNanos() {
+            return firstLinkNanos;
+        }
+
+        long uptimeNanos() {
+            return uptimeNanos;
+        }
+
+        long metaspaceBytes() {
+            return metaspaceBytes;
+        }
+
+        long loadedClasses() {
+            return loadedClasses;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package fr.vidal.oss.jax_rs_linker.benchmarks.startup;
+
+import org.eclipse.jetty.annotations.AnnotationConfiguration;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.webapp.Configuration;
+import org.eclipse.jetty.webapp.JettyWebXmlConfiguration;
+import org.eclipse.jetty.webapp.WebAppContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Deploys a synthetic webapp on embedded Jetty, with annotation scanning, and requests the {@code @Self} link
+ * of its first resource. Meant to run in a fresh JVM, forked by {@link StartupBenchmark}, to which it reports
+ * one tab-separated line: deployment time, time to first link and JVM uptime, in nanoseconds,
+ * then metaspace used, in bytes, and the number of loaded classes.
+ */
+public final class StartupProbe {
+
+    static final String CONTEXT_PATH = "/startup";
+
+    private StartupProbe() {
+        // Hide me!
+    }
+
+    public static void main(String[] args) throws Exception {
+        long start = System.nanoTime();
+        Server server = new Server(0);
+        Configuration.ClassList.setServerDefault(server)
+            .addBefore(JettyWebXmlConfiguration.class.getName(), AnnotationConfiguration.class.getName());
+        WebAppContext webapp = new WebAppContext();
+        webapp.setContextPath(CONTEXT_PATH);
+        webapp.setResourceBase(args[0]);
+        webapp.setThrowUnavailableOnStartupException(true);
+        server.setHandler(webapp);
+        try {
+            server.start();
+            long deployNanos = System.nanoTime() - start;
+
+            int port = ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+            String path = CONTEXT_PATH + "/api/resource0/42";
+            String link = get(new URL(format("http://localhost:%d%s", port, path)));
+            long firstLinkNanos = System.nanoTime() - start;
+            if (!link.endsWith(path)) {
+                throw new IllegalStateException(format("Expected a link to %s, got <%s>", path, link));
+            }
+
+            System.out.println(format("%d\t%d\t%d\t%d\t%d",
+                deployNanos,
+                firstLinkNanos,
+                ManagementFactory.getRuntimeMXBean().getUptime() * 1_000_000,
+                metaspaceUsedBytes(),
+                ManagementFactory.getClassLoadingMXBean().getLoadedClassCount()));
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static String get(URL url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try (InputStream body = connection.getInputStream()) {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                content.write(buffer, 0, read);
+            }
+            return new String(content.toByteArray(), UTF_8);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static long metaspaceUsedBytes() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getName().equals("Metaspace")) {
+                return pool.getUsage().getUsed();
+            }
+        }
+        return -1;
+    }
+}
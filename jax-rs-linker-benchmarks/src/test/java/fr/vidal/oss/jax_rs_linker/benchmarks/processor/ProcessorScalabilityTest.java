@@ -0,0 +1,19 @@
+package fr.vidal.oss.jax_rs_linker.benchmarks.processor;
+
+import fr.vidal.oss.jax_rs_linker.benchmarks.processor.ProcessorScalability.Run;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProcessorScalabilityTest {
+
+    @Test
+    public void measures_every_phase_of_a_synthetic_api() throws Exception {
+        Run run = ProcessorScalability.compile(new SyntheticApi(10, 20, 2, 4));
+
+        assertThat(run.phases()).containsOnlyKeys("parse", "validate", "generate", "graph", "router");
+        assertThat(run.phases().get("parse").rounds()).isGreaterThanOrEqualTo(1);
+        assertThat(run.phases().get("parse").allocatedBytes()).isPositive();
+        assertThat(run.totalNanos()).isGreaterThanOrEqualTo(run.phases().get("parse").durationNanos());
+    }
+}
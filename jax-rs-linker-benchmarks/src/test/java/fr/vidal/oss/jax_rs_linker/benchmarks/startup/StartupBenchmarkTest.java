@@ -0,0 +1,31 @@
+package fr.vidal.oss.jax_rs_linker.benchmarks.startup;
+
+import fr.vidal.oss.jax_rs_linker.benchmarks.processor.SyntheticApi;
+import fr.vidal.oss.jax_rs_linker.benchmarks.processor.SyntheticCompiler;
+import fr.vidal.oss.jax_rs_linker.benchmarks.startup.StartupBenchmark.Startup;
+import org.junit.Test;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StartupBenchmarkTest {
+
+    @Test
+    public void deploys_a_synthetic_webapp_until_its_first_link() throws Exception {
+        Path webapp = StartupBenchmark.webapp(new SyntheticApi(10, 20, 2, 4));
+        try {
+            assertThat(webapp.resolve("WEB-INF/classes/synthetic/Resource0Linker.class")).exists();
+            assertThat(webapp.resolve("WEB-INF/classes/fr/vidal/oss/jax_rs_linker/ContextPathHolder.class")).exists();
+
+            Startup startup = StartupBenchmark.start(webapp);
+
+            assertThat(startup.deployNanos()).isPositive();
+            assertThat(startup.firstLinkNanos()).isGreaterThan(startup.deployNanos());
+            assertThat(startup.metaspaceBytes()).isPositive();
+            assertThat(startup.loadedClasses()).isPositive();
+        } finally {
+            SyntheticCompiler.delete(webapp);
+        }
+    }
+}
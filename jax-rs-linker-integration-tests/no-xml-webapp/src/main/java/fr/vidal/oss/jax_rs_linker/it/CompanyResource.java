@@ -2,10 +2,16 @@ package fr.vidal.oss.jax_rs_linker.it;
 
 
 import fr.vidal.oss.jax_rs_linker.api.Self;
+import fr.vidal.oss.jax_rs_linker.api.SubResource;
 
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import java.util.List;
+
+import static java.lang.String.format;
 
 @Path("/company")
 public class CompanyResource {
@@ -16,4 +22,13 @@ public class CompanyResource {
     public String getById(@PathParam("id") int id) {
         return "Company " + String.valueOf(id);
     }
+
+    @SubResource(ProductResource.class)
+    @Path("/{id}/products")
+    @GET
+    public String getProductsByCompanyId(@PathParam("id") int companyId,
+                                         @QueryParam("status") @DefaultValue("marketed") String status,
+                                         @QueryParam("tag") List<String> tags) {
+        return format("Products of Company %d with status %s and tags %s", companyId, status, tags);
+    }
 }
@@ -0,0 +1,112 @@
+package fr.vidal.oss.jax_rs_linker.it;
+
+import fr.vidal.oss.jax_rs_linker.model.LinkSet;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+import static fr.vidal.oss.jax_rs_linker.it.ProductResourceLinker.productResourceLinker;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Link-heavy endpoints driven by the load profile: collections of products, one line per product
+ * with its three links, rendered either as a link set, through templated URLs, or not at all as a baseline.
+ */
+@Path("/load")
+public class LoadResource {
+
+    private static final int MAX_COUNT = 100_000;
+
+    @GET
+    @Path("/products")
+    @Produces(MediaType.TEXT_PLAIN)
+    public StreamingOutput products(@QueryParam("count") @DefaultValue("1000") int count,
+                                    @QueryParam("links") @DefaultValue("set") String links) {
+        if (count < 1 || count > MAX_COUNT) {
+            throw new BadRequestException(format("Expected a count between 1 and %d, got %d", MAX_COUNT, count));
+        }
+        LinkRendering rendering = LinkRendering.of(links);
+        return output -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, UTF_8));
+            for (int id = 0; id < count; id++) {
+                writer.write(String.valueOf(id));
+                rendering.write(writer, new Product(id, id % 2 == 0));
+                writer.write('\n');
+            }
+            writer.flush();
+        };
+    }
+
+    /**
+     * Garbage collections of the server so far: their count and the time spent, in milliseconds, tab-separated.
+     */
+    @GET
+    @Path("/gc")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String garbageCollections() {
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+            time += Math.max(0, collector.getCollectionTime());
+        }
+        return count + "\t" + time;
+    }
+
+    private enum LinkRendering {
+        SET {
+            @Override
+            void write(Writer writer, Product product) throws IOException {
+                LinkSet links = productResourceLinker().links(product);
+                for (int i = 0; i < links.size(); i++) {
+                    writer.write('\t');
+                    writer.write(links.buffer(), links.start(i), links.end(i) - links.start(i));
+                }
+            }
+        },
+        TEMPLATED {
+            @Override
+            void write(Writer writer, Product product) throws IOException {
+                String id = String.valueOf(product.getId());
+                writer.write('\t');
+                writer.write(productResourceLinker().self().replace(ProductResourcePathParameters.ID, id).value());
+                writer.write('\t');
+                writer.write(productResourceLinker().relatedBrandResource().replace(ProductResourcePathParameters.ID, id).value());
+                writer.write('\t');
+                writer.write(productResourceLinker().relatedCompanyResource()
+                    .replace(ProductResourcePathParameters.ID, id)
+                    .append(ProductResourceQueryParameters.Q_PARAMETER, String.valueOf(product.isDiscontinued()))
+                    .value());
+            }
+        },
+        NONE {
+            @Override
+            void write(Writer writer, Product product) {
+            }
+        };
+
+        abstract void write(Writer writer, Product product) throws IOException;
+
+        static LinkRendering of(String name) {
+            for (LinkRendering rendering : values()) {
+                if (rendering.name().equalsIgnoreCase(name)) {
+                    return rendering;
+                }
+            }
+            throw new BadRequestException(format("Unknown link rendering <%s>, expected one of set, templated or none", name));
+        }
+    }
+}
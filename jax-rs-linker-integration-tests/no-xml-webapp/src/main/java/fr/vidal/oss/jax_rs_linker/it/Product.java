@@ -0,0 +1,20 @@
+package fr.vidal.oss.jax_rs_linker.it;
+
+public class Product {
+
+    private final int id;
+    private final boolean discontinued;
+
+    public Product(int id, boolean discontinued) {
+        this.id = id;
+        this.discontinued = discontinued;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public boolean isDiscontinued() {
+        return discontinued;
+    }
+}
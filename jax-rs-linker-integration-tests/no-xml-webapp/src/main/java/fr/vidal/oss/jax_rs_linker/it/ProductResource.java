@@ -1,5 +1,7 @@
 package fr.vidal.oss.jax_rs_linker.it;
 
+import fr.vidal.oss.jax_rs_linker.api.Binding;
+import fr.vidal.oss.jax_rs_linker.api.LinkedEntity;
 import fr.vidal.oss.jax_rs_linker.api.Self;
 import fr.vidal.oss.jax_rs_linker.api.SubResource;
 
@@ -12,6 +14,7 @@ import static fr.vidal.oss.jax_rs_linker.it.ProductResourceLinker.productResourc
 
 
 @Path("/product")
+@LinkedEntity(value = Product.class, bindings = @Binding(parameter = "qParameter", accessor = "isDiscontinued"))
 public class ProductResource {
 
     @Self
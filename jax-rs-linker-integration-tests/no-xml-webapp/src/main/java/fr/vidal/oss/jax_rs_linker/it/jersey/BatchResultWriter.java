@@ -0,0 +1,40 @@
+package fr.vidal.oss.jax_rs_linker.it.jersey;
+
+import fr.vidal.oss.jax_rs_linker.invocation.BatchResult;
+
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * JSON writer of batch results, the entities of this webapp being plain strings.
+ */
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class BatchResultWriter implements MessageBodyWriter<BatchResult> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return type == BatchResult.class;
+    }
+
+    @Override
+    public void writeTo(BatchResult result, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        String entity = result.getEntity() == null ? "null" : quote(result.getEntity().toString());
+        entityStream.write(format("{\"href\":%s,\"status\":%d,\"entity\":%s}", quote(result.getHref()), result.getStatus(), entity).getBytes(UTF_8));
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
@@ -0,0 +1,49 @@
+package fr.vidal.oss.jax_rs_linker.it;
+
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.RequestBody;
+import com.squareup.okhttp.Response;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LinkBatchIT {
+
+    @Test
+    public void resolves_links_in_a_single_request() throws Exception {
+        Response response = batch("/it-tests/rest/product/1/company\n/it-tests/rest/company/2/products\n");
+
+        assertThat(response.code()).isEqualTo(200);
+        assertThat(response.body().string())
+                .contains("{\"href\":\"/it-tests/rest/product/1/company\",\"status\":200,\"entity\":\"Company for Product 1\"}")
+                .contains("{\"href\":\"/it-tests/rest/company/2/products\",\"status\":200,"
+                        + "\"entity\":\"Products of Company 2 with status marketed and tags []\"}");
+    }
+
+    @Test
+    public void rejects_links_with_query_string_rather_than_dropping_it() throws Exception {
+        Response response = batch("/it-tests/rest/product/1/company?qParameter=true\n");
+
+        assertThat(response.body().string())
+                .isEqualTo("[{\"href\":\"/it-tests/rest/product/1/company?qParameter=true\",\"status\":400,\"entity\":null}]");
+    }
+
+    private static Response batch(String uriList) throws IOException {
+        OkHttpClient client = new OkHttpClient();
+
+        Request request = new Request.Builder()
+                .url("http://localhost:" + port() + "/it-tests/rest/batch")
+                .post(RequestBody.create(MediaType.parse("text/uri-list"), uriList))
+                .build();
+
+        return client.newCall(request).execute();
+    }
+
+    private static String port() {
+        return System.getProperty("jetty.port", "8080");
+    }
+}
@@ -0,0 +1,191 @@
+package fr.vidal.oss.jax_rs_linker.it;
+
+import com.squareup.okhttp.ConnectionPool;
+import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the link-heavy endpoints of {@link LoadResource} from concurrent threads, only run by the {@code load} profile:
+ * <pre>
+ * mvn verify -Pload -pl jax-rs-linker-integration-tests/no-xml-webapp
+ * </pre>
+ * For each collection size and link rendering, requests are sent in a closed loop for {@code load.duration.seconds} (10)
+ * by {@code load.threads} (8) threads, after {@code load.warmup.seconds} (3). Sizes are set with {@code load.sizes}
+ * (1000,10000,100000). Throughput, latency percentiles and the garbage collection time of the server are reported.
+ */
+public class LinkHeavyEndpointsLoad {
+
+    private static final int THREADS = Integer.getInteger("load.threads", 8);
+    private static final long DURATION_NANOS = TimeUnit.SECONDS.toNanos(Integer.getInteger("load.duration.seconds", 10));
+    private static final long WARM_UP_NANOS = TimeUnit.SECONDS.toNanos(Integer.getInteger("load.warmup.seconds", 3));
+    private static final List<String> SIZES = Arrays.asList(System.getProperty("load.sizes", "1000,10000,100000").split(","));
+    private static final List<String> RENDERINGS = Arrays.asList("none", "set", "templated");
+    private static final long STARTUP_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final OkHttpClient client = new OkHttpClient();
+
+    public LinkHeavyEndpointsLoad() {
+        client.setConnectionPool(new ConnectionPool(THREADS, TimeUnit.MINUTES.toMillis(5)));
+        client.setReadTimeout(1, TimeUnit.MINUTES);
+    }
+
+    @Test
+    public void measures_link_heavy_endpoints() throws Exception {
+        awaitServer();
+        System.out.println(format("%-8s %-10s %10s %12s %10s %10s %16s %16s",
+            "items", "links", "requests", "items/s", "p50 (ms)", "p99 (ms)", "server GC (ms)", "client GC (ms)"));
+        for (String size : SIZES) {
+            for (String rendering : RENDERINGS) {
+                String path = format("load/products?count=%s&links=%s", size.trim(), rendering);
+                run(path, WARM_UP_NANOS);
+                long[] serverGcBefore = serverGarbageCollections();
+                long clientGcBefore = clientGarbageCollectionMillis();
+                Result result = run(path, DURATION_NANOS);
+                long serverGcMillis = serverGarbageCollections()[1] - serverGcBefore[1];
+                long clientGcMillis = clientGarbageCollectionMillis() - clientGcBefore;
+
+                assertThat(result.requests()).isPositive();
+                System.out.println(format("%-8s %-10s %10d %12.0f %10.2f %10.2f %16d %16d",
+                    size.trim(), rendering, result.requests(),
+                    result.requests() * Long.parseLong(size.trim()) / (DURATION_NANOS / 1e9),
+                    result.percentile(0.50) / 1e6, result.percentile(0.99) / 1e6,
+                    serverGcMillis, clientGcMillis));
+            }
+        }
+    }
+
+    private Result run(String path, long durationNanos) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long deadline = System.nanoTime() + durationNanos;
+            List<Future<Latencies>> workers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                workers.add(executor.submit(() -> requestUntil(path, deadline)));
+            }
+            Latencies latencies = new Latencies();
+            for (Future<Latencies> worker : workers) {
+                latencies.addAll(worker.get());
+            }
+            return new Result(latencies.sorted());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Latencies requestUntil(String path, long deadline) throws IOException {
+        Latencies latencies = new Latencies();
+        byte[] buffer = new byte[8192];
+        Request request = new Request.Builder().url(url(path)).build();
+        while (System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            Response response = client.newCall(request).execute();
+            try (InputStream body = response.body().byteStream()) {
+                assertThat(response.code()).isEqualTo(200);
+                while (body.read(buffer) != -1) {
+                    // the whole response counts
+                }
+            }
+            latencies.add(System.nanoTime() - start);
+        }
+        return latencies;
+    }
+
+    /**
+     * The server is forked without waiting for it to be started.
+     */
+    private void awaitServer() throws Exception {
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MILLIS;
+        while (true) {
+            try {
+                serverGarbageCollections();
+                return;
+            } catch (IOException e) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(500);
+            }
+        }
+    }
+
+    private long[] serverGarbageCollections() throws IOException {
+        Response response = client.newCall(new Request.Builder().url(url("load/gc")).build()).execute();
+        String[] counts = response.body().string().split("\t");
+        return new long[]{Long.parseLong(counts[0]), Long.parseLong(counts[1])};
+    }
+
+    private static long clientGarbageCollectionMillis() {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, collector.getCollectionTime());
+        }
+        return time;
+    }
+
+    private static String url(String path) {
+        return "http://localhost:" + System.getProperty("jetty.port", "8080") + "/it-tests/rest/" + path;
+    }
+
+    private static final class Latencies {
+
+        private long[] nanos = new long[1024];
+        private int size;
+
+        void add(long latency) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = latency;
+        }
+
+        void addAll(Latencies latencies) {
+            for (int i = 0; i < latencies.size; i++) {
+                add(latencies.nanos[i]);
+            }
+        }
+
+        long[] sorted() {
+            long[] result = Arrays.copyOf(nanos, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+
+    private static final class Result {
+
+        private final long[] sortedNanos;
+
+        private Result(long[] sortedNanos) {
+            this.sortedNanos = sortedNanos;
+        }
+
+        int requests() {
+            return sortedNanos.length;
+        }
+
+        long percentile(double percentile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile * sortedNanos.length);
+            return sortedNanos[Math.max(0, rank - 1)];
+        }
+    }
+}
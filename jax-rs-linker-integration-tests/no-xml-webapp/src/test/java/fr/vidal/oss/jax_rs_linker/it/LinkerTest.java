@@ -1,13 +1,22 @@
 package fr.vidal.oss.jax_rs_linker.it;
 
 import fr.vidal.oss.jax_rs_linker.api.NoQueryParameters;
+import fr.vidal.oss.jax_rs_linker.metrics.HotLinkSampler;
+import fr.vidal.oss.jax_rs_linker.metrics.HotLinkSampler.HotLink;
+import fr.vidal.oss.jax_rs_linker.metrics.InMemoryLinkerMetrics;
+import fr.vidal.oss.jax_rs_linker.metrics.InMemoryLinkerMetrics.TemplateMetrics;
+import fr.vidal.oss.jax_rs_linker.metrics.LinkerMetricsHolder;
+import fr.vidal.oss.jax_rs_linker.model.LinkSet;
 import fr.vidal.oss.jax_rs_linker.model.TemplatedUrl;
 import org.junit.Test;
 
+import java.net.URI;
+
 import static fr.vidal.oss.jax_rs_linker.it.BrandResourceLinker.brandResourceLinker;
 import static fr.vidal.oss.jax_rs_linker.it.CompanyResourceLinker.companyResourceLinker;
 import static fr.vidal.oss.jax_rs_linker.it.ProductResourceLinker.productResourceLinker;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 public class LinkerTest {
 
@@ -69,4 +78,72 @@ public class LinkerTest {
             .value();
         assertThat(result).isEqualTo("/product/product-id/company?qParameter=true");
     }
+
+    @Test
+    public void should_return_all_product_links_at_once() throws Exception {
+        LinkSet links = productLinker.links(42);
+
+        assertThat(links.size()).isEqualTo(3);
+        assertThat(links.href("self")).isEqualTo("/product/42");
+        assertThat(links.href("brandResource")).isEqualTo("/product/42/brand");
+        assertThat(links.href("companyResource")).isEqualTo("/product/42/company");
+    }
+
+    @Test
+    public void should_return_all_product_links_from_entity() throws Exception {
+        LinkSet links = productLinker.links(new Product(42, true));
+
+        assertThat(links.href("self")).isEqualTo("/product/42");
+        assertThat(links.href("brandResource")).isEqualTo("/product/42/brand");
+        assertThat(links.href("companyResource")).isEqualTo("/product/42/company?qParameter=true");
+    }
+
+    @Test
+    public void should_render_client_links_against_base_url() throws Exception {
+        ProductResourceClientLinks clientLinks = new ProductResourceClientLinks("http://example.com/api/");
+
+        assertThat(clientLinks.self(42)).isEqualTo("http://example.com/api/product/42");
+        assertThat(clientLinks.relatedCompanyResourceUri(42, true)).isEqualTo(URI.create("http://example.com/api/product/42/company?qParameter=true"));
+        assertThat(clientLinks.relatedCompanyResource(42, null)).isEqualTo("http://example.com/api/product/42/company");
+    }
+
+    @Test
+    public void should_report_rendered_links_to_registered_metrics() throws Exception {
+        InMemoryLinkerMetrics inMemoryMetrics = LinkerMetricsHolder.find(InMemoryLinkerMetrics.class).get();
+        TemplateMetrics metrics = inMemoryMetrics.templates().get(ProductResource.class.getName() + "#links");
+        long renderings = metrics == null ? 0 : metrics.renderings();
+
+        productLinker.links(42);
+
+        metrics = inMemoryMetrics.templates().get(ProductResource.class.getName() + "#links");
+        assertThat(metrics.renderings()).isEqualTo(renderings + 1);
+        assertThat(metrics.characters()).isGreaterThanOrEqualTo("/product/42/product/42/brand/product/42/company".length());
+    }
+
+    @Test
+    public void should_report_appended_links_to_registered_metrics() throws Exception {
+        InMemoryLinkerMetrics inMemoryMetrics = LinkerMetricsHolder.find(InMemoryLinkerMetrics.class).get();
+        TemplateMetrics metrics = inMemoryMetrics.templates().get("/brand/{id}");
+        long renderings = metrics == null ? 0 : metrics.renderings();
+
+        StringBuilder link = brandLinker.self().replace(BrandResourcePathParameters.ID, "7").appendTo(new StringBuilder("http://example.com"));
+
+        assertThat(link.toString()).isEqualTo("http://example.com/brand/7");
+        assertThat(inMemoryMetrics.templates().get("/brand/{id}").renderings()).isEqualTo(renderings + 1);
+    }
+
+    @Test
+    public void should_poll_hottest_links_next_to_in_memory_metrics() throws Exception {
+        HotLinkSampler sampler = LinkerMetricsHolder.find(HotLinkSampler.class).get();
+        InMemoryLinkerMetrics inMemoryMetrics = LinkerMetricsHolder.find(InMemoryLinkerMetrics.class).get();
+
+        for (int i = 0; i < 2_000; i++) {
+            brandLinker.links(7);
+        }
+
+        assertThat(sampler.hottest())
+            .extracting(HotLink::template, HotLink::links)
+            .contains(tuple(BrandResource.class.getName() + "#links", brandLinker.links(7).buffer()));
+        assertThat(inMemoryMetrics.templates().get(BrandResource.class.getName() + "#links").renderings()).isGreaterThanOrEqualTo(2_000);
+    }
 }
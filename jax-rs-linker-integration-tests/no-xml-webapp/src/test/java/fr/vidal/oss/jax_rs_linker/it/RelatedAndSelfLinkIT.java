@@ -27,6 +27,24 @@ public class RelatedAndSelfLinkIT {
                 .isEqualTo("/it-tests/rest/product/1/company");
     }
 
+    @Test
+    public void link_header_of_self_resource() throws Exception {
+        Response response = request("product/1");
+
+        assertThat(response.header("Link")).isEqualTo(
+            "</it-tests/rest/product/1>; rel=\"self\", "
+                + "</it-tests/rest/product/1/brand>; rel=\"brandResource\", "
+                + "</it-tests/rest/product/1/company>; rel=\"companyResource\"");
+    }
+
+    @Test
+    public void sub_resource_invoked_over_http_with_default_query_values() throws Exception {
+        Response response = request("company/42/products");
+
+        assertThat(response.body().string())
+                .isEqualTo("Products of Company 42 with status marketed and tags []");
+    }
+
     private static Response request(String resource) throws IOException {
         OkHttpClient client = new OkHttpClient();
 
@@ -0,0 +1,76 @@
+package fr.vidal.oss.jax_rs_linker.it;
+
+import fr.vidal.oss.jax_rs_linker.Routes;
+import fr.vidal.oss.jax_rs_linker.invocation.ResourceLocator;
+import fr.vidal.oss.jax_rs_linker.model.Route;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RoutesTest {
+
+    private static final ResourceLocator NEW_INSTANCES = new ResourceLocator() {
+        @Override
+        public <T> T getResource(Class<T> resourceClass) {
+            try {
+                return resourceClass.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
+    @Test
+    public void should_route_self_link() {
+        Route route = Routes.INSTANCE.route("/product/42").get();
+
+        assertThat(route.resource()).isEqualTo(ProductResource.class);
+        assertThat(route.relation()).isEqualTo("self");
+        assertThat(route.parameters(ProductResourcePathParameters.class))
+            .containsEntry(ProductResourcePathParameters.ID, "42");
+    }
+
+    @Test
+    public void should_route_rendered_sub_resource_link() {
+        String link = ProductResourceLinker.productResourceLinker().links(42).href("companyResource");
+
+        Route route = Routes.INSTANCE.route(link).get();
+
+        assertThat(route.resource()).isEqualTo(ProductResource.class);
+        assertThat(route.target()).isEqualTo(CompanyResource.class);
+        assertThat(route.parameter(ProductResourcePathParameters.ID)).isEqualTo("42");
+    }
+
+    @Test
+    public void should_not_route_unknown_link() {
+        assertThat(Routes.INSTANCE.route("/product/42/unknown")).isEmpty();
+    }
+
+    @Test
+    public void should_invoke_routed_sub_resource_method() throws Exception {
+        Route route = Routes.INSTANCE.route("/product/42").get();
+
+        Object brand = Routes.INSTANCE.invoker(ProductResource.class, "brandResource").get()
+            .prepare(NEW_INSTANCES, route)
+            .call();
+
+        assertThat(brand).isEqualTo("Brand for Product 42");
+    }
+
+    @Test
+    public void should_invoke_routed_method_with_the_query_values_jax_rs_defaults_to() throws Exception {
+        Route route = Routes.INSTANCE.route("/company/42").get();
+
+        Object products = Routes.INSTANCE.invoker(CompanyResource.class, "productResource").get()
+            .prepare(NEW_INSTANCES, route)
+            .call();
+
+        assertThat(products).isEqualTo("Products of Company 42 with status marketed and tags []");
+    }
+
+    @Test
+    public void should_render_self_link_of_linked_entity() {
+        assertThat(Routes.INSTANCE.selfLink(new Product(42, false))).contains("/product/42");
+        assertThat(Routes.INSTANCE.selfLink("Product 42")).isEmpty();
+    }
+}
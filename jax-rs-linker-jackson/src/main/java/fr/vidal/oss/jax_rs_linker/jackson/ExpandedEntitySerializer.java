@@ -0,0 +1,49 @@
+package fr.vidal.oss.jax_rs_linker.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import fr.vidal.oss.jax_rs_linker.invocation.ExpandedEntity;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Serializes an {@link ExpandedEntity} as its entity, with an extra HAL-style {@code _embedded} object.
+ * Entities that cannot be unwrapped (e.g. strings or collections) are nested under {@code content}.
+ */
+public class ExpandedEntitySerializer extends StdSerializer<ExpandedEntity> {
+
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString EMBEDDED = new SerializedString("_embedded");
+
+    public ExpandedEntitySerializer() {
+        super(ExpandedEntity.class);
+    }
+
+    @Override
+    public void serialize(ExpandedEntity expanded, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        Object entity = expanded.getEntity();
+        generator.writeStartObject();
+        if (entity != null) {
+            JsonSerializer<Object> serializer = provider.findValueSerializer(entity.getClass()).unwrappingSerializer(NameTransformer.NOP);
+            if (serializer.isUnwrappingSerializer()) {
+                serializer.serialize(entity, generator, provider);
+            } else {
+                generator.writeFieldName(CONTENT);
+                provider.defaultSerializeValue(entity, generator);
+            }
+        }
+        generator.writeFieldName(EMBEDDED);
+        generator.writeStartObject();
+        for (Map.Entry<String, Object> embedded : expanded.getEmbedded().entrySet()) {
+            generator.writeFieldName(embedded.getKey());
+            provider.defaultSerializeValue(embedded.getValue(), generator);
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+}
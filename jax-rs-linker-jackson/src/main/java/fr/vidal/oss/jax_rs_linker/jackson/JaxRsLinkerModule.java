@@ -0,0 +1,17 @@
+package fr.vidal.oss.jax_rs_linker.jackson;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Serializes linker output ({@code TemplatedUrl} and {@code LinkSet}) without intermediate Strings,
+ * as well as expanded entities.
+ */
+public class JaxRsLinkerModule extends SimpleModule {
+
+    public JaxRsLinkerModule() {
+        super(JaxRsLinkerModule.class.getSimpleName());
+        addSerializer(new LinkSetSerializer());
+        addSerializer(new TemplatedUrlSerializer());
+        addSerializer(new ExpandedEntitySerializer());
+    }
+}
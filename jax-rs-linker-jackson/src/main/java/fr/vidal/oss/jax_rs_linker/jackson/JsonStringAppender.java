@@ -0,0 +1,67 @@
+package fr.vidal.oss.jax_rs_linker.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Collects a JSON string value chunk by chunk in a reusable character buffer, then writes it at once
+ * with {@link JsonGenerator#writeString(char[], int, int)}, so that no String is created per link.
+ *
+ * Jackson can only write a string value in a single call: constant template segments cannot be written
+ * as pre-quoted {@code SerializedString}s ahead of the bound values, nor can values be written raw without
+ * bypassing the escaping settings of the generator ({@code ESCAPE_NON_ASCII}, custom character escapes).
+ */
+final class JsonStringAppender implements Appendable {
+
+    private final JsonGenerator generator;
+    private char[] buffer = new char[64];
+    private int length;
+
+    JsonStringAppender(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    public JsonStringAppender append(CharSequence text) {
+        return append(text, 0, text.length());
+    }
+
+    @Override
+    public JsonStringAppender append(CharSequence text, int start, int end) {
+        ensureCapacity(end - start);
+        if (text instanceof String) {
+            ((String) text).getChars(start, end, buffer, length);
+        } else if (text instanceof StringBuilder) {
+            ((StringBuilder) text).getChars(start, end, buffer, length);
+        } else {
+            for (int i = start; i < end; i++) {
+                buffer[length + i - start] = text.charAt(i);
+            }
+        }
+        length += end - start;
+        return this;
+    }
+
+    @Override
+    public JsonStringAppender append(char character) {
+        ensureCapacity(1);
+        buffer[length++] = character;
+        return this;
+    }
+
+    /**
+     * Writes the current string value, an empty one if nothing has been appended, and starts over.
+     */
+    void close() throws IOException {
+        generator.writeString(buffer, 0, length);
+        length = 0;
+    }
+
+    private void ensureCapacity(int extraLength) {
+        if (length + extraLength > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extraLength));
+        }
+    }
+}
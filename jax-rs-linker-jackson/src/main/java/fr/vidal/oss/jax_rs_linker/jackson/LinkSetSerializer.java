@@ -0,0 +1,42 @@
+package fr.vidal.oss.jax_rs_linker.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import fr.vidal.oss.jax_rs_linker.model.LinkSet;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serializes a {@link LinkSet} as HAL links, e.g. {@code {"self":{"href":"/product/42"}}}.
+ * Relation names are quoted once, hrefs are copied from the link set buffer without intermediate Strings.
+ */
+public class LinkSetSerializer extends StdSerializer<LinkSet> {
+
+    private static final SerializableString HREF = new SerializedString("href");
+
+    private final Map<String, SerializableString> relations = new ConcurrentHashMap<>();
+
+    public LinkSetSerializer() {
+        super(LinkSet.class);
+    }
+
+    @Override
+    public void serialize(LinkSet links, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        JsonStringAppender href = new JsonStringAppender(generator);
+        generator.writeStartObject(links);
+        for (int i = 0; i < links.size(); i++) {
+            generator.writeFieldName(relations.computeIfAbsent(links.relation(i), SerializedString::new));
+            generator.writeStartObject();
+            generator.writeFieldName(HREF);
+            href.append(links.buffer(), links.start(i), links.end(i));
+            href.close();
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+}
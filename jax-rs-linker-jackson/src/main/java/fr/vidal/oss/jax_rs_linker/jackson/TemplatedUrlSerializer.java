@@ -0,0 +1,23 @@
+package fr.vidal.oss.jax_rs_linker.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import fr.vidal.oss.jax_rs_linker.model.TemplatedUrl;
+
+import java.io.IOException;
+
+/**
+ * Serializes a fully replaced {@link TemplatedUrl} as a JSON string, without rendering its value first.
+ */
+public class TemplatedUrlSerializer extends StdSerializer<TemplatedUrl<?, ?>> {
+
+    public TemplatedUrlSerializer() {
+        super(TemplatedUrl.class, false);
+    }
+
+    @Override
+    public void serialize(TemplatedUrl<?, ?> url, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        url.appendTo(new JsonStringAppender(generator)).close();
+    }
+}
@@ -0,0 +1,47 @@
+package fr.vidal.oss.jax_rs_linker.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.vidal.oss.jax_rs_linker.invocation.ExpandedEntity;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExpandedEntitySerializerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JaxRsLinkerModule());
+
+    @Test
+    public void serializes_entity_with_embedded_relations() throws Exception {
+        Map<String, Object> embedded = new LinkedHashMap<>();
+        embedded.put("brandResource", new ExpandedEntity(new Brand("Vidal"), new LinkedHashMap<>()));
+        embedded.put("companyResource", "company");
+
+        assertThat(mapper.writeValueAsString(new ExpandedEntity(new Brand("Acme"), embedded)))
+            .isEqualTo("{\"name\":\"Acme\",\"_embedded\":{\"brandResource\":{\"name\":\"Vidal\",\"_embedded\":{}},\"companyResource\":\"company\"}}");
+    }
+
+    @Test
+    public void nests_entities_that_cannot_be_unwrapped() throws Exception {
+        Map<String, Object> embedded = new LinkedHashMap<>();
+        embedded.put("brandResource", new Brand("Vidal"));
+
+        assertThat(mapper.writeValueAsString(new ExpandedEntity("product", embedded)))
+            .isEqualTo("{\"content\":\"product\",\"_embedded\":{\"brandResource\":{\"name\":\"Vidal\"}}}");
+    }
+
+    public static class Brand {
+
+        private final String name;
+
+        Brand(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
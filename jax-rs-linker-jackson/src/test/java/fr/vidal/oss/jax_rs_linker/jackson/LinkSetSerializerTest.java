@@ -0,0 +1,73 @@
+package fr.vidal.oss.jax_rs_linker.jackson;
+
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import fr.vidal.oss.jax_rs_linker.model.LinkSet;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LinkSetSerializerTest {
+
+    private static final String[] RELATIONS = {"self", "brandResource"};
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JaxRsLinkerModule());
+
+    @Test
+    public void serializes_links_as_hal_links() throws Exception {
+        LinkSet links = new LinkSet(RELATIONS, "/product/42/product/42/brand", new int[]{11, 28});
+
+        assertThat(mapper.writeValueAsString(links))
+            .isEqualTo("{\"self\":{\"href\":\"/product/42\"},\"brandResource\":{\"href\":\"/product/42/brand\"}}");
+    }
+
+    @Test
+    public void escapes_hrefs_as_plain_strings() throws Exception {
+        String href = "/product/\"café\"\\\n";
+        LinkSet links = new LinkSet(new String[]{"self"}, href, new int[]{href.length()});
+
+        String json = mapper.writeValueAsString(links);
+
+        assertThat(json).isEqualTo("{\"self\":{\"href\":" + mapper.writeValueAsString(href) + "}}");
+        assertThat(mapper.readTree(json).get("self").get("href").textValue()).isEqualTo(href);
+        assertThat(new String(mapper.writeValueAsBytes(links), StandardCharsets.UTF_8)).isEqualTo(json);
+    }
+
+    @Test
+    public void honors_the_escaping_settings_of_the_generator() throws Exception {
+        String href = "/product/café";
+        LinkSet links = new LinkSet(new String[]{"self"}, href, new int[]{href.length()});
+
+        String json = mapper.writer().with(JsonWriteFeature.ESCAPE_NON_ASCII).writeValueAsString(links);
+
+        assertThat(json).isEqualTo("{\"self\":{\"href\":\"/product/caf\\u00E9\"}}");
+    }
+
+    @Test
+    public void serializes_links_within_enclosing_structures() throws Exception {
+        LinkSet first = new LinkSet(new String[]{"self"}, "/product/1", new int[]{10});
+        LinkSet second = new LinkSet(new String[]{"self"}, "/product/2", new int[]{10});
+
+        String json = mapper.copy()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValueAsString(Arrays.asList(first, second));
+
+        JsonNode tree = mapper.readTree(json);
+        assertThat(tree.get(0).get("self").get("href").textValue()).isEqualTo("/product/1");
+        assertThat(tree.get(1).get("self").get("href").textValue()).isEqualTo("/product/2");
+    }
+
+    @Test
+    public void serializes_links_with_non_json_generators() {
+        LinkSet links = new LinkSet(RELATIONS, "/product/42/product/42/brand", new int[]{11, 28});
+
+        JsonNode tree = mapper.valueToTree(links);
+
+        assertThat(tree.get("brandResource").get("href").textValue()).isEqualTo("/product/42/brand");
+    }
+}
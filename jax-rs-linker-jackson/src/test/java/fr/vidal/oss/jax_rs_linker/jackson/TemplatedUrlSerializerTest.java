@@ -0,0 +1,77 @@
+package fr.vidal.oss.jax_rs_linker.jackson;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.vidal.oss.jax_rs_linker.api.PathParameters;
+import fr.vidal.oss.jax_rs_linker.api.QueryParameters;
+import fr.vidal.oss.jax_rs_linker.model.ClassName;
+import fr.vidal.oss.jax_rs_linker.model.PathParameter;
+import fr.vidal.oss.jax_rs_linker.model.QueryParameter;
+import fr.vidal.oss.jax_rs_linker.model.TemplatedUrl;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Collections;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TemplatedUrlSerializerTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JaxRsLinkerModule());
+
+    @Test
+    public void serializes_url_as_string() throws Exception {
+        TemplatedUrl<ProductParameters, ProductQueryParameters> url = productUrl()
+            .replace(ProductParameters.ID, "42")
+            .append(ProductQueryParameters.LABEL, "bleue")
+            .append(ProductQueryParameters.LABEL, "rouge");
+
+        assertThat(mapper.writeValueAsString(Collections.singletonMap("href", url)))
+            .isEqualTo("{\"href\":\"/product/42?label=bleue&label=rouge\"}");
+    }
+
+    @Test
+    public void fails_to_serialize_url_with_unreplaced_parameters() throws Exception {
+        thrown.expect(JsonMappingException.class);
+        thrown.expectMessage("Parameters to replace: id");
+
+        mapper.writeValueAsString(productUrl());
+    }
+
+    private TemplatedUrl<ProductParameters, ProductQueryParameters> productUrl() {
+        return new TemplatedUrl<>(
+            "/product/{id}",
+            singletonList(new PathParameter(ClassName.valueOf("int"), "id")),
+            singletonList(new QueryParameter("label"))
+        );
+    }
+
+    private enum ProductParameters implements PathParameters {
+        ID;
+
+        @Override
+        public String placeholder() {
+            return "id";
+        }
+
+        @Override
+        public Pattern regex() {
+            return null;
+        }
+    }
+
+    private enum ProductQueryParameters implements QueryParameters {
+        LABEL;
+
+        @Override
+        public String value() {
+            return "label";
+        }
+    }
+}
@@ -8,17 +8,34 @@ import com.google.common.collect.Multimap;
 import fr.vidal.oss.jax_rs_linker.api.Self;
 import fr.vidal.oss.jax_rs_linker.api.SubResource;
 import fr.vidal.oss.jax_rs_linker.functions.OptionalFunctions;
+import fr.vidal.oss.jax_rs_linker.jfr.ProcessorPhases;
 import fr.vidal.oss.jax_rs_linker.model.ClassNameGeneration;
+import fr.vidal.oss.jax_rs_linker.model.ClassNames;
+import fr.vidal.oss.jax_rs_linker.model.EntityBinding;
+import fr.vidal.oss.jax_rs_linker.model.EnumDomain;
+import fr.vidal.oss.jax_rs_linker.model.LinkHeaders.Hint;
 import fr.vidal.oss.jax_rs_linker.model.Mapping;
+import fr.vidal.oss.jax_rs_linker.model.MethodInvocation;
 import fr.vidal.oss.jax_rs_linker.parser.ElementParser;
+import fr.vidal.oss.jax_rs_linker.parser.EntityBindingParser;
+import fr.vidal.oss.jax_rs_linker.parser.EnumDomainParser;
+import fr.vidal.oss.jax_rs_linker.parser.InvocationParser;
+import fr.vidal.oss.jax_rs_linker.parser.LinkHintsParser;
 import fr.vidal.oss.jax_rs_linker.parser.ResourceGraphValidator;
+import fr.vidal.oss.jax_rs_linker.writer.ClientLinksWriter;
 import fr.vidal.oss.jax_rs_linker.writer.DotFileWriter;
+import fr.vidal.oss.jax_rs_linker.writer.FingerprintingFiler;
+import fr.vidal.oss.jax_rs_linker.writer.LinkBatchResourceWriter;
+import fr.vidal.oss.jax_rs_linker.writer.LinkExpansionFilterWriter;
+import fr.vidal.oss.jax_rs_linker.writer.LinkHeaderFilterWriter;
 import fr.vidal.oss.jax_rs_linker.writer.LinkerWriter;
 import fr.vidal.oss.jax_rs_linker.writer.PathParamsEnumWriter;
 import fr.vidal.oss.jax_rs_linker.writer.QueryParamsEnumWriter;
 import fr.vidal.oss.jax_rs_linker.writer.ResourceFileWriters;
+import fr.vidal.oss.jax_rs_linker.writer.RouterWriter;
 
 import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
@@ -27,17 +44,25 @@ import javax.lang.model.SourceVersion;
 import javax.lang.model.element.TypeElement;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
 import static com.google.common.collect.Sets.newHashSet;
+import static fr.vidal.oss.jax_rs_linker.errors.CompilationError.RESOURCE_AFTER_AGGREGATES;
 import static fr.vidal.oss.jax_rs_linker.functions.MappingToPathParameters.TO_PATH_PARAMETERS;
 import static fr.vidal.oss.jax_rs_linker.functions.MappingToQueryParameters.TO_QUERY_PARAMETERS;
 import static fr.vidal.oss.jax_rs_linker.predicates.ElementHasKind.byKind;
+import static java.util.stream.Collectors.toList;
 import static javax.lang.model.SourceVersion.latest;
 import static javax.lang.model.element.ElementKind.METHOD;
+import static javax.tools.Diagnostic.Kind.ERROR;
 
 
 @AutoService(Processor.class)
@@ -45,15 +70,64 @@ public class LinkerAnnotationProcessor extends AbstractProcessor {
 
     private static final String GENERATED_CLASSNAME_SUFFIX = "Linker";
     private static final String GRAPH_OPTION = "graph";
+    private static final String ROUTER_OPTION = "router";
+    /**
+     * Generates the filter embedding the results of linked resource methods in the response, on {@code ?expand=}.
+     * These methods are invoked in-process: JAX-RS request filters and authorization of the expanded resources are bypassed.
+     */
+    private static final String EXPAND_OPTION = "expand";
+    /**
+     * Generates the resource resolving a list of links in a single request, optionally at the given path.
+     * Linked resource methods are invoked in-process: JAX-RS request filters and authorization of the linked resources
+     * are bypassed, and links carrying a query string are answered with {@code 400}.
+     */
+    private static final String BATCH_OPTION = "batch";
+    private static final String LINK_HEADERS_OPTION = "linkHeaders";
+    private static final String CLIENT_LINKS_OPTION = "clientLinks";
+    /**
+     * Path of the index of fingerprints, in the build directory, which enables skipping unchanged linker sources.
+     */
+    private static final String FINGERPRINTS_OPTION = "fingerprints";
+    private static final String DEFAULT_BATCH_PATH = "batch";
+    private static final String GRADLE_ISOLATING = "org.gradle.annotation.processing.isolating";
+    private static final String GRADLE_AGGREGATING = "org.gradle.annotation.processing.aggregating";
 
     private final Multimap<ClassNameGeneration, Mapping> elements = LinkedHashMultimap.create();
+    private final Map<Mapping, MethodInvocation> invocations = new LinkedHashMap<>();
+    private final Map<ClassNameGeneration, EntityBinding> entityBindings = new HashMap<>();
+    private final Map<ClassNameGeneration, Map<String, Hint>> linkHints = new HashMap<>();
+    private final ProcessorPhases phases;
     private ResourceFileWriters resourceFiles;
+    private Filer linkerFiler;
+    private Optional<FingerprintingFiler> fingerprintingFiler;
+    private boolean aggregatesGenerated;
     private ElementParser elementParser;
+    private EntityBindingParser entityBindingParser;
+    private EnumDomainParser enumDomainParser;
+    private InvocationParser invocationParser;
+    private LinkHintsParser linkHintsParser;
     private ResourceGraphValidator validator;
 
+    public LinkerAnnotationProcessor() {
+        this(new ProcessorPhases());
+    }
+
+    /**
+     * @param phases recorder of the processing phases, to which benchmarks can listen
+     */
+    public LinkerAnnotationProcessor(ProcessorPhases phases) {
+        this.phases = phases;
+    }
+
+    /**
+     * Declares the Gradle incremental processing category as well, the processor being registered as dynamic:
+     * isolating by default, each generated type having its resource as only originating element,
+     * aggregating as soon as a file spanning all resources is generated.
+     */
     @Override
     public Set<String> getSupportedOptions() {
-        return ImmutableSet.of(GRAPH_OPTION);
+        return ImmutableSet.of(GRAPH_OPTION, ROUTER_OPTION, EXPAND_OPTION, BATCH_OPTION, LINK_HEADERS_OPTION, CLIENT_LINKS_OPTION,
+            FINGERPRINTS_OPTION, isInitialized() && isAggregating() ? GRADLE_AGGREGATING : GRADLE_ISOLATING);
     }
 
     @Override
@@ -74,17 +148,48 @@ public class LinkerAnnotationProcessor extends AbstractProcessor {
         super.init(processingEnv);
         Messager messager = processingEnv.getMessager();
         resourceFiles = new ResourceFileWriters(processingEnv.getFiler());
+        fingerprintingFiler = Optional.ofNullable(processingEnv.getOptions().get(FINGERPRINTS_OPTION))
+            .map(index -> FingerprintingFiler.load(processingEnv.getFiler(), Paths.get(index)));
+        linkerFiler = fingerprintingFiler.isPresent() ? fingerprintingFiler.get() : processingEnv.getFiler();
         validator = new ResourceGraphValidator(messager);
         elementParser = new ElementParser(
             messager,
             processingEnv.getTypeUtils()
         );
+        entityBindingParser = new EntityBindingParser(
+            messager,
+            processingEnv.getTypeUtils(),
+            processingEnv.getElementUtils()
+        );
+        enumDomainParser = new EnumDomainParser(processingEnv.getElementUtils());
+        invocationParser = new InvocationParser(processingEnv.getTypeUtils(), processingEnv.getElementUtils());
+        linkHintsParser = new LinkHintsParser(messager);
     }
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations,
                            RoundEnvironment roundEnv) {
 
+        phases.nextRound();
+        elementParser.nextRound();
+        int writtenSources = fingerprintingFiler.map(FingerprintingFiler::written).orElse(0);
+        Multimap<ClassNameGeneration, Mapping> roundElements = phases.record("parse", () -> parse(annotations, roundEnv));
+        if (phases.record("validate", () -> validator.validateMappings(roundElements))) {
+            checkNotAggregatedYet(roundElements);
+            phases.record("generate", () -> tryGenerateSources(roundElements));
+            phases.record("graph", () -> tryExportGraph(roundEnv));
+            boolean lastSourceRound = roundElements.isEmpty()
+                || fingerprintingFiler.map(filer -> filer.written() == writtenSources).orElse(false);
+            phases.record("router", () -> tryGenerateRouter(lastSourceRound));
+        }
+        if (roundEnv.processingOver()) {
+            fingerprintingFiler.ifPresent(FingerprintingFiler::save);
+        }
+
+        return false;
+    }
+
+    private Multimap<ClassNameGeneration, Mapping> parse(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         ImmutableListMultimap.Builder<ClassNameGeneration, Mapping> buildingRoundElements = ImmutableListMultimap.builder();
         annotations.stream()
             .flatMap(annotation -> roundEnv.getElementsAnnotatedWith(annotation).stream())
@@ -94,14 +199,7 @@ public class LinkerAnnotationProcessor extends AbstractProcessor {
             .map(OptionalFunctions.intoUnwrapped())
             .filter(Objects::nonNull)
             .forEach(e -> buildingRoundElements.put(e.getJavaLocation().getClassNameGeneration(), e));
-
-        Multimap<ClassNameGeneration, Mapping> roundElements = buildingRoundElements.build();
-        if (validator.validateMappings(roundElements)) {
-            tryGenerateSources(roundElements);
-            tryExportGraph(roundEnv);
-        }
-
-        return false;
+        return buildingRoundElements.build();
     }
 
     private void tryGenerateSources(Multimap<ClassNameGeneration, Mapping> roundElements) {
@@ -114,17 +212,68 @@ public class LinkerAnnotationProcessor extends AbstractProcessor {
 
     private void tryExportGraph(RoundEnvironment roundEnv) {
         if (roundEnv.processingOver() && processingEnv.getOptions().get(GRAPH_OPTION) != null) {
-            try (DotFileWriter writer = new DotFileWriter(resourceFiles.writer("resources.dot"))) {
+            try (DotFileWriter writer = new DotFileWriter(resourceFiles.writer("resources.dot", originatingElements()))) {
                 writer.write(elements);
             }
         }
     }
 
+    /**
+     * Sources spanning all resources are generated once, in the first round without new linker sources
+     * to compile, rather than in the last round, which would leave them out of annotation processing.
+     */
+    private void tryGenerateRouter(boolean lastSourceRound) {
+        if (aggregatesGenerated || !lastSourceRound || elements.isEmpty()) {
+            return;
+        }
+        aggregatesGenerated = true;
+        Map<String, String> options = processingEnv.getOptions();
+        List<TypeElement> originatingElements = originatingElements();
+        try {
+            if (isIndexed()) {
+                new RouterWriter(processingEnv.getFiler()).writeIndex(ClassNames.ROUTES, elements, invocations, entityBindings);
+            } else if (options.containsKey(ROUTER_OPTION) || options.containsKey(LINK_HEADERS_OPTION)) {
+                new RouterWriter(processingEnv.getFiler()).write(ClassNames.ROUTES, elements);
+            }
+            if (options.containsKey(LINK_HEADERS_OPTION)) {
+                new LinkHeaderFilterWriter(processingEnv.getFiler()).write(ClassNames.LINK_HEADER_FILTER, elements, linkHints);
+            }
+            if (options.containsKey(EXPAND_OPTION)) {
+                new LinkExpansionFilterWriter(processingEnv.getFiler()).write(ClassNames.LINK_EXPANSION_FILTER, originatingElements);
+            }
+            if (options.containsKey(BATCH_OPTION)) {
+                String path = Optional.ofNullable(options.get(BATCH_OPTION)).orElse(DEFAULT_BATCH_PATH);
+                new LinkBatchResourceWriter(processingEnv.getFiler()).write(ClassNames.LINK_BATCH_RESOURCE, path, originatingElements);
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    /**
+     * Resources generated by other processors once the aggregated sources have been written cannot be part of them.
+     */
+    private void checkNotAggregatedYet(Multimap<ClassNameGeneration, Mapping> roundElements) {
+        if (!aggregatesGenerated) {
+            return;
+        }
+        for (ClassNameGeneration className : roundElements.keySet()) {
+            TypeElement resource = className.getOriginatingElement();
+            processingEnv.getMessager().printMessage(ERROR, RESOURCE_AFTER_AGGREGATES.format(resource.getQualifiedName()), resource);
+        }
+    }
+
     private void generateSources(Multimap<ClassNameGeneration, Mapping> roundElements) throws IOException {
-        elements.putAll(roundElements);
+        if (isAggregating()) {
+            elements.putAll(roundElements);
+        }
         generateLinkerSources(roundElements);
     }
 
+    private List<TypeElement> originatingElements() {
+        return elements.keySet().stream().map(ClassNameGeneration::getOriginatingElement).collect(toList());
+    }
+
     private void generateLinkerSources(Multimap<ClassNameGeneration, Mapping> elements) throws IOException {
         for (ClassNameGeneration className : elements.keySet()) {
             generateLinkerClasses(className, elements.get(className));
@@ -135,7 +284,40 @@ public class LinkerAnnotationProcessor extends AbstractProcessor {
 
     private void generateLinkerClasses(ClassNameGeneration className, Collection<Mapping> mappings) throws IOException {
         ClassNameGeneration generatedClass = className.append(GENERATED_CLASSNAME_SUFFIX);
-        new LinkerWriter(processingEnv.getFiler()).write(generatedClass, mappings);
+        Optional<EntityBinding> entityBinding = entityBindingParser.parse(className.getOriginatingElement(), mappings);
+        Map<String, EnumDomain> enumDomains = enumDomainParser.parse(className.getOriginatingElement(), mappings);
+        Map<String, Hint> hints = linkHintsParser.parse(className.getOriginatingElement(), mappings);
+        if (!hints.isEmpty() && isAggregating()) {
+            linkHints.put(className, hints);
+        }
+        if (isIndexed()) {
+            entityBinding.ifPresent(binding -> entityBindings.put(className, binding));
+            for (Mapping mapping : mappings) {
+                invocationParser.parse(mapping).ifPresent(invocation -> invocations.put(mapping, invocation));
+            }
+        }
+        new LinkerWriter(linkerFiler).write(generatedClass, mappings, entityBinding, enumDomains);
+        if (processingEnv.getOptions().containsKey(CLIENT_LINKS_OPTION)) {
+            new ClientLinksWriter(linkerFiler).write(className.append("ClientLinks"), className.append("PathParameters"), mappings);
+        }
+    }
+
+    /**
+     * Whether a file spanning all resources is generated, which is the only reason to keep state across resources.
+     */
+    private boolean isAggregating() {
+        Map<String, String> options = processingEnv.getOptions();
+        return options.get(GRAPH_OPTION) != null
+            || options.containsKey(ROUTER_OPTION)
+            || options.containsKey(LINK_HEADERS_OPTION)
+            || isIndexed();
+    }
+
+    /**
+     * Whether the router has to index the invocable resource methods, for link expansion or batches.
+     */
+    private boolean isIndexed() {
+        return processingEnv.getOptions().containsKey(EXPAND_OPTION) || processingEnv.getOptions().containsKey(BATCH_OPTION);
     }
 
     private void generatePathParamEnums(ClassNameGeneration className, Collection<Mapping> mappings) throws IOException {
@@ -143,7 +325,7 @@ public class LinkerAnnotationProcessor extends AbstractProcessor {
             return;
         }
         ClassNameGeneration generatedEnum = className.append("PathParameters");
-        new PathParamsEnumWriter(processingEnv.getFiler()).write(generatedEnum, mappings);
+        new PathParamsEnumWriter(linkerFiler).write(generatedEnum, mappings);
     }
 
     private void generateQueryParamEnums(ClassNameGeneration className, Collection<Mapping> mappings) throws IOException {
@@ -151,6 +333,6 @@ public class LinkerAnnotationProcessor extends AbstractProcessor {
             return;
         }
         ClassNameGeneration generatedEnum = className.append("QueryParameters");
-        new QueryParamsEnumWriter(processingEnv.getFiler()).write(generatedEnum, mappings);
+        new QueryParamsEnumWriter(linkerFiler).write(generatedEnum, mappings);
     }
 }
@@ -41,6 +41,24 @@ public enum CompilationError {
     MISSING_SELF(
         "%n\tThe following classes need exactly 1 method annotated with @Self annotation:" +
         "%n\t - %s"
+    ),
+    MISSING_ENTITY_ACCESSOR(
+        "%n\tNo public no-arg accessor <%s> could be found on <%s> for parameter <%s>." +
+        "%n\tPlease declare it or bind the parameter with @LinkedEntity bindings." +
+        "%n\tGiven class: <%s>"
+    ),
+    UNKNOWN_BINDING_PARAMETER(
+        "%n\t@Binding refers to <%s>, which is neither a path nor a query parameter of the resource." +
+        "%n\tGiven class: <%s>"
+    ),
+    UNKNOWN_HINTED_RELATION(
+        "%n\t@LinkHints refers to <%s>, which is not a sub-resource relation of the resource." +
+        "%n\tGiven class: <%s>"
+    ),
+    RESOURCE_AFTER_AGGREGATES(
+        "%n\tThe resource is generated after the router and filters spanning all resources, which leave it out." +
+        "%n\tPlease generate it in an earlier round." +
+        "%n\tGiven class: <%s>"
     );
 
     private final String errorMessage;
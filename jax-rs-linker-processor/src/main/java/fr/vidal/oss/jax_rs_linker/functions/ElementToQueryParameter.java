@@ -1,9 +1,11 @@
 package fr.vidal.oss.jax_rs_linker.functions;
 
 import com.google.common.base.Function;
+import fr.vidal.oss.jax_rs_linker.model.ClassName;
 import fr.vidal.oss.jax_rs_linker.model.QueryParameter;
 
 import javax.lang.model.element.Element;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.QueryParam;
 
 public enum ElementToQueryParameter implements Function<Element, QueryParameter> {
@@ -12,7 +14,10 @@ public enum ElementToQueryParameter implements Function<Element, QueryParameter>
 
     @Override
     public QueryParameter apply(Element parameterElement) {
-        return new QueryParameter(parameterElement.getAnnotation(QueryParam.class).value());
+        String name = parameterElement.getAnnotation(QueryParam.class).value();
+        DefaultValue defaultValue = parameterElement.getAnnotation(DefaultValue.class);
+        ClassName type = ClassName.valueOf(parameterElement.asType().toString());
+        return defaultValue == null ? new QueryParameter(type, name) : new QueryParameter(type, name, defaultValue.value());
     }
 
 }
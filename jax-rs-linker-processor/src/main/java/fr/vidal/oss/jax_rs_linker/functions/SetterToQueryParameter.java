@@ -1,8 +1,10 @@
 package fr.vidal.oss.jax_rs_linker.functions;
 
+import fr.vidal.oss.jax_rs_linker.model.ClassName;
 import fr.vidal.oss.jax_rs_linker.model.QueryParameter;
 
 import javax.lang.model.element.ExecutableElement;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.QueryParam;
 import com.google.common.base.Function;
 
@@ -12,6 +14,9 @@ public enum SetterToQueryParameter implements Function<ExecutableElement, QueryP
 
     @Override
     public QueryParameter apply(ExecutableElement executableElement) {
-        return new QueryParameter(executableElement.getAnnotation(QueryParam.class).value());
+        String name = executableElement.getAnnotation(QueryParam.class).value();
+        DefaultValue defaultValue = executableElement.getAnnotation(DefaultValue.class);
+        ClassName type = ClassName.valueOf(executableElement.getParameters().iterator().next().asType().toString());
+        return defaultValue == null ? new QueryParameter(type, name) : new QueryParameter(type, name, defaultValue.value());
     }
 }
@@ -0,0 +1,28 @@
+package fr.vidal.oss.jax_rs_linker.jfr;
+
+import java.util.function.Supplier;
+
+/**
+ * Only loaded when JFR is available, so that the processor still runs on JVMs without it.
+ */
+final class JfrProcessorPhases {
+
+    private JfrProcessorPhases() {
+        // Hide me!
+    }
+
+    static <T> T record(String phase, int round, Supplier<T> step) {
+        ProcessorPhaseEvent event = new ProcessorPhaseEvent();
+        event.begin();
+        try {
+            return step.get();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.phase = phase;
+                event.round = round;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package fr.vidal.oss.jax_rs_linker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("fr.vidal.oss.jax_rs_linker.ProcessorPhase")
+@Label("Linker Processor Phase")
+@Description("Phase of a round of the linker annotation processor")
+@Category("JAX-RS Linker")
+@StackTrace(false)
+final class ProcessorPhaseEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Round")
+    int round;
+}
@@ -0,0 +1,73 @@
+package fr.vidal.oss.jax_rs_linker.jfr;
+
+import java.util.function.Supplier;
+
+/**
+ * Records the phases of each processing round as Java Flight Recorder events, whenever the compiler runs
+ * on a JVM shipping JFR (8u272 and later) and a recording is in progress, e.g. with
+ * {@code -J-XX:StartFlightRecording} passed to {@code javac}.
+ * A {@link Listener} can also be notified around each phase, e.g. to measure it from a benchmark harness.
+ */
+public final class ProcessorPhases {
+
+    private static final boolean JFR_AVAILABLE = isJfrAvailable();
+    private static final Listener NO_LISTENER = new Listener() {
+        @Override
+        public void started(String phase, int round) {
+        }
+
+        @Override
+        public void finished(String phase, int round) {
+        }
+    };
+
+    private final Listener listener;
+    private int round;
+
+    public ProcessorPhases() {
+        this(NO_LISTENER);
+    }
+
+    public ProcessorPhases(Listener listener) {
+        this.listener = listener;
+    }
+
+    public void nextRound() {
+        round++;
+    }
+
+    public <T> T record(String phase, Supplier<T> step) {
+        listener.started(phase, round);
+        try {
+            if (!JFR_AVAILABLE) {
+                return step.get();
+            }
+            return JfrProcessorPhases.record(phase, round, step);
+        } finally {
+            listener.finished(phase, round);
+        }
+    }
+
+    public void record(String phase, Runnable step) {
+        record(phase, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    private static boolean isJfrAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, ProcessorPhases.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    public interface Listener {
+
+        void started(String phase, int round);
+
+        void finished(String phase, int round);
+    }
+}
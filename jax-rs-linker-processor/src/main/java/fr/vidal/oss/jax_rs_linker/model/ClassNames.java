@@ -3,6 +3,10 @@ package fr.vidal.oss.jax_rs_linker.model;
 public class ClassNames {
 
     public static final ClassName CONTEXT_PATH_HOLDER = ClassName.valueOf("fr.vidal.oss.jax_rs_linker.ContextPathHolder");
+    public static final ClassName ROUTES = ClassName.valueOf("fr.vidal.oss.jax_rs_linker.Routes");
+    public static final ClassName LINK_BATCH_RESOURCE = ClassName.valueOf("fr.vidal.oss.jax_rs_linker.LinkBatchResource");
+    public static final ClassName LINK_HEADER_FILTER = ClassName.valueOf("fr.vidal.oss.jax_rs_linker.LinkHeaderFilter");
+    public static final ClassName LINK_EXPANSION_FILTER = ClassName.valueOf("fr.vidal.oss.jax_rs_linker.LinkExpansionFilter");
 
     private ClassNames() {
         // Hide me!
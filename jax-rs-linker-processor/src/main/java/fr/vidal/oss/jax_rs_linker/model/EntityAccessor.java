@@ -0,0 +1,62 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import javax.lang.model.type.TypeMirror;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+public final class EntityAccessor {
+
+    private final String methodName;
+    private final TypeMirror type;
+    private final boolean iterable;
+
+    public EntityAccessor(String methodName, TypeMirror type, boolean iterable) {
+        this.methodName = methodName;
+        this.type = type;
+        this.iterable = iterable;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Type of the extracted value, unboxed when the matching parameter is declared as a primitive
+     */
+    public TypeMirror getType() {
+        return type;
+    }
+
+    public boolean isPrimitive() {
+        return type.getKind().isPrimitive();
+    }
+
+    public boolean isIterable() {
+        return iterable;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(methodName, type, iterable);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final EntityAccessor other = (EntityAccessor) obj;
+        return Objects.equals(this.methodName, other.methodName)
+            && Objects.equals(this.type, other.type)
+            && this.iterable == other.iterable;
+    }
+
+    @Override
+    public String toString() {
+        return format("%s %s()", type, methodName);
+    }
+}
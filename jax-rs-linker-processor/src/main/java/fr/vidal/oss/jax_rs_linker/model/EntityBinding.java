@@ -0,0 +1,66 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import javax.lang.model.type.TypeMirror;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Accessors of a {@code @LinkedEntity} type, by path and query parameter name.
+ */
+public final class EntityBinding {
+
+    private final TypeMirror entityType;
+    private final Map<String, EntityAccessor> pathAccessors;
+    private final Map<String, EntityAccessor> queryAccessors;
+
+    public EntityBinding(TypeMirror entityType,
+                         Map<String, EntityAccessor> pathAccessors,
+                         Map<String, EntityAccessor> queryAccessors) {
+
+        this.entityType = requireNonNull(entityType);
+        this.pathAccessors = requireNonNull(pathAccessors);
+        this.queryAccessors = requireNonNull(queryAccessors);
+    }
+
+    public TypeMirror getEntityType() {
+        return entityType;
+    }
+
+    public Map<String, EntityAccessor> getPathAccessors() {
+        return pathAccessors;
+    }
+
+    public Map<String, EntityAccessor> getQueryAccessors() {
+        return queryAccessors;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entityType, pathAccessors, queryAccessors);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final EntityBinding other = (EntityBinding) obj;
+        return Objects.equals(this.entityType, other.entityType)
+            && Objects.equals(this.pathAccessors, other.pathAccessors)
+            && Objects.equals(this.queryAccessors, other.queryAccessors);
+    }
+
+    @Override
+    public String toString() {
+        return "EntityBinding{" +
+            "entityType=" + entityType +
+            ", pathAccessors=" + pathAccessors +
+            ", queryAccessors=" + queryAccessors +
+            '}';
+    }
+}
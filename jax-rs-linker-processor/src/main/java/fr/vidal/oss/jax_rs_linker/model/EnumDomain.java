@@ -0,0 +1,51 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import javax.lang.model.element.TypeElement;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * Enum type of a path parameter, along with its number of constants at compilation time.
+ */
+public final class EnumDomain {
+
+    private final TypeElement type;
+    private final int size;
+
+    public EnumDomain(TypeElement type, int size) {
+        this.type = type;
+        this.size = size;
+    }
+
+    public TypeElement getType() {
+        return type;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, size);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final EnumDomain other = (EnumDomain) obj;
+        return Objects.equals(this.type, other.type)
+            && this.size == other.size;
+    }
+
+    @Override
+    public String toString() {
+        return format("%s (%d constants)", type, size);
+    }
+}
@@ -0,0 +1,129 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import javax.lang.model.type.TypeMirror;
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.lang.String.format;
+
+/**
+ * Argument of a resource method invoked in-process: either converted from a path parameter,
+ * or set to the value JAX-RS injects for a query parameter left out, i.e. its {@code @DefaultValue} if any.
+ */
+public final class InvocationArgument {
+
+    private final TypeMirror type;
+    private final Optional<String> pathParameter;
+    private final Optional<String> defaultValue;
+    private final Optional<CollectionType> collectionType;
+    private final Conversion conversion;
+
+    private InvocationArgument(TypeMirror type, Optional<String> pathParameter, Optional<String> defaultValue,
+                               Optional<CollectionType> collectionType, Conversion conversion) {
+        this.type = type;
+        this.pathParameter = pathParameter;
+        this.defaultValue = defaultValue;
+        this.collectionType = collectionType;
+        this.conversion = conversion;
+    }
+
+    public static InvocationArgument pathParameter(TypeMirror type, String name, Conversion conversion) {
+        return new InvocationArgument(type, Optional.of(name), Optional.empty(), Optional.empty(), conversion);
+    }
+
+    /**
+     * @param conversion how the {@code @DefaultValue}, if any, is converted to the argument type
+     */
+    public static InvocationArgument queryParameter(TypeMirror type, Optional<String> defaultValue, Conversion conversion) {
+        return new InvocationArgument(type, Optional.empty(), defaultValue, Optional.empty(), conversion);
+    }
+
+    /**
+     * @param conversion how the {@code @DefaultValue}, if any, is converted to the element type
+     */
+    public static InvocationArgument queryParameters(TypeMirror type, CollectionType collectionType, Optional<String> defaultValue,
+                                                     Conversion conversion) {
+        return new InvocationArgument(type, Optional.empty(), defaultValue, Optional.of(collectionType), conversion);
+    }
+
+    public TypeMirror getType() {
+        return type;
+    }
+
+    public Optional<String> getPathParameter() {
+        return pathParameter;
+    }
+
+    public Optional<String> getDefaultValue() {
+        return defaultValue;
+    }
+
+    public Optional<CollectionType> getCollectionType() {
+        return collectionType;
+    }
+
+    public Conversion getConversion() {
+        return conversion;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, pathParameter, defaultValue, collectionType, conversion);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final InvocationArgument other = (InvocationArgument) obj;
+        return Objects.equals(this.type, other.type)
+            && Objects.equals(this.pathParameter, other.pathParameter)
+            && Objects.equals(this.defaultValue, other.defaultValue)
+            && Objects.equals(this.collectionType, other.collectionType)
+            && this.conversion == other.conversion;
+    }
+
+    @Override
+    public String toString() {
+        return format("%s %s", type, pathParameter.orElse(defaultValue.map(value -> format("<default %s>", value)).orElse("<default>")));
+    }
+
+    /**
+     * How a path parameter or default value is converted to the argument type, as JAX-RS would do.
+     */
+    public enum Conversion {
+        NONE,
+        VALUE_OF,
+        FROM_STRING,
+        CONSTRUCTOR
+    }
+
+    /**
+     * Collections JAX-RS injects query parameters as, each of them being given as a new mutable instance.
+     */
+    public enum CollectionType {
+        LIST("java.util.List", "java.util.ArrayList"),
+        SET("java.util.Set", "java.util.HashSet"),
+        SORTED_SET("java.util.SortedSet", "java.util.TreeSet");
+
+        private final String interfaceName;
+        private final String implementationName;
+
+        CollectionType(String interfaceName, String implementationName) {
+            this.interfaceName = interfaceName;
+            this.implementationName = implementationName;
+        }
+
+        public String getInterfaceName() {
+            return interfaceName;
+        }
+
+        public String getImplementationName() {
+            return implementationName;
+        }
+    }
+}
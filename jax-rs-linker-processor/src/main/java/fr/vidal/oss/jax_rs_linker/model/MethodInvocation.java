@@ -0,0 +1,64 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * Resource method that can be invoked in-process, from the path parameters of its route and the default values
+ * of its query parameters.
+ */
+public final class MethodInvocation {
+
+    private final String methodName;
+    private final List<InvocationArgument> arguments;
+    private final boolean returningResponse;
+
+    public MethodInvocation(String methodName, List<InvocationArgument> arguments, boolean returningResponse) {
+        this.methodName = methodName;
+        this.arguments = ImmutableList.copyOf(arguments);
+        this.returningResponse = returningResponse;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public List<InvocationArgument> getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Whether the method returns a {@code javax.ws.rs.core.Response}, whose entity is then the actual result.
+     */
+    public boolean isReturningResponse() {
+        return returningResponse;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(methodName, arguments, returningResponse);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final MethodInvocation other = (MethodInvocation) obj;
+        return Objects.equals(this.methodName, other.methodName)
+            && Objects.equals(this.arguments, other.arguments)
+            && this.returningResponse == other.returningResponse;
+    }
+
+    @Override
+    public String toString() {
+        return format("%s(%s)", methodName, arguments);
+    }
+}
@@ -0,0 +1,56 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import java.util.Objects;
+
+public final class PathSegment {
+
+    private final String value;
+    private final boolean placeholder;
+
+    private PathSegment(String value, boolean placeholder) {
+        this.value = value;
+        this.placeholder = placeholder;
+    }
+
+    public static PathSegment literal(String value) {
+        return new PathSegment(value, false);
+    }
+
+    public static PathSegment placeholder(String name) {
+        return new PathSegment(name, true);
+    }
+
+    /**
+     * Literal text or parameter name, whether this segment is a placeholder or not.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    public boolean isPlaceholder() {
+        return placeholder;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, placeholder);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final PathSegment other = (PathSegment) obj;
+        return Objects.equals(this.value, other.value)
+            && this.placeholder == other.placeholder;
+    }
+
+    @Override
+    public String toString() {
+        return placeholder ? "{" + value + "}" : value;
+    }
+}
@@ -1,9 +1,12 @@
 package fr.vidal.oss.jax_rs_linker.parser;
 
 import fr.vidal.oss.jax_rs_linker.model.PathParameter;
+import fr.vidal.oss.jax_rs_linker.model.PathSegment;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
 
@@ -38,6 +41,29 @@ public final class ApiPaths {
             .collect(toList());
     }
 
+    /**
+     * Splits a sanitized path into literal text and placeholders, in order.
+     * e.g.: {@code /product/{id}/brand} gives {@code [/product/, {id}, /brand]}
+     */
+    public static List<PathSegment> segments(String sanitizedPath) {
+        List<PathSegment> segments = new ArrayList<>();
+        int position = 0;
+        while (position < sanitizedPath.length()) {
+            int openingBracePosition = sanitizedPath.indexOf('{', position);
+            int closingBracePosition = openingBracePosition == -1 ? -1 : sanitizedPath.indexOf('}', openingBracePosition);
+            if (closingBracePosition == -1) {
+                segments.add(PathSegment.literal(sanitizedPath.substring(position)));
+                break;
+            }
+            if (openingBracePosition > position) {
+                segments.add(PathSegment.literal(sanitizedPath.substring(position, openingBracePosition)));
+            }
+            segments.add(PathSegment.placeholder(sanitizedPath.substring(openingBracePosition + 1, closingBracePosition).trim()));
+            position = closingBracePosition + 1;
+        }
+        return segments;
+    }
+
     private static Map<String, String> extractParametersRegex(String path) {
         Map<String, String> parameterAndRegex = new HashMap<>();
 
@@ -72,6 +72,15 @@ public class ElementParser {
         );
     }
 
+    /**
+     * Forgets what was memoized about the elements of the previous round.
+     */
+    public void nextRound() {
+        pathVisitor.nextRound();
+        queryParameterVisitor.nextRound();
+        pathParameterVisitor.nextRound();
+    }
+
     public Optional<Mapping> parse(Element element) {
         if (element.getKind() != ElementKind.METHOD) {
             return compilationError(element, CompilationError.NOT_A_METHOD.format(element));
@@ -0,0 +1,209 @@
+package fr.vidal.oss.jax_rs_linker.parser;
+
+import fr.vidal.oss.jax_rs_linker.errors.CompilationError;
+import fr.vidal.oss.jax_rs_linker.model.EntityAccessor;
+import fr.vidal.oss.jax_rs_linker.model.EntityBinding;
+import fr.vidal.oss.jax_rs_linker.model.Mapping;
+import fr.vidal.oss.jax_rs_linker.model.PathParameter;
+import fr.vidal.oss.jax_rs_linker.model.QueryParameter;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static fr.vidal.oss.jax_rs_linker.functions.MappingToPathParameters.TO_PATH_PARAMETERS;
+import static fr.vidal.oss.jax_rs_linker.functions.MappingToQueryParameters.TO_QUERY_PARAMETERS;
+import static fr.vidal.oss.jax_rs_linker.predicates.AnnotationMirrorByNamePredicate.byName;
+import static java.util.stream.Collectors.toCollection;
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+/**
+ * Resolves the accessors of the {@code @LinkedEntity} type, if any, of a resource class.
+ * Parameter {@code foo} is read from its explicit binding, or else from {@code getFoo()}, {@code isFoo()} or {@code foo()}.
+ * Path parameters must all be bound, query parameters without any matching accessor are left out.
+ */
+public class EntityBindingParser {
+
+    private final Messager messager;
+    private final Types typeUtils;
+    private final Elements elementUtils;
+
+    public EntityBindingParser(Messager messager, Types typeUtils, Elements elementUtils) {
+        this.messager = messager;
+        this.typeUtils = typeUtils;
+        this.elementUtils = elementUtils;
+    }
+
+    public Optional<EntityBinding> parse(TypeElement resource, Collection<Mapping> mappings) {
+        Optional<? extends AnnotationMirror> maybeLinkedEntity = resource.getAnnotationMirrors().stream()
+            .filter(byName("LinkedEntity"))
+            .findFirst();
+        if (!maybeLinkedEntity.isPresent()) {
+            return Optional.empty();
+        }
+
+        Map<String, AnnotationValue> linkedEntity = values(maybeLinkedEntity.get());
+        DeclaredType entityType = (DeclaredType) linkedEntity.get("value").getValue();
+        Map<String, String> bindings = bindings(linkedEntity.get("bindings"));
+        Map<String, PathParameter> pathParameters = pathParameters(mappings);
+        Set<String> queryParameters = mappings.stream()
+            .flatMap(TO_QUERY_PARAMETERS)
+            .map(QueryParameter::getName)
+            .collect(toCollection(TreeSet::new));
+
+        for (String parameter : bindings.keySet()) {
+            if (!pathParameters.containsKey(parameter) && !queryParameters.contains(parameter)) {
+                return compilationError(resource, CompilationError.UNKNOWN_BINDING_PARAMETER.format(parameter, resource.getQualifiedName()));
+            }
+        }
+
+        Map<String, ExecutableElement> accessors = accessors(entityType);
+        Map<String, EntityAccessor> pathAccessors = new LinkedHashMap<>();
+        for (PathParameter parameter : pathParameters.values()) {
+            List<String> candidates = candidates(parameter.getName(), bindings);
+            Optional<ExecutableElement> accessor = find(accessors, candidates);
+            if (!accessor.isPresent()) {
+                return missingAccessor(resource, entityType, parameter.getName(), candidates);
+            }
+            pathAccessors.put(parameter.getName(), entityAccessor(entityType, accessor.get(), parameter.getType().fullyQualifiedName()));
+        }
+
+        Map<String, EntityAccessor> queryAccessors = new LinkedHashMap<>();
+        for (String parameter : queryParameters) {
+            List<String> candidates = candidates(parameter, bindings);
+            Optional<ExecutableElement> accessor = find(accessors, candidates);
+            if (accessor.isPresent()) {
+                queryAccessors.put(parameter, entityAccessor(entityType, accessor.get(), ""));
+            } else if (bindings.containsKey(parameter)) {
+                return missingAccessor(resource, entityType, parameter, candidates);
+            }
+        }
+        return Optional.of(new EntityBinding(entityType, pathAccessors, queryAccessors));
+    }
+
+    private Map<String, AnnotationValue> values(AnnotationMirror annotation) {
+        Map<String, AnnotationValue> values = new TreeMap<>();
+        elementUtils.getElementValuesWithDefaults(annotation)
+            .forEach((method, value) -> values.put(method.getSimpleName().toString(), value));
+        return values;
+    }
+
+    private Map<String, String> bindings(AnnotationValue bindingsValue) {
+        Map<String, String> bindings = new LinkedHashMap<>();
+        for (Object binding : (List<?>) bindingsValue.getValue()) {
+            Map<String, AnnotationValue> values = values((AnnotationMirror) ((AnnotationValue) binding).getValue());
+            bindings.put(values.get("parameter").getValue().toString(), values.get("accessor").getValue().toString());
+        }
+        return bindings;
+    }
+
+    private Map<String, PathParameter> pathParameters(Collection<Mapping> mappings) {
+        Map<String, PathParameter> parameters = new TreeMap<>();
+        mappings.stream()
+            .flatMap(TO_PATH_PARAMETERS)
+            .forEach(parameter -> parameters.putIfAbsent(parameter.getName(), parameter));
+        return parameters;
+    }
+
+    private Map<String, ExecutableElement> accessors(DeclaredType entityType) {
+        Map<String, ExecutableElement> accessors = new TreeMap<>();
+        TypeElement entity = (TypeElement) entityType.asElement();
+        for (ExecutableElement method : ElementFilter.methodsIn(elementUtils.getAllMembers(entity))) {
+            if (method.getModifiers().contains(Modifier.PUBLIC)
+                && !method.getModifiers().contains(Modifier.STATIC)
+                && method.getParameters().isEmpty()
+                && method.getReturnType().getKind() != TypeKind.VOID) {
+
+                accessors.put(method.getSimpleName().toString(), method);
+            }
+        }
+        return accessors;
+    }
+
+    private List<String> candidates(String parameter, Map<String, String> bindings) {
+        String explicitAccessor = bindings.get(parameter);
+        if (explicitAccessor != null) {
+            return Arrays.asList(explicitAccessor);
+        }
+        String property = property(parameter);
+        String capitalizedProperty = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        return Arrays.asList("get" + capitalizedProperty, "is" + capitalizedProperty, property);
+    }
+
+    private String property(String parameter) {
+        StringBuilder property = new StringBuilder();
+        boolean upperCaseNext = false;
+        for (char character : parameter.toCharArray()) {
+            if (!Character.isJavaIdentifierPart(character) || character == '_') {
+                upperCaseNext = property.length() > 0;
+            } else {
+                property.append(upperCaseNext ? Character.toUpperCase(character) : character);
+                upperCaseNext = false;
+            }
+        }
+        return property.toString();
+    }
+
+    private Optional<ExecutableElement> find(Map<String, ExecutableElement> accessors, List<String> candidates) {
+        return candidates.stream()
+            .filter(accessors::containsKey)
+            .map(accessors::get)
+            .findFirst();
+    }
+
+    private EntityAccessor entityAccessor(DeclaredType entityType, ExecutableElement accessor, String parameterType) {
+        TypeMirror type = ((ExecutableType) typeUtils.asMemberOf(entityType, accessor)).getReturnType();
+        boolean iterable = type.getKind() == TypeKind.DECLARED
+            && typeUtils.isAssignable(typeUtils.erasure(type), typeUtils.erasure(elementUtils.getTypeElement(Iterable.class.getName()).asType()));
+        return new EntityAccessor(
+            accessor.getSimpleName().toString(),
+            unboxedIfDeclaredPrimitive(type, parameterType),
+            iterable
+        );
+    }
+
+    private TypeMirror unboxedIfDeclaredPrimitive(TypeMirror type, String parameterType) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return type;
+        }
+        try {
+            TypeMirror unboxed = typeUtils.unboxedType(type);
+            return unboxed.toString().equals(parameterType) ? unboxed : type;
+        } catch (IllegalArgumentException notUnboxable) {
+            return type;
+        }
+    }
+
+    private Optional<EntityBinding> missingAccessor(TypeElement resource, TypeMirror entityType, String parameter, List<String> candidates) {
+        return compilationError(resource, CompilationError.MISSING_ENTITY_ACCESSOR.format(
+            String.join("|", candidates),
+            entityType,
+            parameter,
+            resource.getQualifiedName()
+        ));
+    }
+
+    private Optional<EntityBinding> compilationError(TypeElement resource, String errorMsg) {
+        messager.printMessage(ERROR, errorMsg, resource);
+        return Optional.empty();
+    }
+}
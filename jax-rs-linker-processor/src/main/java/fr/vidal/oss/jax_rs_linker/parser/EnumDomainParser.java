@@ -0,0 +1,61 @@
+package fr.vidal.oss.jax_rs_linker.parser;
+
+import fr.vidal.oss.jax_rs_linker.model.EnumDomain;
+import fr.vidal.oss.jax_rs_linker.model.Mapping;
+import fr.vidal.oss.jax_rs_linker.model.PathParameter;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static fr.vidal.oss.jax_rs_linker.functions.MappingToPathParameters.TO_PATH_PARAMETERS;
+
+/**
+ * Spots the path parameters declared as enums reachable from the generated linker, by parameter name.
+ */
+public class EnumDomainParser {
+
+    private final Elements elementUtils;
+
+    public EnumDomainParser(Elements elementUtils) {
+        this.elementUtils = elementUtils;
+    }
+
+    public Map<String, EnumDomain> parse(TypeElement resource, Collection<Mapping> mappings) {
+        Map<String, EnumDomain> domains = new TreeMap<>();
+        mappings.stream()
+            .flatMap(TO_PATH_PARAMETERS)
+            .forEach(parameter -> enumDomain(resource, parameter).ifPresent(domain -> domains.putIfAbsent(parameter.getName(), domain)));
+        return domains;
+    }
+
+    private Optional<EnumDomain> enumDomain(TypeElement resource, PathParameter parameter) {
+        TypeElement type = elementUtils.getTypeElement(parameter.getType().fullyQualifiedName());
+        if (type == null || type.getKind() != ElementKind.ENUM || !isAccessible(type, resource)) {
+            return Optional.empty();
+        }
+        int size = (int) type.getEnclosedElements().stream()
+            .filter(element -> element.getKind() == ElementKind.ENUM_CONSTANT)
+            .count();
+        return Optional.of(new EnumDomain(type, size));
+    }
+
+    private boolean isAccessible(TypeElement type, TypeElement resource) {
+        for (Element element = type; element.getKind() != ElementKind.PACKAGE; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!element.getModifiers().contains(Modifier.PUBLIC)
+                && !elementUtils.getPackageOf(element).equals(elementUtils.getPackageOf(resource))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,187 @@
+package fr.vidal.oss.jax_rs_linker.parser;
+
+import fr.vidal.oss.jax_rs_linker.model.InvocationArgument;
+import fr.vidal.oss.jax_rs_linker.model.InvocationArgument.CollectionType;
+import fr.vidal.oss.jax_rs_linker.model.InvocationArgument.Conversion;
+import fr.vidal.oss.jax_rs_linker.model.Mapping;
+import fr.vidal.oss.jax_rs_linker.model.MethodInvocation;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static fr.vidal.oss.jax_rs_linker.predicates.AnnotationMirrorByNamePredicate.byName;
+
+/**
+ * Spots the linked resource methods that can be invoked in-process, i.e. public methods returning a value
+ * whose parameters are all path parameters convertible from String, or query parameters.
+ * Query parameters are given the value JAX-RS injects when they are left out: their {@code @DefaultValue}
+ * converted as JAX-RS does, an empty collection for {@code List}, {@code Set} and {@code SortedSet}
+ * parameters, and the zero value of their type otherwise.
+ */
+public class InvocationParser {
+
+    private final Types typeUtils;
+    private final Elements elementUtils;
+
+    public InvocationParser(Types typeUtils, Elements elementUtils) {
+        this.typeUtils = typeUtils;
+        this.elementUtils = elementUtils;
+    }
+
+    public Optional<MethodInvocation> parse(Mapping mapping) {
+        TypeElement resource = mapping.getJavaLocation().getClassNameGeneration().getOriginatingElement();
+        if (!isPublic(resource)) {
+            return Optional.empty();
+        }
+        Optional<ExecutableElement> maybeMethod = ElementFilter.methodsIn(resource.getEnclosedElements()).stream()
+            .filter(method -> method.getSimpleName().contentEquals(mapping.getJavaLocation().getMethodName()))
+            .filter(method -> method.getAnnotationMirrors().stream().anyMatch(byName("Self").or(byName("SubResource"))))
+            .findFirst();
+        if (!maybeMethod.isPresent()) {
+            return Optional.empty();
+        }
+        ExecutableElement method = maybeMethod.get();
+        if (!method.getModifiers().contains(Modifier.PUBLIC)
+            || method.getModifiers().contains(Modifier.STATIC)
+            || method.getReturnType().getKind() == TypeKind.VOID) {
+            return Optional.empty();
+        }
+
+        List<InvocationArgument> arguments = new ArrayList<>();
+        for (VariableElement parameter : method.getParameters()) {
+            Optional<InvocationArgument> argument = argument(parameter);
+            if (!argument.isPresent()) {
+                return Optional.empty();
+            }
+            arguments.add(argument.get());
+        }
+        return Optional.of(new MethodInvocation(
+            method.getSimpleName().toString(),
+            arguments,
+            isResponse(method.getReturnType())
+        ));
+    }
+
+    private Optional<InvocationArgument> argument(VariableElement parameter) {
+        TypeMirror type = parameter.asType();
+        PathParam pathParam = parameter.getAnnotation(PathParam.class);
+        if (pathParam != null) {
+            return conversion(type).map(conversion -> InvocationArgument.pathParameter(type, pathParam.value(), conversion));
+        }
+        if (parameter.getAnnotation(QueryParam.class) != null) {
+            return queryArgument(type, Optional.ofNullable(parameter.getAnnotation(DefaultValue.class)).map(DefaultValue::value));
+        }
+        return Optional.empty();
+    }
+
+    private Optional<InvocationArgument> queryArgument(TypeMirror type, Optional<String> defaultValue) {
+        Optional<CollectionType> collectionType = collectionType(type);
+        if (collectionType.isPresent()) {
+            TypeMirror elementType = ((DeclaredType) type).getTypeArguments().get(0);
+            return conversion(elementType).map(conversion -> InvocationArgument.queryParameters(type, collectionType.get(), defaultValue, conversion));
+        }
+        if (!defaultValue.isPresent()) {
+            return type.getKind().isPrimitive() || isAccessible(type)
+                ? Optional.of(InvocationArgument.queryParameter(type, defaultValue, Conversion.NONE))
+                : Optional.empty();
+        }
+        return conversion(type).map(conversion -> InvocationArgument.queryParameter(type, defaultValue, conversion));
+    }
+
+    private Optional<CollectionType> collectionType(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED || ((DeclaredType) type).getTypeArguments().size() != 1) {
+            return Optional.empty();
+        }
+        Name name = ((TypeElement) typeUtils.asElement(type)).getQualifiedName();
+        return Arrays.stream(CollectionType.values())
+            .filter(collectionType -> name.contentEquals(collectionType.getInterfaceName()))
+            .findFirst();
+    }
+
+    private Optional<Conversion> conversion(TypeMirror type) {
+        if (type.getKind() == TypeKind.CHAR) {
+            return Optional.empty();
+        }
+        if (type.getKind().isPrimitive()) {
+            return Optional.of(Conversion.VALUE_OF);
+        }
+        if (type.getKind() != TypeKind.DECLARED || !isAccessible(type)) {
+            return Optional.empty();
+        }
+        TypeElement element = (TypeElement) typeUtils.asElement(type);
+        if (element.getQualifiedName().contentEquals(String.class.getName())) {
+            return Optional.of(Conversion.NONE);
+        }
+        if (element.getKind() != ElementKind.ENUM && hasStringConstructor(element)) {
+            return Optional.of(Conversion.CONSTRUCTOR);
+        }
+        if (element.getKind() == ElementKind.ENUM || hasStringFactory(element, "valueOf", type)) {
+            return Optional.of(Conversion.VALUE_OF);
+        }
+        if (hasStringFactory(element, "fromString", type)) {
+            return Optional.of(Conversion.FROM_STRING);
+        }
+        return Optional.empty();
+    }
+
+    private boolean hasStringConstructor(TypeElement type) {
+        return !type.getModifiers().contains(Modifier.ABSTRACT)
+            && ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+            .anyMatch(constructor -> constructor.getModifiers().contains(Modifier.PUBLIC) && hasSingleStringParameter(constructor));
+    }
+
+    private boolean hasStringFactory(TypeElement type, String name, TypeMirror returnType) {
+        return ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+            .anyMatch(method -> method.getSimpleName().contentEquals(name)
+                && method.getModifiers().contains(Modifier.PUBLIC)
+                && method.getModifiers().contains(Modifier.STATIC)
+                && typeUtils.isAssignable(method.getReturnType(), returnType)
+                && hasSingleStringParameter(method));
+    }
+
+    private boolean hasSingleStringParameter(ExecutableElement method) {
+        return method.getParameters().size() == 1
+            && typeUtils.isSameType(method.getParameters().get(0).asType(), elementUtils.getTypeElement(String.class.getName()).asType());
+    }
+
+    private boolean isResponse(TypeMirror type) {
+        TypeElement response = elementUtils.getTypeElement(Response.class.getName());
+        return response != null && typeUtils.isAssignable(type, response.asType());
+    }
+
+    private boolean isAccessible(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return false;
+        }
+        Element element = typeUtils.asElement(type);
+        return element instanceof TypeElement && isPublic((TypeElement) element);
+    }
+
+    private boolean isPublic(TypeElement type) {
+        for (Element element = type; element.getKind() != ElementKind.PACKAGE; element = element.getEnclosingElement()) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
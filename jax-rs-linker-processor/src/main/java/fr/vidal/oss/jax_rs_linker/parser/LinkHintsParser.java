@@ -0,0 +1,59 @@
+package fr.vidal.oss.jax_rs_linker.parser;
+
+import fr.vidal.oss.jax_rs_linker.api.LinkHints;
+import fr.vidal.oss.jax_rs_linker.errors.CompilationError;
+import fr.vidal.oss.jax_rs_linker.model.LinkHeaders.Hint;
+import fr.vidal.oss.jax_rs_linker.model.Mapping;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.TypeElement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.CaseFormat.LOWER_CAMEL;
+import static com.google.common.base.CaseFormat.UPPER_CAMEL;
+import static fr.vidal.oss.jax_rs_linker.predicates.HasSelfMapping.HAS_SELF;
+import static java.util.stream.Collectors.toSet;
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+/**
+ * Reads the {@code @LinkHints} of a resource class, by sub-resource relation.
+ * Relations that are not sub-resource relations of the resource are reported as errors.
+ */
+public class LinkHintsParser {
+
+    private final Messager messager;
+
+    public LinkHintsParser(Messager messager) {
+        this.messager = messager;
+    }
+
+    public Map<String, Hint> parse(TypeElement resource, Collection<Mapping> mappings) {
+        LinkHints linkHints = resource.getAnnotation(LinkHints.class);
+        if (linkHints == null) {
+            return Collections.emptyMap();
+        }
+        Set<String> relations = mappings.stream()
+            .filter(HAS_SELF.negate())
+            .map(mapping -> UPPER_CAMEL.to(LOWER_CAMEL, mapping.getApi().getApiLink().getQualifiedTarget().get()))
+            .collect(toSet());
+
+        Map<String, Hint> hints = new LinkedHashMap<>();
+        hint(resource, relations, linkHints.preload(), Hint.PRELOAD, hints);
+        hint(resource, relations, linkHints.prefetch(), Hint.PREFETCH, hints);
+        return hints;
+    }
+
+    private void hint(TypeElement resource, Set<String> relations, String[] hinted, Hint hint, Map<String, Hint> hints) {
+        for (String relation : hinted) {
+            if (!relations.contains(relation)) {
+                messager.printMessage(ERROR, CompilationError.UNKNOWN_HINTED_RELATION.format(relation, resource.getQualifiedName()), resource);
+                continue;
+            }
+            hints.putIfAbsent(relation, hint);
+        }
+    }
+}
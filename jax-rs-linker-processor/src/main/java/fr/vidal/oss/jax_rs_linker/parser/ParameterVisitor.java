@@ -11,19 +11,33 @@ import javax.ws.rs.BeanParam;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableCollection;
 
 class ParameterVisitor<T> extends SimpleElementVisitor7<Collection<T>, Void> {
 
     private final Types typeUtils;
     private final AnnotatedElementMapping<T> annotatedElementMapping;
+    /**
+     * Parameters of each bean parameter type, nested bean parameters included, expanded once per round.
+     */
+    private final Map<Element, Collection<T>> beanParameters = new HashMap<>();
 
     public ParameterVisitor(Types typeUtils, AnnotatedElementMapping<T> annotatedElementMapping) {
         this.typeUtils = typeUtils;
         this.annotatedElementMapping = annotatedElementMapping;
     }
 
+    /**
+     * Forgets the bean parameters expanded so far, elements being only valid for a single round.
+     */
+    public void nextRound() {
+        beanParameters.clear();
+    }
+
     @Override
     public Collection<T> visitVariable(VariableElement element, Void aVoid) {
         return mapMatchingElements(element);
@@ -74,11 +88,22 @@ class ParameterVisitor<T> extends SimpleElementVisitor7<Collection<T>, Void> {
         }
 
         if (parameter.getAnnotation(BeanParam.class) != null) {
-            Element object = typeUtils.asElement(parameter.asType());
-            for (Element enclosedElement : object.getEnclosedElements()) {
-                results.addAll(this.visit(enclosedElement));
-            }
+            results.addAll(beanParameters(typeUtils.asElement(parameter.asType())));
         }
         return results;
     }
+
+    private Collection<T> beanParameters(Element beanParam) {
+        Collection<T> parameters = beanParameters.get(beanParam);
+        if (parameters != null) {
+            return parameters;
+        }
+        Collection<T> expanded = new ArrayList<>();
+        for (Element enclosedElement : beanParam.getEnclosedElements()) {
+            expanded.addAll(this.visit(enclosedElement));
+        }
+        parameters = unmodifiableCollection(expanded);
+        beanParameters.put(beanParam, parameters);
+        return parameters;
+    }
 }
@@ -1,5 +1,7 @@
 package fr.vidal.oss.jax_rs_linker.parser;
 
+import com.google.common.collect.ImmutableList;
+
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
@@ -8,6 +10,9 @@ import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Types;
 import javax.ws.rs.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -17,37 +22,50 @@ import static java.lang.String.format;
 class PathVisitor {
 
     private final Types types;
+    /**
+     * Class-level paths of each class then of its superclasses, shared by all the methods of the class and its subclasses.
+     */
+    private final Map<TypeElement, List<String>> classPaths = new HashMap<>();
 
     public PathVisitor(Types types) {
         this.types = types;
     }
 
     public Optional<String> visitPath(ExecutableElement element) {
-        String aggregatedPath = emptyToNull(
-            aggregate(
-                currentPath(element).orElse(""),
-                element.getEnclosingElement()
-            )
-        );
-        return Optional.ofNullable(aggregatedPath);
+        String aggregatedPath = currentPath(element).orElse("");
+        for (String classPath : classPaths(element.getEnclosingElement())) {
+            aggregatedPath = prepend(classPath, aggregatedPath);
+        }
+        return Optional.ofNullable(emptyToNull(aggregatedPath));
+    }
+
+    /**
+     * Forgets the class paths visited so far, elements being only valid for a single round.
+     */
+    public void nextRound() {
+        classPaths.clear();
     }
 
-    private String aggregate(String acc, Element element) {
+    private List<String> classPaths(Element element) {
+        List<String> paths = classPaths.get(element);
+        if (paths != null) {
+            return paths;
+        }
         checkArgument(element.getKind() == ElementKind.CLASS, format("Expecting only class at this point. Given <%s>", element));
+        TypeElement type = (TypeElement) element;
 
-        String path = prepend(currentPath(element), acc);
-        TypeMirror superclass = ((TypeElement) element).getSuperclass();
-        if (superclass.getKind() == TypeKind.NONE) {
-            return path;
+        ImmutableList.Builder<String> builder = ImmutableList.builder();
+        currentPath(type).ifPresent(builder::add);
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.NONE) {
+            builder.addAll(classPaths(types.asElement(superclass)));
         }
-        return aggregate(path, types.asElement(superclass));
+        paths = builder.build();
+        classPaths.put(type, paths);
+        return paths;
     }
 
-    private String prepend(Optional<String> maybePath, String accumulator) {
-        if (!maybePath.isPresent()) {
-            return accumulator;
-        }
-        String path = maybePath.get();
+    private String prepend(String path, String accumulator) {
         if (accumulator.isEmpty()) {
             return path;
         }
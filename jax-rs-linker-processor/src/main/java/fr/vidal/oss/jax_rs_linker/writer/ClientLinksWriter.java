@@ -0,0 +1,260 @@
+package fr.vidal.oss.jax_rs_linker.writer;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import fr.vidal.oss.jax_rs_linker.LinkerAnnotationProcessor;
+import fr.vidal.oss.jax_rs_linker.base.Preconditions;
+import fr.vidal.oss.jax_rs_linker.model.Api;
+import fr.vidal.oss.jax_rs_linker.model.ClassNameGeneration;
+import fr.vidal.oss.jax_rs_linker.model.Mapping;
+import fr.vidal.oss.jax_rs_linker.model.PathParameter;
+import fr.vidal.oss.jax_rs_linker.model.PathSegment;
+import fr.vidal.oss.jax_rs_linker.model.QueryParameter;
+import fr.vidal.oss.jax_rs_linker.model.UriComponents;
+
+import javax.annotation.Generated;
+import javax.annotation.processing.Filer;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static fr.vidal.oss.jax_rs_linker.parser.ApiPaths.segments;
+import static fr.vidal.oss.jax_rs_linker.predicates.HasSelfMapping.HAS_SELF;
+import static fr.vidal.oss.jax_rs_linker.predicates.MappingByApiLinkTargetPredicate.BY_API_LINK_TARGET_PRESENCE;
+import static java.lang.String.format;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+
+/**
+ * Generates the client-side counterpart of a linker, rendering the links of a remote resource against a base URL
+ * (context path included) without any template parsing: each method appends the literal parts of its template
+ * and the percent-encoded parameter values, query parameters being sorted by name.
+ * Parameters are typed as declared on the resource methods.
+ */
+public class ClientLinksWriter {
+
+    private static final String BASE_URL = "baseUrl";
+    private static final String BUFFER = "linkBuffer";
+    private static final String SEPARATOR = "querySeparator";
+    private static final int ESTIMATED_PARAMETER_LENGTH = 16;
+
+    private final Filer filer;
+
+    public ClientLinksWriter(Filer filer) {
+        this.filer = filer;
+    }
+
+    public void write(ClassNameGeneration generatedClass, ClassNameGeneration pathParametersType, Collection<Mapping> mappings) throws IOException {
+        TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(generatedClass.className())
+            .addOriginatingElement(generatedClass.getOriginatingElement())
+            .addModifiers(PUBLIC, FINAL)
+            .addAnnotation(AnnotationSpec.builder(Generated.class)
+                .addMember("value", "$S", LinkerAnnotationProcessor.class.getName())
+                .build())
+            .addField(String.class, BASE_URL, PRIVATE, FINAL)
+            .addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(PUBLIC)
+                .addParameter(String.class, BASE_URL)
+                .addStatement("this.$L = $L.endsWith($S) ? $L.substring(0, $L.length() - 1) : $L",
+                    BASE_URL, BASE_URL, "/", BASE_URL, BASE_URL, BASE_URL)
+                .build());
+
+        Mapping self = mappings.stream().filter(HAS_SELF).findFirst().get();
+        addMethods(typeBuilder, "self", self.getApi(), pathParametersType);
+        mappings.stream().filter(BY_API_LINK_TARGET_PRESENCE).forEach(mapping -> addMethods(
+            typeBuilder,
+            format("related%s", mapping.getApi().getApiLink().getQualifiedTarget().get()),
+            mapping.getApi(),
+            pathParametersType));
+
+        JavaFile.builder(generatedClass.packageName(), typeBuilder.build())
+            .indent("\t")
+            .build()
+            .writeTo(filer);
+    }
+
+    private void addMethods(TypeSpec.Builder typeBuilder, String methodName, Api api, ClassNameGeneration pathParametersType) {
+        Map<String, PathParameter> pathParameters = new LinkedHashMap<>();
+        api.getApiPath().getPathParameters().forEach(parameter -> pathParameters.putIfAbsent(parameter.getName(), parameter));
+        Map<String, QueryParameter> queryParameters = new TreeMap<>();
+        for (QueryParameter parameter : api.getApiQuery().getQueryParameters()) {
+            queryParameters.putIfAbsent(parameter.getName(), parameter);
+        }
+
+        MethodSpec.Builder method = MethodSpec.methodBuilder(methodName)
+            .addModifiers(PUBLIC, FINAL)
+            .returns(String.class);
+        MethodSpec.Builder uriMethod = MethodSpec.methodBuilder(methodName + "Uri")
+            .addModifiers(PUBLIC, FINAL)
+            .returns(URI.class);
+        CodeBlock.Builder arguments = CodeBlock.builder();
+        Set<String> locals = new HashSet<>();
+        Map<String, CodeBlock> pathValues = new HashMap<>();
+        for (PathParameter parameter : pathParameters.values()) {
+            String local = parameterName(parameter.getName());
+            TypeName type = type(parameter);
+            locals.add(local);
+            method.addParameter(type, local);
+            uriMethod.addParameter(type, local);
+            arguments.add(arguments.isEmpty() ? "$L" : ", $L", local);
+            CodeBlock value = type.equals(TypeName.get(String.class))
+                ? CodeBlock.of("$L", local)
+                : CodeBlock.of("$T.valueOf($L)", String.class, local);
+            pathValues.put(parameter.getName(), value);
+            if (parameter.getRegex().isPresent()) {
+                method.addStatement(
+                    "$T.checkParameterValue($T.$L.regex(), $L)",
+                    Preconditions.class,
+                    RouterWriter.toClassName(pathParametersType.getClassName()),
+                    EnumConstants.constantName(parameter.getName()),
+                    value);
+            }
+        }
+        Map<String, String> queryValues = new LinkedHashMap<>();
+        for (QueryParameter parameter : queryParameters.values()) {
+            String local = parameterName(parameter.getName());
+            while (!locals.add(local)) {
+                local += "Query";
+            }
+            TypeName type = type(parameter);
+            method.addParameter(type, local);
+            uriMethod.addParameter(type, local);
+            arguments.add(arguments.isEmpty() ? "$L" : ", $L", local);
+            queryValues.put(parameter.getName(), local);
+        }
+
+        method.addStatement("$T $L = new $T(this.$L.length() + $L).append(this.$L)",
+            StringBuilder.class, BUFFER, StringBuilder.class, BASE_URL, estimatedLength(api), BASE_URL);
+        StringBuilder literal = new StringBuilder();
+        for (PathSegment segment : segments(api.getApiPath().getPath())) {
+            CodeBlock value = segment.isPlaceholder() ? pathValues.get(segment.getValue()) : null;
+            if (value == null) {
+                literal.append(segment.toString());
+                continue;
+            }
+            if (literal.length() > 0) {
+                method.addStatement("$L.append($S)", BUFFER, literal.toString());
+                literal.setLength(0);
+            }
+            method.addStatement("$T.appendPathSegment($L, $L)", UriComponents.class, BUFFER, value);
+        }
+        if (literal.length() > 0) {
+            method.addStatement("$L.append($S)", BUFFER, literal.toString());
+        }
+        if (!queryParameters.isEmpty()) {
+            method.addStatement("char $L = '?'", SEPARATOR);
+            for (Map.Entry<String, String> parameter : queryValues.entrySet()) {
+                method.addStatement("$L = $T.appendQueryParameter($L, $L, $S, $L)",
+                    SEPARATOR, UriComponents.class, BUFFER, SEPARATOR, parameter.getKey(), parameter.getValue());
+            }
+        }
+        typeBuilder.addMethod(method.addStatement("return $L.toString()", BUFFER).build());
+        typeBuilder.addMethod(uriMethod.addStatement("return $T.create($L($L))", URI.class, methodName, arguments.build()).build());
+    }
+
+    /**
+     * Path parameters are typed as declared, falling back to {@code Object} for types that cannot be referenced.
+     */
+    static TypeName type(PathParameter parameter) {
+        try {
+            return type(parameter.getType().fullyQualifiedName());
+        } catch (IllegalArgumentException e) {
+            return TypeName.OBJECT;
+        }
+    }
+
+    /**
+     * Query parameters are typed as declared, primitives being boxed so that {@code null} still leaves them out.
+     */
+    private static TypeName type(QueryParameter parameter) {
+        try {
+            return parameter.getType()
+                .map(type -> type(type.fullyQualifiedName()))
+                .map(type -> type.isPrimitive() ? type.box() : type)
+                .orElse(TypeName.OBJECT);
+        } catch (IllegalArgumentException e) {
+            return TypeName.OBJECT;
+        }
+    }
+
+    /**
+     * Parses the source representation of a declared type, type arguments and arrays included.
+     */
+    private static TypeName type(String type) {
+        type = type.trim();
+        switch (type) {
+            case "boolean": return TypeName.BOOLEAN;
+            case "byte": return TypeName.BYTE;
+            case "short": return TypeName.SHORT;
+            case "int": return TypeName.INT;
+            case "long": return TypeName.LONG;
+            case "char": return TypeName.CHAR;
+            case "float": return TypeName.FLOAT;
+            case "double": return TypeName.DOUBLE;
+            case "?": return WildcardTypeName.subtypeOf(Object.class);
+        }
+        if (type.endsWith("[]")) {
+            return ArrayTypeName.of(type(type.substring(0, type.length() - 2)));
+        }
+        if (type.startsWith("? extends ")) {
+            return WildcardTypeName.subtypeOf(type(type.substring("? extends ".length())));
+        }
+        if (type.startsWith("? super ")) {
+            return WildcardTypeName.supertypeOf(type(type.substring("? super ".length())));
+        }
+        int arguments = type.indexOf('<');
+        if (arguments < 0) {
+            return com.squareup.javapoet.ClassName.bestGuess(type);
+        }
+        if (!type.endsWith(">")) {
+            throw new IllegalArgumentException(type);
+        }
+        List<TypeName> typeArguments = new ArrayList<>();
+        int depth = 0;
+        int start = arguments + 1;
+        for (int i = start; i < type.length() - 1; i++) {
+            char character = type.charAt(i);
+            if (character == '<') {
+                depth++;
+            } else if (character == '>') {
+                depth--;
+            } else if (character == ',' && depth == 0) {
+                typeArguments.add(type(type.substring(start, i)));
+                start = i + 1;
+            }
+        }
+        typeArguments.add(type(type.substring(start, type.length() - 1)));
+        return ParameterizedTypeName.get(
+            com.squareup.javapoet.ClassName.bestGuess(type.substring(0, arguments)),
+            typeArguments.toArray(new TypeName[0]));
+    }
+
+    private static String parameterName(String placeholder) {
+        String name = LinkSetMethods.parameterName(placeholder);
+        return name.equals(BASE_URL) ? "_" + name : name;
+    }
+
+    private static int estimatedLength(Api api) {
+        int length = 0;
+        for (PathSegment segment : segments(api.getApiPath().getPath())) {
+            length += segment.isPlaceholder() ? ESTIMATED_PARAMETER_LENGTH : segment.getValue().length();
+        }
+        return length + api.getApiQuery().getQueryParameters().size() * ESTIMATED_PARAMETER_LENGTH;
+    }
+}
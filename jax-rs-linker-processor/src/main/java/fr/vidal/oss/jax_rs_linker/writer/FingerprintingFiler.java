@@ -0,0 +1,153 @@
+package fr.vidal.oss.jax_rs_linker.writer;
+
+import com.google.common.hash.Hashing;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+import static javax.tools.StandardLocation.SOURCE_OUTPUT;
+
+/**
+ * Filer skipping the sources generated with the very same content as in the previous build,
+ * provided their source and class files are still there: they are neither rewritten nor recompiled.
+ * Sources are fingerprinted once rendered, so that every input of the generation, processor included, is covered.
+ * Fingerprints are kept in an index, saved once processing is over with the sources generated or skipped
+ * during this build only, so that deleted resources do not linger.
+ *
+ * This only pays off when class files outlive the build: Maven's default incremental compilation deletes them
+ * before compiling the whole module again, whereas compiling only stale sources keeps them.
+ */
+public class FingerprintingFiler implements Filer {
+
+    private final Filer filer;
+    private final Path index;
+    private final Properties previousFingerprints;
+    private final Map<String, String> fingerprints = new TreeMap<>();
+    private int skipped;
+    private int written;
+
+    private FingerprintingFiler(Filer filer, Path index, Properties previousFingerprints) {
+        this.filer = filer;
+        this.index = index;
+        this.previousFingerprints = previousFingerprints;
+    }
+
+    public static FingerprintingFiler load(Filer filer, Path index) {
+        Properties previousFingerprints = new Properties();
+        if (Files.isRegularFile(index)) {
+            try (Reader reader = Files.newBufferedReader(index, UTF_8)) {
+                previousFingerprints.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return new FingerprintingFiler(filer, index, previousFingerprints);
+    }
+
+    @Override
+    public JavaFileObject createSourceFile(CharSequence name, Element... originatingElements) {
+        String typeName = name.toString();
+        return new SimpleJavaFileObject(URI.create(format("fingerprint:///%s.java", typeName.replace('.', '/'))), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public Writer openWriter() {
+                return new StringWriter() {
+                    @Override
+                    public void close() throws IOException {
+                        writeIfChanged(typeName, toString(), originatingElements);
+                    }
+                };
+            }
+        };
+    }
+
+    @Override
+    public JavaFileObject createClassFile(CharSequence name, Element... originatingElements) throws IOException {
+        return filer.createClassFile(name, originatingElements);
+    }
+
+    @Override
+    public FileObject createResource(JavaFileManager.Location location, CharSequence pkg, CharSequence relativeName,
+                                     Element... originatingElements) throws IOException {
+        return filer.createResource(location, pkg, relativeName, originatingElements);
+    }
+
+    @Override
+    public FileObject getResource(JavaFileManager.Location location, CharSequence pkg, CharSequence relativeName) throws IOException {
+        return filer.getResource(location, pkg, relativeName);
+    }
+
+    /**
+     * Number of sources left untouched so far.
+     */
+    public int skipped() {
+        return skipped;
+    }
+
+    /**
+     * Number of sources actually written so far.
+     */
+    public int written() {
+        return written;
+    }
+
+    public void save() {
+        StringBuilder content = new StringBuilder();
+        fingerprints.forEach((typeName, fingerprint) -> content.append(typeName).append('=').append(fingerprint).append('\n'));
+        try {
+            if (index.getParent() != null) {
+                Files.createDirectories(index.getParent());
+            }
+            Files.write(index, content.toString().getBytes(UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeIfChanged(String typeName, String content, Element[] originatingElements) throws IOException {
+        String fingerprint = Hashing.sha256().hashString(content, UTF_8).toString();
+        fingerprints.put(typeName, fingerprint);
+        if (fingerprint.equals(previousFingerprints.getProperty(typeName)) && isGenerated(typeName)) {
+            skipped++;
+            return;
+        }
+        try (Writer writer = filer.createSourceFile(typeName, originatingElements).openWriter()) {
+            writer.write(content);
+        }
+        written++;
+    }
+
+    private boolean isGenerated(String typeName) {
+        int lastDot = typeName.lastIndexOf('.');
+        String packageName = lastDot < 0 ? "" : typeName.substring(0, lastDot);
+        String simpleName = typeName.substring(lastDot + 1);
+        return exists(SOURCE_OUTPUT, packageName, simpleName + ".java")
+            && exists(CLASS_OUTPUT, packageName, simpleName + ".class");
+    }
+
+    private boolean exists(JavaFileManager.Location location, String packageName, String relativeName) {
+        try (InputStream ignored = filer.getResource(location, packageName, relativeName).openInputStream()) {
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
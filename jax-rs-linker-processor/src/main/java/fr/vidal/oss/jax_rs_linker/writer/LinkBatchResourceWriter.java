@@ -0,0 +1,170 @@
+package fr.vidal.oss.jax_rs_linker.writer;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
+import fr.vidal.oss.jax_rs_linker.LinkerAnnotationProcessor;
+import fr.vidal.oss.jax_rs_linker.invocation.BatchResolver;
+import fr.vidal.oss.jax_rs_linker.invocation.BatchResult;
+import fr.vidal.oss.jax_rs_linker.invocation.InvocationExecutors;
+import fr.vidal.oss.jax_rs_linker.model.ClassName;
+import fr.vidal.oss.jax_rs_linker.model.ClassNames;
+
+import javax.annotation.Generated;
+import javax.annotation.PreDestroy;
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.TypeElement;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.InternalServerErrorException;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.ResourceContext;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Providers;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static fr.vidal.oss.jax_rs_linker.writer.RouterWriter.toClassName;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+import static javax.lang.model.element.Modifier.SYNCHRONIZED;
+
+/**
+ * Generates the resource resolving a {@code text/uri-list} of rendered links in a single request.
+ * The maximum number of links and the executor of the batch are read from the application properties.
+ * Without configured executor, the resource owns a bounded one, created on first use and shut down along with the resource.
+ * The resource is declared as a {@code javax.inject.Singleton}, so that batches share that executor.
+ * Results are streamed as a JSON array as they resolve, each of them being written by the JSON provider of the application.
+ */
+public class LinkBatchResourceWriter {
+
+    private static final String MAX_SIZE_PROPERTY = "jax-rs-linker.batch.max-size";
+    private static final String EXECUTOR_PROPERTY = "jax-rs-linker.batch.executor";
+    private static final int DEFAULT_MAX_SIZE = 500;
+    private static final String EXECUTOR_NAME = "jax-rs-linker-batch";
+    private static final String URI_LIST = "text/uri-list";
+    private static final com.squareup.javapoet.ClassName SINGLETON = com.squareup.javapoet.ClassName.get("javax.inject", "Singleton");
+
+    private final Filer filer;
+
+    public LinkBatchResourceWriter(Filer filer) {
+        this.filer = filer;
+    }
+
+    public void write(ClassName resource, String path, Iterable<TypeElement> originatingElements) throws IOException {
+        TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(resource.className())
+            .addModifiers(PUBLIC, FINAL)
+            .addAnnotation(AnnotationSpec.builder(Path.class)
+                .addMember("value", "$S", path)
+                .build())
+            .addAnnotation(SINGLETON)
+            .addAnnotation(AnnotationSpec.builder(Generated.class)
+                .addMember("value", "$S", LinkerAnnotationProcessor.class.getName())
+                .build())
+            .addField(FieldSpec.builder(String.class, "MAX_SIZE_PROPERTY", PUBLIC, STATIC, FINAL)
+                .initializer("$S", MAX_SIZE_PROPERTY)
+                .build())
+            .addField(FieldSpec.builder(String.class, "EXECUTOR_PROPERTY", PUBLIC, STATIC, FINAL)
+                .initializer("$S", EXECUTOR_PROPERTY)
+                .build())
+            .addField(FieldSpec.builder(Annotation[].class, "NO_ANNOTATIONS", PRIVATE, STATIC, FINAL)
+                .initializer("new $T[0]", Annotation.class)
+                .build())
+            .addField(FieldSpec.builder(ResourceContext.class, "resources", PRIVATE)
+                .addAnnotation(Context.class)
+                .build())
+            .addField(FieldSpec.builder(Configuration.class, "configuration", PRIVATE)
+                .addAnnotation(Context.class)
+                .build())
+            .addField(FieldSpec.builder(Providers.class, "providers", PRIVATE)
+                .addAnnotation(Context.class)
+                .build())
+            .addField(FieldSpec.builder(ExecutorService.class, "ownExecutor", PRIVATE)
+                .build())
+            .addMethod(MethodSpec.methodBuilder("resolve")
+                .addAnnotation(POST.class)
+                .addAnnotation(AnnotationSpec.builder(Consumes.class)
+                    .addMember("value", "$S", URI_LIST)
+                    .build())
+                .addAnnotation(AnnotationSpec.builder(Produces.class)
+                    .addMember("value", "$T.APPLICATION_JSON", MediaType.class)
+                    .build())
+                .addModifiers(PUBLIC)
+                .returns(StreamingOutput.class)
+                .addParameter(String.class, "uriList")
+                .addStatement("$T links = $T.uriList(uriList)", ParameterizedTypeName.get(List.class, String.class), BatchResolver.class)
+                .addStatement("$T maxSize = configuration.getProperty(MAX_SIZE_PROPERTY)", Object.class)
+                .beginControlFlow("if (links.size() > (maxSize == null ? $L : $T.parseInt(maxSize.toString())))", DEFAULT_MAX_SIZE, Integer.class)
+                .addStatement("throw new $T($T.Status.REQUEST_ENTITY_TOO_LARGE)", WebApplicationException.class, Response.class)
+                .endControlFlow()
+                .addStatement("$T resolver = new $T($T.INSTANCE, executor(), $T::status)",
+                    BatchResolver.class, BatchResolver.class, toClassName(ClassNames.ROUTES), toClassName(resource))
+                .addStatement("$T writer = providers.getMessageBodyWriter($T.class, $T.class, NO_ANNOTATIONS, $T.APPLICATION_JSON_TYPE)",
+                    ParameterizedTypeName.get(MessageBodyWriter.class, BatchResult.class),
+                    BatchResult.class, BatchResult.class, MediaType.class)
+                .beginControlFlow("if (writer == null)")
+                .addStatement("throw new $T($S)", InternalServerErrorException.class, "No JSON writer of batch results")
+                .endControlFlow()
+                .addStatement("$T contextPath = $T.getContextPath()", String.class, toClassName(ClassNames.CONTEXT_PATH_HOLDER))
+                .addStatement("return output -> resolver.resolve(links, resources::getResource, contextPath, output,\n" +
+                        "(result, element) -> writer.writeTo(result, $T.class, $T.class, NO_ANNOTATIONS, $T.APPLICATION_JSON_TYPE, new $T<>(), element))",
+                    BatchResult.class, BatchResult.class, MediaType.class, MultivaluedHashMap.class)
+                .build())
+            .addMethod(MethodSpec.methodBuilder("close")
+                .addAnnotation(PreDestroy.class)
+                .addModifiers(PUBLIC, SYNCHRONIZED)
+                .beginControlFlow("if (ownExecutor != null)")
+                .addStatement("ownExecutor.shutdown()")
+                .endControlFlow()
+                .build())
+            .addMethod(MethodSpec.methodBuilder("executor")
+                .addModifiers(PRIVATE, SYNCHRONIZED)
+                .returns(Executor.class)
+                .addStatement("$T executor = configuration.getProperty(EXECUTOR_PROPERTY)", Object.class)
+                .beginControlFlow("if (executor instanceof $T)", Executor.class)
+                .addStatement("return ($T) executor", Executor.class)
+                .endControlFlow()
+                .beginControlFlow("if (ownExecutor == null)")
+                .addStatement("ownExecutor = $T.bounded($S)", InvocationExecutors.class, EXECUTOR_NAME)
+                .endControlFlow()
+                .addStatement("return ownExecutor")
+                .build())
+            .addMethod(MethodSpec.methodBuilder("status")
+                .addModifiers(PRIVATE, STATIC)
+                .returns(int.class)
+                .addParameter(Throwable.class, "failure")
+                .beginControlFlow("if (failure instanceof $T)", WebApplicationException.class)
+                .addStatement("return (($T) failure).getResponse().getStatus()", WebApplicationException.class)
+                .endControlFlow()
+                .beginControlFlow("if (failure instanceof $T)", RejectedExecutionException.class)
+                .addStatement("return $T.Status.SERVICE_UNAVAILABLE.getStatusCode()", Response.class)
+                .endControlFlow()
+                .addStatement("return $T.Status.INTERNAL_SERVER_ERROR.getStatusCode()", Response.class)
+                .build());
+        for (TypeElement originatingElement : originatingElements) {
+            typeBuilder.addOriginatingElement(originatingElement);
+        }
+
+        JavaFile.builder(resource.packageName(), typeBuilder.build())
+            .indent("\t")
+            .build()
+            .writeTo(filer);
+    }
+}
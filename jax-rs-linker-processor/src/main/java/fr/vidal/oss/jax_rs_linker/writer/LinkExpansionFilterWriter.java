@@ -0,0 +1,141 @@
+package fr.vidal.oss.jax_rs_linker.writer;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
+import fr.vidal.oss.jax_rs_linker.LinkerAnnotationProcessor;
+import fr.vidal.oss.jax_rs_linker.invocation.Expander;
+import fr.vidal.oss.jax_rs_linker.invocation.InvocationExecutors;
+import fr.vidal.oss.jax_rs_linker.model.ClassName;
+import fr.vidal.oss.jax_rs_linker.model.ClassNames;
+import fr.vidal.oss.jax_rs_linker.model.Route;
+
+import javax.annotation.Generated;
+import javax.annotation.PreDestroy;
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.TypeElement;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceContext;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.ext.Provider;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import static fr.vidal.oss.jax_rs_linker.writer.RouterWriter.toClassName;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+import static javax.lang.model.element.Modifier.SYNCHRONIZED;
+
+/**
+ * Generates the response filter resolving the {@code expand} query parameter against the router.
+ * The maximum depth and the executor of the expansions are read from the application properties.
+ * Without configured executor, the filter owns a bounded one, shut down along with the filter.
+ */
+public class LinkExpansionFilterWriter {
+
+    private static final String MAX_DEPTH_PROPERTY = "jax-rs-linker.expansion.max-depth";
+    private static final String EXECUTOR_PROPERTY = "jax-rs-linker.expansion.executor";
+    private static final int DEFAULT_MAX_DEPTH = 2;
+    private static final String EXECUTOR_NAME = "jax-rs-linker-expansion";
+
+    private final Filer filer;
+
+    public LinkExpansionFilterWriter(Filer filer) {
+        this.filer = filer;
+    }
+
+    public void write(ClassName filter, Iterable<TypeElement> originatingElements) throws IOException {
+        TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(filter.className())
+            .addModifiers(PUBLIC, FINAL)
+            .addSuperinterface(ContainerResponseFilter.class)
+            .addAnnotation(Provider.class)
+            .addAnnotation(AnnotationSpec.builder(Generated.class)
+                .addMember("value", "$S", LinkerAnnotationProcessor.class.getName())
+                .build())
+            .addField(FieldSpec.builder(String.class, "EXPAND_PARAMETER", PUBLIC, STATIC, FINAL)
+                .initializer("$S", "expand")
+                .build())
+            .addField(FieldSpec.builder(String.class, "MAX_DEPTH_PROPERTY", PUBLIC, STATIC, FINAL)
+                .initializer("$S", MAX_DEPTH_PROPERTY)
+                .build())
+            .addField(FieldSpec.builder(String.class, "EXECUTOR_PROPERTY", PUBLIC, STATIC, FINAL)
+                .initializer("$S", EXECUTOR_PROPERTY)
+                .build())
+            .addField(FieldSpec.builder(ResourceContext.class, "resources", PRIVATE)
+                .addAnnotation(Context.class)
+                .build())
+            .addField(FieldSpec.builder(Configuration.class, "configuration", PRIVATE)
+                .addAnnotation(Context.class)
+                .build())
+            .addField(FieldSpec.builder(Expander.class, "expander", PRIVATE)
+                .build())
+            .addField(FieldSpec.builder(ExecutorService.class, "ownExecutor", PRIVATE)
+                .build())
+            .addMethod(MethodSpec.methodBuilder("filter")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(ContainerRequestContext.class, "request")
+                .addParameter(ContainerResponseContext.class, "response")
+                .addStatement("$T expansions = request.getUriInfo().getQueryParameters().get(EXPAND_PARAMETER)",
+                    ParameterizedTypeName.get(List.class, String.class))
+                .beginControlFlow("if (expansions == null || !response.hasEntity())")
+                .addStatement("return")
+                .endControlFlow()
+                .addStatement("$T route = $T.INSTANCE.route(request.getUriInfo().getPath(false))",
+                    ParameterizedTypeName.get(Optional.class, Route.class), toClassName(ClassNames.ROUTES))
+                .beginControlFlow("if (!route.isPresent())")
+                .addStatement("return")
+                .endControlFlow()
+                .addStatement("$T expanded = expander().expand(response.getEntity(), route.get(), expansions, resources::getResource, $T.getContextPath())",
+                    Object.class, toClassName(ClassNames.CONTEXT_PATH_HOLDER))
+                .beginControlFlow("if (expanded != response.getEntity())")
+                .addStatement("response.setEntity(expanded, response.getEntityAnnotations(), response.getMediaType())")
+                .endControlFlow()
+                .build())
+            .addMethod(MethodSpec.methodBuilder("close")
+                .addAnnotation(PreDestroy.class)
+                .addModifiers(PUBLIC, SYNCHRONIZED)
+                .beginControlFlow("if (ownExecutor != null)")
+                .addStatement("ownExecutor.shutdown()")
+                .endControlFlow()
+                .build())
+            .addMethod(MethodSpec.methodBuilder("expander")
+                .addModifiers(PRIVATE, SYNCHRONIZED)
+                .returns(Expander.class)
+                .beginControlFlow("if (expander == null)")
+                .addStatement("$T maxDepth = configuration.getProperty(MAX_DEPTH_PROPERTY)", Object.class)
+                .addStatement("$T executor = configuration.getProperty(EXECUTOR_PROPERTY)", Object.class)
+                .beginControlFlow("if (!(executor instanceof $T))", Executor.class)
+                .addStatement("ownExecutor = $T.bounded($S)", InvocationExecutors.class, EXECUTOR_NAME)
+                .addStatement("executor = ownExecutor")
+                .endControlFlow()
+                .addStatement("expander = new $T(\n$T.INSTANCE,\n" +
+                        "($T) executor,\n" +
+                        "maxDepth == null ? $L : $T.parseInt(maxDepth.toString()))",
+                    Expander.class, toClassName(ClassNames.ROUTES),
+                    Executor.class,
+                    DEFAULT_MAX_DEPTH, Integer.class)
+                .endControlFlow()
+                .addStatement("return expander")
+                .build());
+        for (TypeElement originatingElement : originatingElements) {
+            typeBuilder.addOriginatingElement(originatingElement);
+        }
+
+        JavaFile.builder(filter.packageName(), typeBuilder.build())
+            .indent("\t")
+            .build()
+            .writeTo(filer);
+    }
+}
@@ -0,0 +1,130 @@
+package fr.vidal.oss.jax_rs_linker.writer;
+
+import com.google.common.collect.Multimap;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import fr.vidal.oss.jax_rs_linker.LinkerAnnotationProcessor;
+import fr.vidal.oss.jax_rs_linker.model.ClassName;
+import fr.vidal.oss.jax_rs_linker.model.ClassNameGeneration;
+import fr.vidal.oss.jax_rs_linker.model.ClassNames;
+import fr.vidal.oss.jax_rs_linker.model.LinkHeaders;
+import fr.vidal.oss.jax_rs_linker.model.LinkHeaders.Hint;
+import fr.vidal.oss.jax_rs_linker.model.Mapping;
+import fr.vidal.oss.jax_rs_linker.model.Route;
+
+import javax.annotation.Generated;
+import javax.annotation.processing.Filer;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import static fr.vidal.oss.jax_rs_linker.predicates.HasSelfMapping.HAS_SELF;
+import static fr.vidal.oss.jax_rs_linker.writer.RouterWriter.toClassName;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+
+/**
+ * Generates the response filter adding the {@code Link} header of the {@code @Self} resources,
+ * from the link templates known at compile time and the path parameters of the routed request.
+ * Sub-resource links are hinted for preload or prefetch as configured with {@code @LinkHints}.
+ */
+public class LinkHeaderFilterWriter {
+
+    private final Filer filer;
+
+    public LinkHeaderFilterWriter(Filer filer) {
+        this.filer = filer;
+    }
+
+    public void write(ClassName filter,
+                      Multimap<ClassNameGeneration, Mapping> elements,
+                      Map<ClassNameGeneration, Map<String, Hint>> linkHints) throws IOException {
+
+        TypeName classType = ParameterizedTypeName.get(com.squareup.javapoet.ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class));
+        TypeName linkHeadersType = ParameterizedTypeName.get(com.squareup.javapoet.ClassName.get(Map.class), classType, TypeName.get(LinkHeaders.class));
+
+        CodeBlock.Builder linkHeaders = CodeBlock.builder()
+            .addStatement("$T linkHeaders = new $T<>()", linkHeadersType, HashMap.class);
+        TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(filter.className())
+            .addModifiers(PUBLIC, FINAL)
+            .addSuperinterface(ContainerResponseFilter.class)
+            .addAnnotation(Provider.class)
+            .addAnnotation(AnnotationSpec.builder(Generated.class)
+                .addMember("value", "$S", LinkerAnnotationProcessor.class.getName())
+                .build());
+        for (ClassNameGeneration className : new TreeSet<>(elements.keySet())) {
+            Collection<Mapping> mappings = elements.get(className);
+            if (!mappings.stream().anyMatch(HAS_SELF)) {
+                continue;
+            }
+            typeBuilder.addOriginatingElement(className.getOriginatingElement());
+            TypeName parametersType = RouterWriter.parametersType(className, mappings);
+            Map<String, Hint> hints = linkHints.getOrDefault(className, Collections.emptyMap());
+            linkHeaders.add("linkHeaders.put($T.class, $T.builder()", toClassName(className.getClassName()), LinkHeaders.class).indent();
+            for (Mapping mapping : RouterWriter.selfFirst(mappings)) {
+                String relation = LinkSetMethods.relation(mapping);
+                String path = mapping.getApi().getApiPath().getPath();
+                Hint hint = hints.getOrDefault(relation, Hint.NONE);
+                if (hint == Hint.NONE) {
+                    linkHeaders.add("\n.link($S, $T.class, $S)", relation, parametersType, path);
+                } else {
+                    linkHeaders.add("\n.link($S, $T.$L, $T.class, $S)", relation, Hint.class, hint.name(), parametersType, path);
+                }
+            }
+            linkHeaders.add("\n.build());\n").unindent();
+        }
+
+        typeBuilder
+            .addField(FieldSpec.builder(linkHeadersType, "LINK_HEADERS", PRIVATE, STATIC, FINAL)
+                .initializer("linkHeaders()")
+                .build())
+            .addMethod(MethodSpec.methodBuilder("filter")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(ContainerRequestContext.class, "request")
+                .addParameter(ContainerResponseContext.class, "response")
+                .beginControlFlow("if (response.getStatusInfo().getFamily() != $T.Status.Family.SUCCESSFUL)", Response.class)
+                .addStatement("return")
+                .endControlFlow()
+                .addStatement("$T route = $T.INSTANCE.route(request.getUriInfo().getPath(false))",
+                    ParameterizedTypeName.get(Optional.class, Route.class), toClassName(ClassNames.ROUTES))
+                .beginControlFlow("if (!route.isPresent() || !$S.equals(route.get().relation()))", "self")
+                .addStatement("return")
+                .endControlFlow()
+                .addStatement("$T links = LINK_HEADERS.get(route.get().resource()).render($T.getContextPath(), route.get())",
+                    String.class, toClassName(ClassNames.CONTEXT_PATH_HOLDER))
+                .beginControlFlow("if (!links.isEmpty())")
+                .addStatement("response.getHeaders().add($T.LINK, links)", HttpHeaders.class)
+                .endControlFlow()
+                .build())
+            .addMethod(MethodSpec.methodBuilder("linkHeaders")
+                .addModifiers(PRIVATE, STATIC)
+                .returns(linkHeadersType)
+                .addCode(linkHeaders.addStatement("return linkHeaders").build())
+                .build());
+
+        JavaFile.builder(filter.packageName(), typeBuilder.build())
+            .indent("\t")
+            .build()
+            .writeTo(filer);
+    }
+}
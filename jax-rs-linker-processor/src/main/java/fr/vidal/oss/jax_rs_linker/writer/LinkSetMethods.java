@@ -0,0 +1,382 @@
+package fr.vidal.oss.jax_rs_linker.writer;
+
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import fr.vidal.oss.jax_rs_linker.base.Preconditions;
+import fr.vidal.oss.jax_rs_linker.metrics.LinkerMetricsHolder;
+import fr.vidal.oss.jax_rs_linker.model.EntityAccessor;
+import fr.vidal.oss.jax_rs_linker.model.EntityBinding;
+import fr.vidal.oss.jax_rs_linker.model.Mapping;
+import fr.vidal.oss.jax_rs_linker.model.LinkSet;
+import fr.vidal.oss.jax_rs_linker.model.PathParameter;
+import fr.vidal.oss.jax_rs_linker.model.PathSegment;
+import fr.vidal.oss.jax_rs_linker.model.QueryParameter;
+
+import javax.lang.model.SourceVersion;
+import javax.lang.model.type.TypeKind;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.google.common.base.CaseFormat.LOWER_CAMEL;
+import static com.google.common.base.CaseFormat.UPPER_CAMEL;
+import static com.google.common.base.CaseFormat.UPPER_UNDERSCORE;
+import static fr.vidal.oss.jax_rs_linker.functions.MappingToPathParameters.TO_PATH_PARAMETERS;
+import static fr.vidal.oss.jax_rs_linker.parser.ApiPaths.segments;
+import static fr.vidal.oss.jax_rs_linker.predicates.HasSelfMapping.HAS_SELF;
+import static fr.vidal.oss.jax_rs_linker.predicates.MappingByApiLinkTargetPredicate.BY_API_LINK_TARGET_PRESENCE;
+import static java.util.Collections.emptyMap;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+
+/**
+ * Generates the linker method rendering all the links of a resource at once.
+ * Links are rendered in a single buffer, each path parameter being validated only once.
+ * Path parameters keep their declared types and are taken in their order of appearance in the link templates.
+ * When the resource declares a {@code @LinkedEntity}, parameters can also be read from the entity accessors.
+ */
+class LinkSetMethods {
+
+    static final String RELATIONS_FIELD = "LINK_RELATIONS";
+    private static final String BUFFER = "linkBuffer";
+    private static final String ENDS = "linkEnds";
+    private static final String ENTITY = "entity";
+    private static final String SEPARATOR = "querySeparator";
+    private static final String START = "renderStart";
+    private static final int ESTIMATED_PARAMETER_LENGTH = 16;
+
+    private final List<Mapping> links;
+    private final com.squareup.javapoet.ClassName pathParametersType;
+    private final String metricsKey;
+
+    LinkSetMethods(Collection<Mapping> mappings, com.squareup.javapoet.ClassName pathParametersType) {
+        this.links = new ArrayList<>();
+        this.links.add(mappings.stream().filter(HAS_SELF).findFirst().get());
+        this.links.addAll(mappings.stream().filter(BY_API_LINK_TARGET_PRESENCE).collect(toList()));
+        this.pathParametersType = pathParametersType;
+        this.metricsKey = links.get(0).getJavaLocation().getClassNameGeneration().getClassName().fullyQualifiedName() + "#links";
+    }
+
+    public FieldSpec relationsField() {
+        CodeBlock.Builder relations = CodeBlock.builder().add("{");
+        for (int i = 0; i < links.size(); i++) {
+            relations.add(i == 0 ? "$S" : ", $S", relation(links.get(i)));
+        }
+        return FieldSpec.builder(ArrayTypeName.of(String.class), RELATIONS_FIELD, PRIVATE, STATIC, FINAL)
+            .initializer(relations.add("}").build())
+            .build();
+    }
+
+    public MethodSpec linksMethod(String prefixField) {
+        Map<String, PathParameter> parameters = parameters();
+        MethodSpec.Builder method = MethodSpec.methodBuilder("links")
+            .addModifiers(PUBLIC, FINAL)
+            .returns(LinkSet.class)
+            .addCode(startMetrics());
+
+        Map<String, CodeBlock> values = new TreeMap<>();
+        for (PathParameter parameter : parameters.values()) {
+            String name = parameterName(parameter.getName());
+            TypeName type = type(parameter.getName());
+            method.addParameter(type, name);
+            values.put(parameter.getName(), CodeBlock.of("$L", name));
+            if (parameter.getRegex().isPresent()) {
+                method.addStatement(
+                    "$T.checkParameterValue($S, $T.$L.regex(), $L)",
+                    Preconditions.class,
+                    metricsKey,
+                    pathParametersType,
+                    EnumConstants.constantName(parameter.getName()),
+                    type.equals(TypeName.get(String.class)) ? name : CodeBlock.of("$T.valueOf($L)", String.class, name)
+                );
+            }
+        }
+        return method.addCode(render(prefixField, values)).build();
+    }
+
+    /**
+     * Each accessor is called once, primitives being appended as such.
+     * Path parameters declared as primitives are unboxed, null values are rejected.
+     * Null query parameter values are left out.
+     */
+    public MethodSpec entityLinksMethod(String prefixField, EntityBinding binding) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder("links")
+            .addModifiers(PUBLIC, FINAL)
+            .returns(LinkSet.class)
+            .addParameter(TypeName.get(binding.getEntityType()), ENTITY)
+            .addCode(startMetrics());
+
+        Set<String> locals = new HashSet<>();
+        Map<String, CodeBlock> pathValues = new TreeMap<>();
+        for (PathParameter parameter : parameters().values()) {
+            EntityAccessor accessor = binding.getPathAccessors().get(parameter.getName());
+            String local = parameterName(parameter.getName());
+            locals.add(local);
+            TypeName type = TypeName.get(accessor.getType());
+            if (accessor.isPrimitive()) {
+                method.addStatement("$T $L = $L.$L()", type, local, ENTITY, accessor.getMethodName());
+            } else {
+                method.addStatement("$T $L = $T.requireNonNull($L.$L(), $S)",
+                    type, local, Objects.class, ENTITY, accessor.getMethodName(), parameter.getName());
+            }
+            if (parameter.getRegex().isPresent()) {
+                method.addStatement(
+                    "$T.checkParameterValue($S, $T.$L.regex(), $L)",
+                    Preconditions.class,
+                    metricsKey,
+                    pathParametersType,
+                    EnumConstants.constantName(parameter.getName()),
+                    type.equals(TypeName.get(String.class)) ? local : CodeBlock.of("$T.valueOf($L)", String.class, local)
+                );
+            }
+            pathValues.put(parameter.getName(), CodeBlock.of("$L", local));
+        }
+
+        Map<String, QueryValue> queryValues = new TreeMap<>();
+        for (Map.Entry<String, EntityAccessor> parameter : binding.getQueryAccessors().entrySet()) {
+            EntityAccessor accessor = parameter.getValue();
+            String local = parameterName(parameter.getKey());
+            while (!locals.add(local)) {
+                local += "Query";
+            }
+            method.addStatement("$T $L = $L.$L()", TypeName.get(accessor.getType()), local, ENTITY, accessor.getMethodName());
+            queryValues.put(parameter.getKey(), new QueryValue(parameter.getKey(), local, accessor));
+        }
+        return method.addCode(render(prefixField, pathValues, queryValues)).build();
+    }
+
+    CodeBlock render(String prefixField, Map<String, CodeBlock> values) {
+        return render(prefixField, values, emptyMap());
+    }
+
+    /**
+     * Renders every link, path parameters being substituted by the given Java expressions.
+     * Placeholders without any bound expression are kept as is, as well as unbound query parameters.
+     * Bound query parameters are sorted by name, as in {@code TemplatedUrl#canonicalValue()}.
+     */
+    CodeBlock render(String prefixField, Map<String, CodeBlock> values, Map<String, QueryValue> queryValues) {
+        CodeBlock prefixLength = links.size() == 1
+            ? CodeBlock.of("$L.length()", prefixField)
+            : CodeBlock.of("$L.length() * $L", prefixField, links.size());
+        CodeBlock.Builder code = CodeBlock.builder()
+            .addStatement(
+                "$T $L = new $T($L + $L)",
+                StringBuilder.class, BUFFER, StringBuilder.class, prefixLength, estimatedLength())
+            .addStatement("int[] $L = new int[$L]", ENDS, links.size());
+        if (!queryValues.isEmpty()) {
+            code.addStatement("char $L", SEPARATOR);
+        }
+        for (int i = 0; i < links.size(); i++) {
+            CodeBlock.Builder chain = CodeBlock.builder().add("$L.append($L)", BUFFER, prefixField);
+            for (PathSegment segment : segments(links.get(i).getApi().getApiPath().getPath())) {
+                CodeBlock value = values.get(segment.getValue());
+                if (segment.isPlaceholder() && value != null) {
+                    chain.add(".append($L)", value);
+                } else {
+                    chain.add(".append($S)", segment.toString());
+                }
+            }
+            List<QueryParameter> query = links.get(i).getApi().getApiQuery().getQueryParameters().stream()
+                .filter(parameter -> queryValues.containsKey(parameter.getName()))
+                .sorted(comparing(QueryParameter::getName))
+                .collect(toList());
+            if (query.isEmpty()) {
+                code.addStatement("$L[$L] = $L.length()", ENDS, i, chain.build());
+                continue;
+            }
+            code.addStatement("$L", chain.build())
+                .addStatement("$L = '?'", SEPARATOR);
+            for (int j = 0; j < query.size(); j++) {
+                QueryParameter parameter = query.get(j);
+                queryValues.get(parameter.getName()).appendTo(code, parameter.getDefaultValue(), j == query.size() - 1);
+            }
+            code.addStatement("$L[$L] = $L.length()", ENDS, i, BUFFER);
+        }
+        return code
+            .beginControlFlow("if ($T.ENABLED)", LinkerMetricsHolder.class)
+            .addStatement("$T.METRICS.rendered($S, $L, $T.nanoTime() - $L, $L)",
+                LinkerMetricsHolder.class, metricsKey, values.size() + queryValues.size(), System.class, START, BUFFER)
+            .endControlFlow()
+            .addStatement("return new $T($L, $L.toString(), $L)", LinkSet.class, RELATIONS_FIELD, BUFFER, ENDS)
+            .build();
+    }
+
+    /**
+     * Reads the clock only when metrics are enabled, which the JIT compiler knows as a constant.
+     */
+    private CodeBlock startMetrics() {
+        return CodeBlock.builder()
+            .addStatement("long $L = $T.ENABLED ? $T.nanoTime() : 0L", START, LinkerMetricsHolder.class, System.class)
+            .build();
+    }
+
+    /**
+     * Path parameters in their order of appearance, from the self link template to the related ones.
+     */
+    Map<String, PathParameter> parameters() {
+        Map<String, PathParameter> declared = new TreeMap<>();
+        links.stream()
+            .flatMap(TO_PATH_PARAMETERS)
+            .forEach(parameter -> declared.merge(parameter.getName(), parameter, (first, second) -> first.getRegex().isPresent() ? first : second));
+        Map<String, PathParameter> parameters = new LinkedHashMap<>();
+        for (Mapping link : links) {
+            for (PathSegment segment : segments(link.getApi().getApiPath().getPath())) {
+                if (segment.isPlaceholder() && declared.containsKey(segment.getValue())) {
+                    parameters.putIfAbsent(segment.getValue(), declared.get(segment.getValue()));
+                }
+            }
+        }
+        declared.forEach(parameters::putIfAbsent);
+        return parameters;
+    }
+
+    /**
+     * Declared type of the path parameter, falling back to {@code String} when links declare it with different types.
+     */
+    private TypeName type(String name) {
+        Set<TypeName> types = links.stream()
+            .flatMap(TO_PATH_PARAMETERS)
+            .filter(parameter -> parameter.getName().equals(name))
+            .map(ClientLinksWriter::type)
+            .collect(toSet());
+        return types.size() == 1 ? types.iterator().next() : TypeName.get(String.class);
+    }
+
+    private int estimatedLength() {
+        int length = 0;
+        for (Mapping link : links) {
+            for (PathSegment segment : segments(link.getApi().getApiPath().getPath())) {
+                length += segment.isPlaceholder() ? ESTIMATED_PARAMETER_LENGTH : segment.getValue().length();
+            }
+        }
+        return length;
+    }
+
+    static String relation(Mapping mapping) {
+        if (HAS_SELF.test(mapping)) {
+            return "self";
+        }
+        return UPPER_CAMEL.to(LOWER_CAMEL, mapping.getApi().getApiLink().getQualifiedTarget().get());
+    }
+
+    static String parameterName(String placeholder) {
+        String name = UPPER_UNDERSCORE.to(LOWER_CAMEL, EnumConstants.constantName(placeholder))
+            .codePoints()
+            .filter(Character::isJavaIdentifierPart)
+            .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+            .toString();
+        if (!SourceVersion.isName(name) || name.equals(BUFFER) || name.equals(ENDS) || name.equals(ENTITY) || name.equals(SEPARATOR)
+            || name.equals(START) || name.equals(LinkTableMethods.TABLE)) {
+            return "_" + name;
+        }
+        return name;
+    }
+
+    /**
+     * Local variable holding the value of a query parameter, appended with the current separator.
+     */
+    static final class QueryValue {
+
+        private final String name;
+        private final String local;
+        private final EntityAccessor accessor;
+
+        QueryValue(String name, String local, EntityAccessor accessor) {
+            this.name = name;
+            this.local = local;
+            this.accessor = accessor;
+        }
+
+        /**
+         * Values equal to the default one of the parameter are left out, except in iterables.
+         * The separator is not updated after the last value of the link.
+         */
+        void appendTo(CodeBlock.Builder code, Optional<String> defaultValue, boolean last) {
+            if (accessor.isPrimitive()) {
+                Optional<CodeBlock> literal = defaultValue.flatMap(this::primitiveLiteral);
+                if (!literal.isPresent()) {
+                    append(code, local, last);
+                    return;
+                }
+                if (accessor.getType().getKind() == TypeKind.BOOLEAN) {
+                    code.beginControlFlow(Boolean.parseBoolean(defaultValue.get().trim()) ? "if (!$L)" : "if ($L)", local);
+                } else {
+                    code.beginControlFlow("if ($L != $L)", local, literal.get());
+                }
+                append(code, local, last);
+                code.endControlFlow();
+                return;
+            }
+            if (defaultValue.isPresent() && !accessor.isIterable()) {
+                CodeBlock value = TypeName.get(accessor.getType()).equals(TypeName.get(String.class))
+                    ? CodeBlock.of("$L", local)
+                    : CodeBlock.of("$L.toString()", local);
+                code.beginControlFlow("if ($L != null && !$S.equals($L))", local, defaultValue.get(), value);
+            } else {
+                code.beginControlFlow("if ($L != null)", local);
+            }
+            if (accessor.isIterable()) {
+                String element = local + "Value";
+                code.beginControlFlow("for ($T $L : $L)", Object.class, element, local);
+                append(code, element, false);
+                code.endControlFlow();
+            } else {
+                append(code, local, last);
+            }
+            code.endControlFlow();
+        }
+
+        /**
+         * Default value as a Java literal of the accessor primitive type, if it can be parsed as such.
+         */
+        private Optional<CodeBlock> primitiveLiteral(String defaultValue) {
+            String value = defaultValue.trim();
+            try {
+                switch (accessor.getType().getKind()) {
+                    case BOOLEAN:
+                        return Optional.of(CodeBlock.of("$L", Boolean.parseBoolean(value)));
+                    case BYTE:
+                        return Optional.of(CodeBlock.of("$L", Byte.parseByte(value)));
+                    case SHORT:
+                        return Optional.of(CodeBlock.of("$L", Short.parseShort(value)));
+                    case INT:
+                        return Optional.of(CodeBlock.of("$L", Integer.parseInt(value)));
+                    case LONG:
+                        return Optional.of(CodeBlock.of("$LL", Long.parseLong(value)));
+                    case FLOAT:
+                        float floatValue = Float.parseFloat(value);
+                        return Float.isNaN(floatValue) || Float.isInfinite(floatValue) ? Optional.empty() : Optional.of(CodeBlock.of("$Lf", floatValue));
+                    case DOUBLE:
+                        double doubleValue = Double.parseDouble(value);
+                        return Double.isNaN(doubleValue) || Double.isInfinite(doubleValue) ? Optional.empty() : Optional.of(CodeBlock.of("$L", doubleValue));
+                    default:
+                        return Optional.empty();
+                }
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+
+        private void append(CodeBlock.Builder code, String value, boolean last) {
+            code.addStatement("$L.append($L).append($S).append($L)", BUFFER, SEPARATOR, name + "=", value);
+            if (!last) {
+                code.addStatement("$L = '&'", SEPARATOR);
+            }
+        }
+    }
+}
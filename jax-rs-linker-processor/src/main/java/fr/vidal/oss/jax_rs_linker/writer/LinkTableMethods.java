@@ -0,0 +1,130 @@
+package fr.vidal.oss.jax_rs_linker.writer;
+
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import fr.vidal.oss.jax_rs_linker.model.ApiPath;
+import fr.vidal.oss.jax_rs_linker.model.EnumDomain;
+import fr.vidal.oss.jax_rs_linker.model.PathSegment;
+
+import java.util.List;
+import java.util.Map;
+
+import static fr.vidal.oss.jax_rs_linker.parser.ApiPaths.segments;
+import static java.util.stream.Collectors.toList;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+
+/**
+ * Generates the linker methods returning pre-rendered links, for templates whose path parameters are all enums.
+ * Every combination is rendered once, right after the context path is known, into arrays indexed by ordinal.
+ */
+class LinkTableMethods {
+
+    static final int MAX_TABLE_SIZE = 4096;
+    static final String TABLE = "linkTable";
+
+    private final Map<String, EnumDomain> domains;
+
+    LinkTableMethods(Map<String, EnumDomain> domains) {
+        this.domains = domains;
+    }
+
+    /**
+     * Path parameters with a regex are excluded, enum constants not being guaranteed to match it.
+     */
+    public boolean supports(ApiPath apiPath) {
+        List<String> parameters = parameters(apiPath);
+        if (parameters.isEmpty() || apiPath.getPathParameters().stream().anyMatch(parameter -> parameter.getRegex().isPresent())) {
+            return false;
+        }
+        long size = 1;
+        for (String parameter : parameters) {
+            EnumDomain domain = domains.get(parameter);
+            if (domain == null) {
+                return false;
+            }
+            size *= domain.getSize();
+        }
+        return size <= MAX_TABLE_SIZE;
+    }
+
+    public void addTo(TypeSpec.Builder type, String prefixField, String methodName, ApiPath apiPath) {
+        List<String> parameters = parameters(apiPath);
+        String tableName = methodName + "Links";
+        TypeName tableType = TypeName.get(String.class);
+        for (int i = 0; i < parameters.size(); i++) {
+            tableType = ArrayTypeName.of(tableType);
+        }
+
+        type.addField(FieldSpec.builder(tableType, tableName, PRIVATE, FINAL)
+            .initializer("$L()", tableName)
+            .build());
+        type.addMethod(tableMethod(prefixField, tableName, tableType, apiPath, parameters));
+        type.addMethod(lookupMethod(methodName, tableName, parameters));
+    }
+
+    private MethodSpec tableMethod(String prefixField, String tableName, TypeName tableType, ApiPath apiPath, List<String> parameters) {
+        CodeBlock.Builder dimensions = CodeBlock.builder();
+        CodeBlock.Builder indices = CodeBlock.builder();
+        for (String parameter : parameters) {
+            dimensions.add("[$T.values().length]", enumType(parameter));
+            indices.add("[$L.ordinal()]", LinkSetMethods.parameterName(parameter));
+        }
+
+        CodeBlock.Builder link = CodeBlock.builder().add("$L", prefixField);
+        for (PathSegment segment : segments(apiPath.getPath())) {
+            if (segment.isPlaceholder()) {
+                link.add(" + $L.name()", LinkSetMethods.parameterName(segment.getValue()));
+            } else {
+                link.add(" + $S", segment.getValue());
+            }
+        }
+
+        CodeBlock.Builder code = CodeBlock.builder()
+            .addStatement("$T $L = new $T$L", tableType, TABLE, String.class, dimensions.build());
+        for (String parameter : parameters) {
+            code.beginControlFlow("for ($T $L : $T.values())", enumType(parameter), LinkSetMethods.parameterName(parameter), enumType(parameter));
+        }
+        code.addStatement("$L$L = $L", TABLE, indices.build(), link.build());
+        for (int i = 0; i < parameters.size(); i++) {
+            code.endControlFlow();
+        }
+
+        return MethodSpec.methodBuilder(tableName)
+            .addModifiers(PRIVATE)
+            .returns(tableType)
+            .addCode(code.addStatement("return $L", TABLE).build())
+            .build();
+    }
+
+    private MethodSpec lookupMethod(String methodName, String tableName, List<String> parameters) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder(methodName)
+            .addModifiers(PUBLIC, FINAL)
+            .returns(String.class);
+        CodeBlock.Builder indices = CodeBlock.builder();
+        for (String parameter : parameters) {
+            String name = LinkSetMethods.parameterName(parameter);
+            method.addParameter(enumType(parameter), name);
+            indices.add("[$L.ordinal()]", name);
+        }
+        return method.addStatement("return $L$L", tableName, indices.build()).build();
+    }
+
+    private static List<String> parameters(ApiPath apiPath) {
+        return segments(apiPath.getPath()).stream()
+            .filter(PathSegment::isPlaceholder)
+            .map(PathSegment::getValue)
+            .distinct()
+            .collect(toList());
+    }
+
+    private ClassName enumType(String parameter) {
+        return ClassName.get(domains.get(parameter).getType());
+    }
+}
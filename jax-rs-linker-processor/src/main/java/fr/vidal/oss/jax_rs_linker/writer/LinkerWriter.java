@@ -1,6 +1,7 @@
 package fr.vidal.oss.jax_rs_linker.writer;
 
 import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
@@ -17,6 +18,8 @@ import fr.vidal.oss.jax_rs_linker.model.ApiQuery;
 import fr.vidal.oss.jax_rs_linker.model.ClassName;
 import fr.vidal.oss.jax_rs_linker.model.ClassNameGeneration;
 import fr.vidal.oss.jax_rs_linker.model.ClassNames;
+import fr.vidal.oss.jax_rs_linker.model.EntityBinding;
+import fr.vidal.oss.jax_rs_linker.model.EnumDomain;
 import fr.vidal.oss.jax_rs_linker.model.Mapping;
 import fr.vidal.oss.jax_rs_linker.model.PathParameter;
 import fr.vidal.oss.jax_rs_linker.model.QueryParameter;
@@ -25,9 +28,13 @@ import fr.vidal.oss.jax_rs_linker.model.TemplatedUrl;
 import javax.annotation.Generated;
 import javax.annotation.processing.Filer;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static com.google.common.base.CaseFormat.LOWER_CAMEL;
 import static com.google.common.base.CaseFormat.UPPER_CAMEL;
@@ -49,7 +56,7 @@ public class LinkerWriter {
         this.filer = filer;
     }
 
-    public void write(ClassNameGeneration generatedClass, Collection<Mapping> mappings) throws IOException {
+    public void write(ClassNameGeneration generatedClass, Collection<Mapping> mappings, Optional<EntityBinding> entityBinding, Map<String, EnumDomain> enumDomains) throws IOException {
         Api selfApi = mappings.stream().filter(HAS_SELF).findFirst().get().getApi();
 
         String lowerCamelClassName = UPPER_CAMEL.to(LOWER_CAMEL, generatedClass.className());
@@ -78,20 +85,34 @@ public class LinkerWriter {
                 )
             );
 
-
+        LinkTableMethods linkTables = new LinkTableMethods(enumDomains);
+        if (linkTables.supports(selfApi.getApiPath())) {
+            linkTables.addTo(typeBuilder, "contextPath", "self", selfApi.getApiPath());
+        }
         for (Mapping mapping : linked(mappings)) {
             Api apiMapping = mapping.getApi();
+            String methodName = format("related%s", apiMapping.getApiLink().getQualifiedTarget().get());
             typeBuilder.addMethod(
                 linkerMethod(
-                    format("related%s", apiMapping.getApiLink().getQualifiedTarget().get()),
+                    methodName,
                     apiMapping.getApiPath(),
                     templatedUrlType(generatedClass, apiMapping),
                     apiMapping.getApiQuery()
                 )
             );
+            if (linkTables.supports(apiMapping.getApiPath())) {
+                linkTables.addTo(typeBuilder, "contextPath", methodName, apiMapping.getApiPath());
+            }
         }
+        LinkSetMethods linkSet = new LinkSetMethods(mappings, toClassName(pathParametersType(generatedClass.getClassName().fullyQualifiedName())));
+        typeBuilder.addField(linkSet.relationsField());
+        typeBuilder.addMethod(linkSet.linksMethod("contextPath"));
+        entityBinding.ifPresent(binding -> typeBuilder.addMethod(linkSet.entityLinksMethod("contextPath", binding)));
         typeBuilder.addMethod(pathParameterMethod());
         typeBuilder.addMethod(queryParameterMethod());
+        if (hasDefaultValues(selfApi, linked(mappings))) {
+            typeBuilder.addMethod(defaultQueryParameterMethod());
+        }
         JavaFile.builder(generatedClass.packageName(), typeBuilder.build())
             .indent("\t")
             .build()
@@ -139,6 +160,10 @@ public class LinkerWriter {
         if (apiPath.getPathParameters().isEmpty()) {
             return ClassName.valueOf(NoPathParameters.class.getName());
         }
+        return pathParametersType(generatedClass);
+    }
+
+    private ClassName pathParametersType(String generatedClass) {
         return ClassName.valueOf(generatedClass.replace("Linker", "PathParameters"));
     }
 
@@ -170,20 +195,29 @@ public class LinkerWriter {
     }
 
 
-    private String queryParametersAsList(Collection<QueryParameter> queryParameters) {
-        StringBuilder builder = new StringBuilder();
+    private CodeBlock queryParametersAsList(Collection<QueryParameter> queryParameters) {
+        CodeBlock.Builder builder = CodeBlock.builder();
         Iterator<QueryParameter> iterator = queryParameters.iterator();
         while (iterator.hasNext()) {
             QueryParameter parameter = iterator.next();
             String separator = iterator.hasNext() ? "," : "";
-            builder.append(format(
-                "queryParameter(\"%s\")%s",
-                parameter.getName(),
-                separator
-            ));
+            if (parameter.getDefaultValue().isPresent()) {
+                builder.add("queryParameter($S, $S)$L", parameter.getName(), parameter.getDefaultValue().get(), separator);
+            } else {
+                builder.add("queryParameter($S)$L", parameter.getName(), separator);
+            }
         }
 
-        return builder.toString();
+        return builder.build();
+    }
+
+    private boolean hasDefaultValues(Api selfApi, Iterable<Mapping> linked) {
+        List<Api> apis = new ArrayList<>();
+        apis.add(selfApi);
+        linked.forEach(mapping -> apis.add(mapping.getApi()));
+        return apis.stream()
+            .flatMap(api -> api.getApiQuery().getQueryParameters().stream())
+            .anyMatch(parameter -> parameter.getDefaultValue().isPresent());
     }
 
     private MethodSpec pathParameterMethod() {
@@ -218,4 +252,21 @@ public class LinkerWriter {
             .build();
     }
 
+    private MethodSpec defaultQueryParameterMethod() {
+        return MethodSpec.methodBuilder("queryParameter")
+            .returns(QueryParameter.class)
+            .addModifiers(PRIVATE, STATIC)
+            .addParameter(
+                ParameterSpec.builder(String.class, "name", FINAL).build())
+            .addParameter(
+                ParameterSpec.builder(String.class, "defaultValue", FINAL).build())
+            .addStatement(
+                "return new $T($L, $L)",
+                QueryParameter.class,
+                "name",
+                "defaultValue"
+            )
+            .build();
+    }
+
 }
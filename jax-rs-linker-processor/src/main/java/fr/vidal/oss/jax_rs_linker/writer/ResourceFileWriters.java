@@ -1,9 +1,11 @@
 package fr.vidal.oss.jax_rs_linker.writer;
 
 import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.util.Collection;
 
 import static javax.tools.StandardLocation.CLASS_OUTPUT;
 
@@ -15,10 +17,10 @@ public class ResourceFileWriters {
         this.filer = filer;
     }
 
-    public Writer writer(String fileName) {
+    public Writer writer(String fileName, Collection<? extends Element> originatingElements) {
         try {
             return filer
-                .createResource(CLASS_OUTPUT, "", fileName)
+                .createResource(CLASS_OUTPUT, "", fileName, originatingElements.toArray(new Element[0]))
                 .openWriter();
         } catch (IOException e) {
             throw new UncheckedIOException(e);
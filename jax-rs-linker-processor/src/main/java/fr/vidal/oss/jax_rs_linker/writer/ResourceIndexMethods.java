@@ -0,0 +1,257 @@
+package fr.vidal.oss.jax_rs_linker.writer;
+
+import com.google.common.collect.Multimap;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import fr.vidal.oss.jax_rs_linker.invocation.ResourceIndex;
+import fr.vidal.oss.jax_rs_linker.invocation.ResourceInvoker;
+import fr.vidal.oss.jax_rs_linker.model.ClassNameGeneration;
+import fr.vidal.oss.jax_rs_linker.model.EntityBinding;
+import fr.vidal.oss.jax_rs_linker.model.InvocationArgument;
+import fr.vidal.oss.jax_rs_linker.model.InvocationArgument.CollectionType;
+import fr.vidal.oss.jax_rs_linker.model.Mapping;
+import fr.vidal.oss.jax_rs_linker.model.MethodInvocation;
+import fr.vidal.oss.jax_rs_linker.model.PathParameter;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.google.common.base.CaseFormat.LOWER_CAMEL;
+import static com.google.common.base.CaseFormat.UPPER_CAMEL;
+import static fr.vidal.oss.jax_rs_linker.functions.MappingToPathParameters.TO_PATH_PARAMETERS;
+import static java.util.stream.Collectors.toSet;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+
+/**
+ * Generates the {@link ResourceIndex} methods of the router: resource method invokers, by resource and relation,
+ * and self links of the {@code @LinkedEntity} types.
+ */
+class ResourceIndexMethods {
+
+    private static final String INVOKERS = "invokers";
+    private static final String RESOURCE = "resource";
+    private static final String RESOURCES = "resources";
+    private static final String ROUTE = "route";
+    private static final String ENTITY = "entity";
+
+    private final Map<Mapping, MethodInvocation> invocations;
+    private final Map<ClassNameGeneration, EntityBinding> entityBindings;
+
+    ResourceIndexMethods(Map<Mapping, MethodInvocation> invocations, Map<ClassNameGeneration, EntityBinding> entityBindings) {
+        this.invocations = invocations;
+        this.entityBindings = entityBindings;
+    }
+
+    public void addTo(TypeSpec.Builder type, Multimap<ClassNameGeneration, Mapping> elements) {
+        TypeName relationInvokers = ParameterizedTypeName.get(Map.class, String.class, ResourceInvoker.class);
+        TypeName invokersType = ParameterizedTypeName.get(
+            com.squareup.javapoet.ClassName.get(Map.class),
+            ParameterizedTypeName.get(com.squareup.javapoet.ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class)),
+            relationInvokers
+        );
+
+        CodeBlock.Builder invokers = CodeBlock.builder()
+            .addStatement("$T $L = new $T<>()", invokersType, INVOKERS, HashMap.class);
+        List<MethodSpec> resourceInvokersMethods = new ArrayList<>();
+        for (ClassNameGeneration className : new TreeSet<>(elements.keySet())) {
+            Optional<MethodSpec> resourceInvokers = resourceInvokersMethod(className, elements.get(className), relationInvokers);
+            if (resourceInvokers.isPresent()) {
+                resourceInvokersMethods.add(resourceInvokers.get());
+                invokers.addStatement("$L.put($T.class, $N())", INVOKERS, RouterWriter.toClassName(className.getClassName()), resourceInvokers.get());
+            }
+        }
+
+        type.addSuperinterface(ResourceIndex.class)
+            .addField(FieldSpec.builder(invokersType, INVOKERS, PRIVATE, FINAL)
+                .initializer("$L()", INVOKERS)
+                .build())
+            .addMethod(MethodSpec.methodBuilder("invoker")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC, FINAL)
+                .returns(ParameterizedTypeName.get(Optional.class, ResourceInvoker.class))
+                .addParameter(ParameterizedTypeName.get(com.squareup.javapoet.ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class)), RESOURCE)
+                .addParameter(String.class, "relation")
+                .addStatement("$T relations = $L.get($L)", relationInvokers, INVOKERS, RESOURCE)
+                .addStatement("return relations == null ? $T.empty() : $T.ofNullable(relations.get(relation))", Optional.class, Optional.class)
+                .build())
+            .addMethod(selfLinkMethod(elements))
+            .addMethod(MethodSpec.methodBuilder(INVOKERS)
+                .addModifiers(PRIVATE, STATIC)
+                .returns(invokersType)
+                .addCode(invokers.addStatement("return $L", INVOKERS).build())
+                .build())
+            .addMethods(resourceInvokersMethods);
+    }
+
+    private Optional<MethodSpec> resourceInvokersMethod(ClassNameGeneration className, Collection<Mapping> mappings, TypeName relationInvokers) {
+        Set<String> pathParameters = mappings.stream()
+            .flatMap(TO_PATH_PARAMETERS)
+            .map(PathParameter::getName)
+            .collect(toSet());
+        CodeBlock.Builder code = CodeBlock.builder()
+            .addStatement("$T $L = new $T<>()", relationInvokers, INVOKERS, HashMap.class);
+        boolean empty = true;
+        for (Mapping mapping : mappings) {
+            MethodInvocation invocation = invocations.get(mapping);
+            if (invocation != null && isInvocable(invocation, pathParameters)) {
+                code.add("$L.put($S, ($L, $L) -> {\n$>", INVOKERS, LinkSetMethods.relation(mapping), RESOURCES, ROUTE)
+                    .add(invokerBody(className, invocation))
+                    .add("$<});\n");
+                empty = false;
+            }
+        }
+        if (empty) {
+            return Optional.empty();
+        }
+        return Optional.of(MethodSpec.methodBuilder(UPPER_CAMEL.to(LOWER_CAMEL, className.className()) + "Invokers")
+            .addModifiers(PRIVATE, STATIC)
+            .returns(relationInvokers)
+            .addCode(code.addStatement("return $L", INVOKERS).build())
+            .build());
+    }
+
+    private boolean isInvocable(MethodInvocation invocation, Set<String> pathParameters) {
+        return invocation.getArguments().stream()
+            .map(InvocationArgument::getPathParameter)
+            .allMatch(name -> !name.isPresent() || pathParameters.contains(name.get()));
+    }
+
+    private CodeBlock invokerBody(ClassNameGeneration className, MethodInvocation invocation) {
+        com.squareup.javapoet.ClassName resourceType = RouterWriter.toClassName(className.getClassName());
+        CodeBlock.Builder body = CodeBlock.builder()
+            .addStatement("$T $L = $L.getResource($T.class)", resourceType, RESOURCE, RESOURCES, resourceType);
+        CodeBlock.Builder arguments = CodeBlock.builder();
+        Set<String> locals = new HashSet<>();
+        for (InvocationArgument argument : invocation.getArguments()) {
+            if (!arguments.isEmpty()) {
+                arguments.add(", ");
+            }
+            if (!argument.getPathParameter().isPresent()) {
+                arguments.add(queryValue(argument));
+                continue;
+            }
+            String name = argument.getPathParameter().get();
+            String local = localName(name);
+            if (locals.add(local)) {
+                CodeBlock value = CodeBlock.of("$T.requireNonNull($L.parameter($T.$L), $S)",
+                    Objects.class, ROUTE, RouterWriter.toClassName(className.append("PathParameters").getClassName()), EnumConstants.constantName(name), name);
+                body.addStatement("$T $L = $L", TypeName.get(argument.getType()), local, converted(argument.getConversion(), argument.getType(), value));
+            }
+            arguments.add("$L", local);
+        }
+        return body
+            .addStatement("return () -> $L.$L($L)$L", RESOURCE, invocation.getMethodName(), arguments.build(),
+                invocation.isReturningResponse() ? ".getEntity()" : "")
+            .build();
+    }
+
+    private CodeBlock converted(InvocationArgument.Conversion conversion, TypeMirror type, CodeBlock value) {
+        switch (conversion) {
+            case VALUE_OF:
+                TypeName owner = type.getKind().isPrimitive() ? TypeName.get(type).box() : rawType(type);
+                return CodeBlock.of("$T.valueOf($L)", owner, value);
+            case FROM_STRING:
+                return CodeBlock.of("$T.fromString($L)", rawType(type), value);
+            case CONSTRUCTOR:
+                return CodeBlock.of("new $T($L)", TypeName.get(type), value);
+            default:
+                return value;
+        }
+    }
+
+    /**
+     * Value JAX-RS injects for a query parameter left out.
+     */
+    private CodeBlock queryValue(InvocationArgument argument) {
+        TypeMirror type = argument.getType();
+        Optional<CollectionType> collectionType = argument.getCollectionType();
+        if (collectionType.isPresent()) {
+            com.squareup.javapoet.ClassName implementation = com.squareup.javapoet.ClassName.bestGuess(collectionType.get().getImplementationName());
+            if (!argument.getDefaultValue().isPresent()) {
+                return CodeBlock.of("new $T<>()", implementation);
+            }
+            TypeMirror elementType = ((DeclaredType) type).getTypeArguments().get(0);
+            return CodeBlock.of("new $T<>($T.singletonList($L))", implementation, Collections.class,
+                converted(argument.getConversion(), elementType, CodeBlock.of("$S", argument.getDefaultValue().get())));
+        }
+        if (argument.getDefaultValue().isPresent()) {
+            return converted(argument.getConversion(), type, CodeBlock.of("$S", argument.getDefaultValue().get()));
+        }
+        return zeroValue(type);
+    }
+
+    private CodeBlock zeroValue(TypeMirror type) {
+        if (type.getKind() == TypeKind.BOOLEAN) {
+            return CodeBlock.of("false");
+        }
+        if (type.getKind().isPrimitive()) {
+            return CodeBlock.of("($T) 0", TypeName.get(type));
+        }
+        return CodeBlock.of("($T) null", TypeName.get(type));
+    }
+
+    private MethodSpec selfLinkMethod(Multimap<ClassNameGeneration, Mapping> elements) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder("selfLink")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC, FINAL)
+            .returns(ParameterizedTypeName.get(Optional.class, String.class))
+            .addParameter(Object.class, ENTITY);
+        for (ClassNameGeneration className : new TreeSet<>(elements.keySet())) {
+            EntityBinding binding = entityBindings.get(className);
+            if (binding == null || !isPublic(binding.getEntityType())) {
+                continue;
+            }
+            com.squareup.javapoet.ClassName entityType = rawType(binding.getEntityType());
+            method.beginControlFlow("if ($L instanceof $T)", ENTITY, entityType)
+                .addStatement("return $T.of($T.INSTANCE.links(($T) $L).href(0))",
+                    Optional.class, RouterWriter.toClassName(className.append("Linker").getClassName()), TypeName.get(binding.getEntityType()), ENTITY)
+                .endControlFlow();
+        }
+        return method.addStatement("return $T.empty()", Optional.class).build();
+    }
+
+    private static String localName(String placeholder) {
+        String name = LinkSetMethods.parameterName(placeholder);
+        if (name.equals(RESOURCE) || name.equals(RESOURCES) || name.equals(ROUTE) || name.equals(INVOKERS)) {
+            return "_" + name;
+        }
+        return name;
+    }
+
+    private static com.squareup.javapoet.ClassName rawType(TypeMirror type) {
+        return com.squareup.javapoet.ClassName.get((TypeElement) ((DeclaredType) type).asElement());
+    }
+
+    private static boolean isPublic(TypeMirror type) {
+        for (Element element = ((DeclaredType) type).asElement(); element.getKind() != ElementKind.PACKAGE; element = element.getEnclosingElement()) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
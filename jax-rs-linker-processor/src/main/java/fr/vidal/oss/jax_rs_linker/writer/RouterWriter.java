@@ -0,0 +1,158 @@
+package fr.vidal.oss.jax_rs_linker.writer;
+
+import com.google.common.collect.Multimap;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import fr.vidal.oss.jax_rs_linker.LinkerAnnotationProcessor;
+import fr.vidal.oss.jax_rs_linker.api.NoPathParameters;
+import fr.vidal.oss.jax_rs_linker.invocation.ResourceIndex;
+import fr.vidal.oss.jax_rs_linker.model.ClassName;
+import fr.vidal.oss.jax_rs_linker.model.ClassNameGeneration;
+import fr.vidal.oss.jax_rs_linker.model.EntityBinding;
+import fr.vidal.oss.jax_rs_linker.model.Mapping;
+import fr.vidal.oss.jax_rs_linker.model.MethodInvocation;
+import fr.vidal.oss.jax_rs_linker.model.PathSegment;
+import fr.vidal.oss.jax_rs_linker.model.Route;
+import fr.vidal.oss.jax_rs_linker.model.Router;
+
+import javax.annotation.Generated;
+import javax.annotation.processing.Filer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import static fr.vidal.oss.jax_rs_linker.functions.MappingToPathParameters.TO_PATH_PARAMETERS;
+import static fr.vidal.oss.jax_rs_linker.parser.ApiPaths.segments;
+import static fr.vidal.oss.jax_rs_linker.predicates.HasSelfMapping.HAS_SELF;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+
+/**
+ * Generates the router of the whole application, mapping paths back to the {@code @Self} and {@code @SubResource} methods.
+ * Paths with a placeholder that does not span a whole segment are not routed.
+ */
+public class RouterWriter {
+
+    private final Filer filer;
+
+    public RouterWriter(Filer filer) {
+        this.filer = filer;
+    }
+
+    public void write(ClassName router, Multimap<ClassNameGeneration, Mapping> elements) throws IOException {
+        write(router, elements, Optional.empty());
+    }
+
+    /**
+     * Generates the router along with the invokers of the linked resource methods, as a {@link ResourceIndex}.
+     */
+    public void writeIndex(ClassName router,
+                           Multimap<ClassNameGeneration, Mapping> elements,
+                           Map<Mapping, MethodInvocation> invocations,
+                           Map<ClassNameGeneration, EntityBinding> entityBindings) throws IOException {
+
+        write(router, elements, Optional.of(new ResourceIndexMethods(invocations, entityBindings)));
+    }
+
+    private void write(ClassName router, Multimap<ClassNameGeneration, Mapping> elements, Optional<ResourceIndexMethods> index) throws IOException {
+        TypeSpec.Builder typeBuilder = TypeSpec.enumBuilder(router.className())
+            .addModifiers(PUBLIC)
+            .addAnnotation(AnnotationSpec.builder(Generated.class)
+                .addMember("value", "$S", LinkerAnnotationProcessor.class.getName())
+                .build())
+            .addEnumConstant("INSTANCE");
+
+        CodeBlock.Builder routes = CodeBlock.builder().add("$T.builder()", Router.class).indent();
+        for (ClassNameGeneration className : new TreeSet<>(elements.keySet())) {
+            typeBuilder.addOriginatingElement(className.getOriginatingElement());
+            Collection<Mapping> mappings = elements.get(className);
+            TypeName parametersType = parametersType(className, mappings);
+            for (Mapping mapping : selfFirst(mappings)) {
+                String path = mapping.getApi().getApiPath().getPath();
+                if (!isRoutable(path)) {
+                    continue;
+                }
+                routes.add("\n.route($T.class, $T.class, $S, $T.class, $S)",
+                    toClassName(className.getClassName()),
+                    toClassName(mapping.getApi().getApiLink().getTarget().orElse(className.getClassName())),
+                    LinkSetMethods.relation(mapping),
+                    parametersType,
+                    path);
+            }
+        }
+        routes.add("\n.build()").unindent();
+
+        MethodSpec.Builder routeMethod = MethodSpec.methodBuilder("route")
+            .addModifiers(PUBLIC, FINAL)
+            .returns(ParameterizedTypeName.get(Optional.class, Route.class))
+            .addParameter(CharSequence.class, "path")
+            .addStatement("return router.route(path)");
+        if (index.isPresent()) {
+            routeMethod.addAnnotation(Override.class);
+        } else {
+            routeMethod.addJavadoc("Routes a path, context path excluded, to the matching resource method.\n");
+        }
+        typeBuilder
+            .addField(FieldSpec.builder(Router.class, "router", PRIVATE, FINAL)
+                .initializer(routes.build())
+                .build())
+            .addMethod(routeMethod.build());
+        if (index.isPresent()) {
+            index.get().addTo(typeBuilder, elements);
+        }
+
+        JavaFile.builder(router.packageName(), typeBuilder.build())
+            .indent("\t")
+            .build()
+            .writeTo(filer);
+    }
+
+    static TypeName parametersType(ClassNameGeneration className, Collection<Mapping> mappings) {
+        if (!mappings.stream().flatMap(TO_PATH_PARAMETERS).findAny().isPresent()) {
+            return TypeName.get(NoPathParameters.class);
+        }
+        return toClassName(className.append("PathParameters").getClassName());
+    }
+
+    static List<Mapping> selfFirst(Collection<Mapping> mappings) {
+        List<Mapping> result = new ArrayList<>();
+        mappings.stream().filter(HAS_SELF).forEach(result::add);
+        mappings.stream().filter(HAS_SELF.negate()).forEach(result::add);
+        return result;
+    }
+
+    private boolean isRoutable(String path) {
+        List<PathSegment> segments = segments(path);
+        for (int i = 0; i < segments.size(); i++) {
+            if (segments.get(i).isPlaceholder()
+                && (!endsWithSlash(segments, i - 1) || !startsWithSlash(segments, i + 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean endsWithSlash(List<PathSegment> segments, int index) {
+        return index >= 0 && !segments.get(index).isPlaceholder() && segments.get(index).getValue().endsWith("/");
+    }
+
+    private boolean startsWithSlash(List<PathSegment> segments, int index) {
+        return index >= segments.size()
+            || (!segments.get(index).isPlaceholder() && segments.get(index).getValue().startsWith("/"));
+    }
+
+    static com.squareup.javapoet.ClassName toClassName(ClassName className) {
+        return com.squareup.javapoet.ClassName.get(className.packageName(), className.className());
+    }
+}
@@ -0,0 +1,129 @@
+package fr.vidal.oss.jax_rs_linker;
+
+import com.google.testing.compile.Compilation;
+import com.sun.management.ThreadMXBean;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static com.google.common.io.ByteStreams.toByteArray;
+import static com.google.testing.compile.Compiler.javac;
+import static com.google.testing.compile.JavaFileObjects.forResource;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Bytes allocated per call of typical generated linkers, once warmed up: the least of several rounds is kept,
+ * so that a JIT compilation happening in the middle of a round does not count.
+ * Budgets leave about 10% of headroom: lower them whenever the link path allocates less.
+ * Link sets only allocate what they return, i.e. their buffer, its ends and the resulting string.
+ */
+public class AllocationBudgetTest {
+
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final int WARM_UP_CALLS = 50_000;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int MEASURED_CALLS = 10_000;
+
+    private static ClassLoader linkers;
+    private static volatile Object sink;
+
+    @BeforeClass
+    public static void compile_linkers() {
+        Compilation compilation = javac()
+            .withProcessors(new LinkerAnnotationProcessor(), new ExposedApplicationAnnotationProcessor())
+            .compile(
+                forResource("Configuration.java"),
+                forResource("ProductResource.java"),
+                forResource("BrandResource.java"),
+                forResource("PersonResource.java"),
+                forResource("allocation_budget/LinkCalls.java"));
+        assertThat(compilation.status()).isEqualTo(Compilation.Status.SUCCESS);
+        linkers = new GeneratedClassLoader(compilation);
+    }
+
+    @Test
+    public void self_link() throws Exception {
+        assertThat(allocatedBytesPerCall("ProductSelf")).isLessThanOrEqualTo(5_120);
+    }
+
+    @Test
+    public void self_link_with_query_parameter() throws Exception {
+        assertThat(allocatedBytesPerCall("PersonSelfWithQuery")).isLessThanOrEqualTo(6_144);
+    }
+
+    @Test
+    public void related_link_with_regex_parameter() throws Exception {
+        assertThat(allocatedBytesPerCall("PersonRelatedWithRegex")).isLessThanOrEqualTo(5_632);
+    }
+
+    @Test
+    public void link_set() throws Exception {
+        assertThat(allocatedBytesPerCall("ProductLinks")).isLessThanOrEqualTo(320);
+    }
+
+    @Test
+    public void link_set_with_several_parameters() throws Exception {
+        assertThat(allocatedBytesPerCall("PersonLinks")).isLessThanOrEqualTo(640);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long allocatedBytesPerCall(String call) throws Exception {
+        assumeTrue(THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled());
+        Supplier<Object> supplier = (Supplier<Object>) linkers
+            .loadClass("fr.vidal.oss.jax_rs_linker.parser.LinkCalls$" + call)
+            .newInstance();
+        for (int i = 0; i < WARM_UP_CALLS; i++) {
+            sink = supplier.get();
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytesPerCall = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long before = THREADS.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURED_CALLS; i++) {
+                sink = supplier.get();
+            }
+            bytesPerCall = Math.min(bytesPerCall, (THREADS.getThreadAllocatedBytes(threadId) - before) / MEASURED_CALLS);
+        }
+        return bytesPerCall;
+    }
+
+    private static class GeneratedClassLoader extends ClassLoader {
+
+        private static final String CLASS_OUTPUT = "/CLASS_OUTPUT/";
+
+        private final Map<String, JavaFileObject> classFiles = new HashMap<>();
+
+        GeneratedClassLoader(Compilation compilation) {
+            super(AllocationBudgetTest.class.getClassLoader());
+            for (JavaFileObject file : compilation.generatedFiles()) {
+                String path = file.toUri().getPath();
+                if (file.getKind() == JavaFileObject.Kind.CLASS && path.startsWith(CLASS_OUTPUT)) {
+                    String className = path.substring(CLASS_OUTPUT.length(), path.length() - ".class".length()).replace('/', '.');
+                    classFiles.put(className, file);
+                }
+            }
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            JavaFileObject file = classFiles.get(name);
+            if (file == null) {
+                throw new ClassNotFoundException(name);
+            }
+            try (InputStream input = file.openInputStream()) {
+                byte[] bytes = toByteArray(input);
+                return defineClass(name, bytes, 0, bytes.length);
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package fr.vidal.oss.jax_rs_linker;
 
+import static com.google.common.truth.Truth.assertThat;
 import static com.google.common.truth.Truth.assert_;
+import static com.google.testing.compile.Compiler.javac;
 import static com.google.testing.compile.JavaFileObjects.forResource;
 import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
 import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
 import static java.lang.System.lineSeparator;
 
+import javax.tools.Diagnostic;
 import javax.tools.JavaFileObject;
+import java.util.Locale;
 import org.junit.Rule;
 import org.junit.Test;
 import com.google.common.collect.ImmutableList;
+import com.google.testing.compile.Compilation;
 import com.google.testing.compile.CompilationRule;
 
 public class LinkerAnnotationProcessorTest {
@@ -44,6 +49,128 @@ public class LinkerAnnotationProcessorTest {
             );
     }
 
+    @Test
+    public void generates_router_when_enabled() {
+        assert_().about(javaSources())
+            .that(ImmutableList.of(
+                forResource("Configuration.java"),
+                forResource("ProductResource.java"),
+                forResource("BrandResource.java"),
+                forResource("PersonResource.java")
+            ))
+            .withCompilerOptions("-Arouter")
+            .processedWith(processor, applicationNameProcessor)
+            .compilesWithoutError()
+            .and()
+            .generatesSources(forResource("router/Routes.java"));
+    }
+
+    @Test
+    public void generates_application_wide_sources_before_the_last_round() {
+        Compilation compilation = javac()
+            .withProcessors(processor, applicationNameProcessor)
+            .withOptions("-AlinkHeaders", "-Aexpand", "-Abatch")
+            .compile(
+                forResource("Configuration.java"),
+                forResource("ProductResource.java"),
+                forResource("BrandResource.java"),
+                forResource("PersonResource.java")
+            );
+
+        assertThat(compilation.status()).isEqualTo(Compilation.Status.SUCCESS);
+        for (Diagnostic<? extends JavaFileObject> warning : compilation.warnings()) {
+            assertThat(warning.getMessage(Locale.ROOT)).doesNotContain("created in the last round");
+        }
+    }
+
+    @Test
+    public void generates_link_header_filter_when_enabled() {
+        assert_().about(javaSources())
+            .that(ImmutableList.of(
+                forResource("Configuration.java"),
+                forResource("ProductResource.java"),
+                forResource("BrandResource.java"),
+                forResource("PersonResource.java")
+            ))
+            .withCompilerOptions("-AlinkHeaders")
+            .processedWith(processor, applicationNameProcessor)
+            .compilesWithoutError()
+            .and()
+            .generatesSources(
+                forResource("router/Routes.java"),
+                forResource("link_headers/LinkHeaderFilter.java")
+            );
+    }
+
+    @Test
+    public void hints_sub_resource_links_in_link_header() {
+        assert_().about(javaSources())
+            .that(ImmutableList.of(
+                forResource("Configuration.java"),
+                forResource("link_headers/HintedProductResource.java")
+            ))
+            .withCompilerOptions("-AlinkHeaders")
+            .processedWith(processor, applicationNameProcessor)
+            .compilesWithoutError()
+            .and()
+            .generatesSources(forResource("link_headers/HintedLinkHeaderFilter.java"));
+    }
+
+    @Test
+    public void does_not_compile_when_hinted_relation_is_not_a_sub_resource() {
+        JavaFileObject resource = forResource("link_headers/MishintedProductResource.java");
+
+        assert_().about(javaSources())
+            .that(ImmutableList.of(
+                forResource("Configuration.java"),
+                resource
+            ))
+            .withCompilerOptions("-AlinkHeaders")
+            .processedWith(processor, applicationNameProcessor)
+            .failsToCompile()
+            .withErrorContaining(
+                "\n  \t@LinkHints refers to <self>, which is not a sub-resource relation of the resource." +
+                "\n  \tGiven class: <link_headers.MishintedProductResource>"
+            )
+            .in(resource);
+    }
+
+    @Test
+    public void generates_expansion_filter_when_enabled() {
+        assert_().about(javaSources())
+            .that(ImmutableList.of(
+                forResource("Configuration.java"),
+                forResource("entity_binding/Order.java"),
+                forResource("entity_binding/OrderResource.java")
+            ))
+            .withCompilerOptions("-Aexpand")
+            .processedWith(processor, applicationNameProcessor)
+            .compilesWithoutError()
+            .and()
+            .generatesSources(
+                forResource("expansion/Routes.java"),
+                forResource("expansion/LinkExpansionFilter.java")
+            );
+    }
+
+    @Test
+    public void generates_batch_resource_when_enabled() {
+        assert_().about(javaSources())
+            .that(ImmutableList.of(
+                forResource("Configuration.java"),
+                forResource("entity_binding/Order.java"),
+                forResource("entity_binding/OrderResource.java")
+            ))
+            .withCompilerOptions("-Abatch")
+            .processedWith(processor, applicationNameProcessor)
+            .compilesWithoutError()
+            .and()
+            .generatesSources(
+                forResource("expansion/Routes.java"),
+                forResource("batch/LinkBatchResource.java")
+            );
+    }
+
     @Test
     public void generates_linker_without_path_parameters() throws Exception {
         assert_().about(javaSources())
@@ -180,4 +307,106 @@ public class LinkerAnnotationProcessorTest {
             .withErrorContaining("The following classes need exactly 1 method annotated with @Self annotation:" + lineSeparator() +
                 "  \t - subresource_without_self.SelflessResource");
     }
+
+    @Test
+    public void generates_entity_links_from_linked_entity_accessors() {
+        assert_().about(javaSources())
+            .that(ImmutableList.of(
+                forResource("Configuration.java"),
+                forResource("entity_binding/Order.java"),
+                forResource("entity_binding/OrderResource.java")
+            ))
+            .processedWith(processor, applicationNameProcessor)
+            .compilesWithoutError()
+            .and()
+            .generatesSources(
+                forResource("entity_binding/OrderResourceLinker.java")
+            );
+    }
+
+    @Test
+    public void generates_client_links_when_enabled() {
+        assert_().about(javaSources())
+            .that(ImmutableList.of(
+                forResource("Configuration.java"),
+                forResource("entity_binding/Order.java"),
+                forResource("entity_binding/OrderResource.java")
+            ))
+            .withCompilerOptions("-AclientLinks")
+            .processedWith(processor, applicationNameProcessor)
+            .compilesWithoutError()
+            .and()
+            .generatesSources(
+                forResource("client_links/OrderResourceClientLinks.java")
+            );
+    }
+
+    @Test
+    public void does_not_compile_when_linked_entity_path_parameter_is_unbound() {
+        JavaFileObject resource = forResource("entity_binding/UnboundOrderResource.java");
+
+        assert_().about(javaSources())
+            .that(ImmutableList.of(
+                forResource("Configuration.java"),
+                forResource("entity_binding/Order.java"),
+                resource
+            ))
+            .processedWith(processor, applicationNameProcessor)
+            .failsToCompile()
+            .withErrorContaining(
+                "\n  \tNo public no-arg accessor <getReference|isReference|reference> could be found on <entity_binding.Order> for parameter <reference>." +
+                "\n  \tPlease declare it or bind the parameter with @LinkedEntity bindings." +
+                "\n  \tGiven class: <entity_binding.UnboundOrderResource>"
+            )
+            .in(resource);
+    }
+
+    @Test
+    public void generates_link_tables_for_enum_path_parameters() {
+        assert_().about(javaSources())
+            .that(ImmutableList.of(
+                forResource("Configuration.java"),
+                forResource("enum_parameters/Region.java"),
+                forResource("enum_parameters/CatalogResource.java")
+            ))
+            .processedWith(processor, applicationNameProcessor)
+            .compilesWithoutError()
+            .and()
+            .generatesSources(
+                forResource("enum_parameters/CatalogResourceLinker.java")
+            );
+    }
+
+    @Test
+    public void is_isolating_for_gradle_when_only_generating_per_resource_types() {
+        assert_().about(javaSources())
+            .that(ImmutableList.of(
+                forResource("Configuration.java"),
+                forResource("entity_binding/Order.java"),
+                forResource("entity_binding/OrderResource.java")
+            ))
+            .withCompilerOptions("-AclientLinks")
+            .processedWith(processor, applicationNameProcessor)
+            .compilesWithoutError();
+
+        assertThat(processor.getSupportedOptions())
+            .contains("org.gradle.annotation.processing.isolating");
+    }
+
+    @Test
+    public void is_aggregating_for_gradle_when_generating_application_wide_files() {
+        assert_().about(javaSources())
+            .that(ImmutableList.of(
+                forResource("Configuration.java"),
+                forResource("ProductResource.java"),
+                forResource("BrandResource.java"),
+                forResource("PersonResource.java")
+            ))
+            .withCompilerOptions("-Arouter")
+            .processedWith(processor, applicationNameProcessor)
+            .compilesWithoutError();
+
+        assertThat(processor.getSupportedOptions())
+            .contains("org.gradle.annotation.processing.aggregating");
+    }
 }
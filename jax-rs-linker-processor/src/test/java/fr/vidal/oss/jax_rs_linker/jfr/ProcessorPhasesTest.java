@@ -0,0 +1,64 @@
+package fr.vidal.oss.jax_rs_linker.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProcessorPhasesTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ProcessorPhases phases = new ProcessorPhases();
+
+    @Test
+    public void records_phases_with_their_round() throws Exception {
+        Path file = folder.newFile().toPath();
+        String result;
+        try (Recording recording = new Recording()) {
+            recording.enable("fr.vidal.oss.jax_rs_linker.ProcessorPhase");
+            recording.start();
+            phases.nextRound();
+            phases.nextRound();
+            result = phases.record("parse", () -> "parsed");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertThat(result).isEqualTo("parsed");
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("phase")).isEqualTo("parse");
+        assertThat(events.get(0).getInt("round")).isEqualTo(2);
+    }
+
+    @Test
+    public void notifies_listener_around_phases() {
+        List<String> notifications = new ArrayList<>();
+        ProcessorPhases phases = new ProcessorPhases(new ProcessorPhases.Listener() {
+            @Override
+            public void started(String phase, int round) {
+                notifications.add("started " + phase + " #" + round);
+            }
+
+            @Override
+            public void finished(String phase, int round) {
+                notifications.add("finished " + phase + " #" + round);
+            }
+        });
+
+        phases.nextRound();
+        phases.record("validate", () -> notifications.add("validating"));
+
+        assertThat(notifications).containsExactly("started validate #1", "validating", "finished validate #1");
+    }
+}
@@ -0,0 +1,12 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.Test;
+
+public class MethodInvocationTest {
+
+    @Test
+    public void equals_contract() {
+        EqualsVerifier.forClass(MethodInvocation.class).verify();
+    }
+}
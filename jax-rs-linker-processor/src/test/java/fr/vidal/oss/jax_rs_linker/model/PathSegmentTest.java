@@ -0,0 +1,24 @@
+package fr.vidal.oss.jax_rs_linker.model;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PathSegmentTest {
+
+    @Test
+    public void renders_placeholder_within_braces() {
+        assertThat(PathSegment.placeholder("id").toString()).isEqualTo("{id}");
+    }
+
+    @Test
+    public void renders_literal_as_is() {
+        assertThat(PathSegment.literal("/product/").toString()).isEqualTo("/product/");
+    }
+
+    @Test
+    public void equals_contract() {
+        EqualsVerifier.forClass(PathSegment.class).verify();
+    }
+}
@@ -10,8 +10,11 @@ import java.util.Set;
 import java.util.function.Function;
 
 import static com.google.common.collect.Sets.newHashSet;
+import static fr.vidal.oss.jax_rs_linker.model.PathSegment.literal;
+import static fr.vidal.oss.jax_rs_linker.model.PathSegment.placeholder;
 import static fr.vidal.oss.jax_rs_linker.parser.ApiPaths.decorate;
 import static fr.vidal.oss.jax_rs_linker.parser.ApiPaths.sanitize;
+import static fr.vidal.oss.jax_rs_linker.parser.ApiPaths.segments;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class ApiPathsTest {
@@ -107,6 +110,29 @@ public class ApiPathsTest {
                 .contains(Optional.empty(), Optional.of("[1-9]"), Optional.empty());
     }
 
+    @Test
+    public void splits_path_into_literals_and_placeholders() {
+        assertThat(segments("/product/{id}/brand/{code}"))
+            .containsExactly(
+                literal("/product/"),
+                placeholder("id"),
+                literal("/brand/"),
+                placeholder("code")
+            );
+    }
+
+    @Test
+    public void splits_parameterless_path_into_single_literal() {
+        assertThat(segments("/api/boring/path"))
+            .containsExactly(literal("/api/boring/path"));
+    }
+
+    @Test
+    public void splits_adjacent_placeholders() {
+        assertThat(segments("{first}{second}.json"))
+            .containsExactly(placeholder("first"), placeholder("second"), literal(".json"));
+    }
+
     private Function<PathParameter, Optional<String>> patternToOptionalOfString() {
         return pathParameter -> pathParameter.getRegex().isPresent()?
                 Optional.of(pathParameter.getRegex().get().pattern()):
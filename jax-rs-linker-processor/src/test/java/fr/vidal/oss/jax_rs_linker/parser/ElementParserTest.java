@@ -85,10 +85,10 @@ public class ElementParserTest {
         assertThat(api.getApiQuery().getQueryParameters())
             .hasSize(4)
             .containsExactly(
-                new QueryParameter("is-applicable"),
-                new QueryParameter("start-page"),
-                new QueryParameter("page-size"),
-                new QueryParameter("haters-gonna-hate")
+                new QueryParameter(ClassName.valueOf("boolean"), "is-applicable"),
+                new QueryParameter(ClassName.valueOf("int"), "start-page", "1"),
+                new QueryParameter(ClassName.valueOf("int"), "page-size", "25"),
+                new QueryParameter(ClassName.valueOf("java.lang.String"), "haters-gonna-hate")
             );
     }
 
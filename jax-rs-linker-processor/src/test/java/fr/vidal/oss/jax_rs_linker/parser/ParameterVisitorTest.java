@@ -12,6 +12,7 @@ import javax.lang.model.util.Elements;
 import javax.ws.rs.PathParam;
 import java.util.Collection;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static fr.vidal.oss.jax_rs_linker.functions.ElementToPathParameter.ELEMENT_INTO_PATH_PARAMETER;
 import static fr.vidal.oss.jax_rs_linker.functions.SetterToPathParameter.SETTER_TO_PATH_PARAMETER;
@@ -49,6 +50,36 @@ public class ParameterVisitorTest {
 
     }
 
+    @Test
+    public void expands_bean_parameters_once_per_round() {
+        TypeElement resource = elements.getTypeElement("parameter_visitor.StupidResource");
+        Element method = extract(resource, "doSomething");
+        AtomicInteger mappedElements = new AtomicInteger();
+        ParameterVisitor<PathParameter> visitor = new ParameterVisitor<>(
+            compilation.getTypes(),
+            new AnnotatedElementMapping<>(
+                PathParam.class,
+                element -> {
+                    mappedElements.incrementAndGet();
+                    return ELEMENT_INTO_PATH_PARAMETER.apply(element);
+                },
+                setter -> {
+                    mappedElements.incrementAndGet();
+                    return SETTER_TO_PATH_PARAMETER.apply(setter);
+                }
+            )
+        );
+
+        Collection<PathParameter> parameters = visitor.visit(method);
+
+        assertThat(visitor.visit(method)).isEqualTo(parameters);
+        assertThat(mappedElements).hasValue(3);
+
+        visitor.nextRound();
+        assertThat(visitor.visit(method)).isEqualTo(parameters);
+        assertThat(mappedElements).hasValue(6);
+    }
+
     private Element extract(TypeElement resource, String methodName) {
         for (Element element : elements.getAllMembers(resource)) {
             if (element.getSimpleName().contentEquals(methodName)) {
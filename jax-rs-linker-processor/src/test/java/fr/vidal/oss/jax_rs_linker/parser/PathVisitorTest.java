@@ -6,8 +6,13 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.util.Types;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class PathVisitorTest {
 
@@ -83,4 +88,20 @@ public class PathVisitorTest {
         assertThat(visitor.visitPath(method).get()).isEqualTo("super-path");
     }
 
+    @Test
+    public void walks_superclasses_once_per_round() {
+        Types types = spy(compilationRule.getTypes());
+        PathVisitor visitor = new PathVisitor(types);
+        ExecutableElement inheritedMethod = methodElements.of(InheritedCompoundPathClass.class.getName(), "bar");
+        ExecutableElement superclassMethod = methodElements.of(CompoundPathClass.class.getName(), "something");
+
+        assertThat(visitor.visitPath(inheritedMethod).get()).isEqualTo("/compound/and-inherited/path-for-the-win");
+        assertThat(visitor.visitPath(superclassMethod).get()).isEqualTo("/compound/path");
+        assertThat(visitor.visitPath(inheritedMethod).get()).isEqualTo("/compound/and-inherited/path-for-the-win");
+        verify(types, times(2)).asElement(any());
+
+        visitor.nextRound();
+        assertThat(visitor.visitPath(superclassMethod).get()).isEqualTo("/compound/path");
+        verify(types, times(3)).asElement(any());
+    }
 }
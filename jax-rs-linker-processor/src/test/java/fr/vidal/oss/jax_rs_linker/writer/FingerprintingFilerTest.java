@@ -0,0 +1,140 @@
+package fr.vidal.oss.jax_rs_linker.writer;
+
+import com.google.common.hash.Hashing;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.TypeElement;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+import static javax.tools.StandardLocation.SOURCE_OUTPUT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FingerprintingFilerTest {
+
+    private static final String LINKER = "com.acme.FooLinker";
+    private static final String SOURCE = "package com.acme;\n\npublic final class FooLinker {}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Filer filer = mock(Filer.class);
+    private final StringWriter writtenSource = new StringWriter();
+    private final TypeElement resource = mock(TypeElement.class);
+    private Path index;
+
+    @Before
+    public void prepare() throws IOException {
+        index = folder.getRoot().toPath().resolve("build/jax-rs-linker.fingerprints");
+        JavaFileObject sourceFile = mock(JavaFileObject.class);
+        when(sourceFile.openWriter()).thenReturn(writtenSource);
+        when(filer.createSourceFile(anyString(), any())).thenReturn(sourceFile);
+    }
+
+    @Test
+    public void writes_new_sources_and_saves_their_fingerprints() throws IOException {
+        FingerprintingFiler fingerprintingFiler = FingerprintingFiler.load(filer, index);
+
+        generate(fingerprintingFiler);
+        fingerprintingFiler.save();
+
+        verify(filer).createSourceFile(LINKER, resource);
+        assertThat(writtenSource.toString()).isEqualTo(SOURCE);
+        assertThat(new String(Files.readAllBytes(index), UTF_8)).isEqualTo(LINKER + "=" + fingerprint(SOURCE) + "\n");
+    }
+
+    @Test
+    public void skips_unchanged_sources_still_generated() throws IOException {
+        saveIndex(LINKER + "=" + fingerprint(SOURCE));
+        generatedFilesExist(true);
+        FingerprintingFiler fingerprintingFiler = FingerprintingFiler.load(filer, index);
+
+        generate(fingerprintingFiler);
+
+        verify(filer, never()).createSourceFile(anyString(), any());
+        assertThat(fingerprintingFiler.skipped()).isEqualTo(1);
+    }
+
+    @Test
+    public void rewrites_unchanged_sources_whose_files_are_gone() throws IOException {
+        saveIndex(LINKER + "=" + fingerprint(SOURCE));
+        generatedFilesExist(false);
+        FingerprintingFiler fingerprintingFiler = FingerprintingFiler.load(filer, index);
+
+        generate(fingerprintingFiler);
+
+        assertThat(writtenSource.toString()).isEqualTo(SOURCE);
+        assertThat(fingerprintingFiler.skipped()).isZero();
+    }
+
+    @Test
+    public void rewrites_changed_sources() throws IOException {
+        saveIndex(LINKER + "=" + fingerprint("package com.acme;\n\nfinal class FooLinker {}\n"));
+        generatedFilesExist(true);
+        FingerprintingFiler fingerprintingFiler = FingerprintingFiler.load(filer, index);
+
+        generate(fingerprintingFiler);
+
+        assertThat(writtenSource.toString()).isEqualTo(SOURCE);
+        assertThat(fingerprintingFiler.skipped()).isZero();
+    }
+
+    @Test
+    public void drops_fingerprints_of_sources_not_generated_again() throws IOException {
+        saveIndex("com.acme.BarLinker=cafe\n" + LINKER + "=" + fingerprint(SOURCE));
+        generatedFilesExist(true);
+        FingerprintingFiler fingerprintingFiler = FingerprintingFiler.load(filer, index);
+
+        generate(fingerprintingFiler);
+        fingerprintingFiler.save();
+
+        assertThat(fingerprintingFiler.skipped()).isEqualTo(1);
+        assertThat(new String(Files.readAllBytes(index), UTF_8)).isEqualTo(LINKER + "=" + fingerprint(SOURCE) + "\n");
+    }
+
+    private void generate(Filer fingerprintingFiler) throws IOException {
+        try (Writer writer = fingerprintingFiler.createSourceFile(LINKER, resource).openWriter()) {
+            writer.write(SOURCE);
+        }
+    }
+
+    private void saveIndex(String content) throws IOException {
+        Files.createDirectories(index.getParent());
+        Files.write(index, content.getBytes(UTF_8));
+    }
+
+    private void generatedFilesExist(boolean exist) throws IOException {
+        FileObject file = mock(FileObject.class);
+        if (exist) {
+            when(file.openInputStream()).thenReturn(new ByteArrayInputStream(new byte[0]));
+        } else {
+            when(file.openInputStream()).thenThrow(new FileNotFoundException());
+        }
+        when(filer.getResource(eq(SOURCE_OUTPUT), eq("com.acme"), eq("FooLinker.java"))).thenReturn(file);
+        when(filer.getResource(eq(CLASS_OUTPUT), eq("com.acme"), eq("FooLinker.class"))).thenReturn(file);
+    }
+
+    private static String fingerprint(String source) {
+        return Hashing.sha256().hashString(source, UTF_8).toString();
+    }
+}
@@ -3,11 +3,15 @@ package fr.vidal.oss.jax_rs_linker.parser;
 
 import fr.vidal.oss.jax_rs_linker.ContextPathHolder;
 import fr.vidal.oss.jax_rs_linker.api.NoQueryParameters;
+import fr.vidal.oss.jax_rs_linker.metrics.LinkerMetricsHolder;
 import fr.vidal.oss.jax_rs_linker.model.ClassName;
+import fr.vidal.oss.jax_rs_linker.model.LinkSet;
 import fr.vidal.oss.jax_rs_linker.model.PathParameter;
 import fr.vidal.oss.jax_rs_linker.model.QueryParameter;
 import fr.vidal.oss.jax_rs_linker.model.TemplatedUrl;
 import java.lang.String;
+import java.lang.StringBuilder;
+import java.lang.System;
 import java.util.Arrays;
 import javax.annotation.Generated;
 
@@ -15,6 +19,8 @@ import javax.annotation.Generated;
 public enum  BrandResourceLinker {
     INSTANCE;
 
+    private static final String[] LINK_RELATIONS = {"self", "brandResource", "brandResourceZip"};
+
     private final String contextPath = ContextPathHolder.getContextPath();
 
     public static BrandResourceLinker brandResourceLinker() {
@@ -33,6 +39,19 @@ public enum  BrandResourceLinker {
         return new TemplatedUrl<BrandResourcePathParameters, NoQueryParameters>(contextPath + "/brand/{zip}", Arrays.<PathParameter>asList(pathParameter("int", "zip")), Arrays.<QueryParameter>asList());
     }
 
+    public final LinkSet links(int id, int code, int zip) {
+        long renderStart = LinkerMetricsHolder.ENABLED ? System.nanoTime() : 0L;
+        StringBuilder linkBuffer = new StringBuilder(contextPath.length() * 3 + 69);
+        int[] linkEnds = new int[3];
+        linkEnds[0] = linkBuffer.append(contextPath).append("/brand/").append(id).length();
+        linkEnds[1] = linkBuffer.append(contextPath).append("/brand/").append(code).length();
+        linkEnds[2] = linkBuffer.append(contextPath).append("/brand/").append(zip).length();
+        if (LinkerMetricsHolder.ENABLED) {
+            LinkerMetricsHolder.METRICS.rendered("fr.vidal.oss.jax_rs_linker.parser.BrandResource#links", 3, System.nanoTime() - renderStart, linkBuffer);
+        }
+        return new LinkSet(LINK_RELATIONS, linkBuffer.toString(), linkEnds);
+    }
+
     private static PathParameter pathParameter(final String type, final String name) {
         return new PathParameter(ClassName.valueOf(type), name);
     }
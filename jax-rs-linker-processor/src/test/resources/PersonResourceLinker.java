@@ -3,11 +3,16 @@ package fr.vidal.oss.jax_rs_linker.parser;
 
 import fr.vidal.oss.jax_rs_linker.ContextPathHolder;
 import fr.vidal.oss.jax_rs_linker.api.NoQueryParameters;
+import fr.vidal.oss.jax_rs_linker.base.Preconditions;
+import fr.vidal.oss.jax_rs_linker.metrics.LinkerMetricsHolder;
 import fr.vidal.oss.jax_rs_linker.model.ClassName;
+import fr.vidal.oss.jax_rs_linker.model.LinkSet;
 import fr.vidal.oss.jax_rs_linker.model.PathParameter;
 import fr.vidal.oss.jax_rs_linker.model.QueryParameter;
 import fr.vidal.oss.jax_rs_linker.model.TemplatedUrl;
 import java.lang.String;
+import java.lang.StringBuilder;
+import java.lang.System;
 import java.util.Arrays;
 import javax.annotation.Generated;
 
@@ -15,6 +20,8 @@ import javax.annotation.Generated;
 public enum PersonResourceLinker {
     INSTANCE;
 
+    private static final String[] LINK_RELATIONS = {"self", "personResource"};
+
     private final String contextPath = ContextPathHolder.getContextPath();
 
     public static PersonResourceLinker personResourceLinker() {
@@ -29,6 +36,19 @@ public enum PersonResourceLinker {
         return new TemplatedUrl<PersonResourcePathParameters, NoQueryParameters>(contextPath + "/person/name/{firstName}", Arrays.<PathParameter>asList(pathParameter("java.lang.String", "firstName")), Arrays.<QueryParameter>asList());
     }
 
+    public final LinkSet links(int id, String firstName) {
+        long renderStart = LinkerMetricsHolder.ENABLED ? System.nanoTime() : 0L;
+        Preconditions.checkParameterValue("fr.vidal.oss.jax_rs_linker.parser.PersonResource#links", PersonResourcePathParameters.FIRST_NAME.regex(), firstName);
+        StringBuilder linkBuffer = new StringBuilder(contextPath.length() * 2 + 53);
+        int[] linkEnds = new int[2];
+        linkEnds[0] = linkBuffer.append(contextPath).append("/person/").append(id).length();
+        linkEnds[1] = linkBuffer.append(contextPath).append("/person/name/").append(firstName).length();
+        if (LinkerMetricsHolder.ENABLED) {
+            LinkerMetricsHolder.METRICS.rendered("fr.vidal.oss.jax_rs_linker.parser.PersonResource#links", 2, System.nanoTime() - renderStart, linkBuffer);
+        }
+        return new LinkSet(LINK_RELATIONS, linkBuffer.toString(), linkEnds);
+    }
+
     private static PathParameter pathParameter(final String type, final String name) {
         return new PathParameter(ClassName.valueOf(type), name);
     }
@@ -0,0 +1,47 @@
+package fr.vidal.oss.jax_rs_linker.parser;
+
+import java.util.function.Supplier;
+
+import static fr.vidal.oss.jax_rs_linker.parser.PersonResourceLinker.personResourceLinker;
+import static fr.vidal.oss.jax_rs_linker.parser.ProductResourceLinker.productResourceLinker;
+
+public final class LinkCalls {
+
+    public static final class ProductSelf implements Supplier<Object> {
+        @Override
+        public Object get() {
+            return productResourceLinker().self().replace(ProductResourcePathParameters.ID, "42").value();
+        }
+    }
+
+    public static final class PersonSelfWithQuery implements Supplier<Object> {
+        @Override
+        public Object get() {
+            return personResourceLinker().self()
+                .replace(PersonResourcePathParameters.ID, "42")
+                .append(PersonResourceQueryParameters.ALIVE_FLAG, "true")
+                .value();
+        }
+    }
+
+    public static final class PersonRelatedWithRegex implements Supplier<Object> {
+        @Override
+        public Object get() {
+            return personResourceLinker().relatedPersonResource().replace(PersonResourcePathParameters.FIRST_NAME, "Ada").value();
+        }
+    }
+
+    public static final class ProductLinks implements Supplier<Object> {
+        @Override
+        public Object get() {
+            return productResourceLinker().links(42);
+        }
+    }
+
+    public static final class PersonLinks implements Supplier<Object> {
+        @Override
+        public Object get() {
+            return personResourceLinker().links(42, "Ada");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package fr.vidal.oss.jax_rs_linker;
+
+import fr.vidal.oss.jax_rs_linker.invocation.BatchResolver;
+import fr.vidal.oss.jax_rs_linker.invocation.BatchResult;
+import fr.vidal.oss.jax_rs_linker.invocation.InvocationExecutors;
+import java.lang.Integer;
+import java.lang.Object;
+import java.lang.String;
+import java.lang.Throwable;
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import javax.annotation.Generated;
+import javax.annotation.PreDestroy;
+import javax.inject.Singleton;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.InternalServerErrorException;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.ResourceContext;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Providers;
+
+@Path("batch")
+@Singleton
+@Generated("fr.vidal.oss.jax_rs_linker.LinkerAnnotationProcessor")
+public final class LinkBatchResource {
+    public static final String MAX_SIZE_PROPERTY = "jax-rs-linker.batch.max-size";
+
+    public static final String EXECUTOR_PROPERTY = "jax-rs-linker.batch.executor";
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    @Context
+    private ResourceContext resources;
+
+    @Context
+    private Configuration configuration;
+
+    @Context
+    private Providers providers;
+
+    private ExecutorService ownExecutor;
+
+    @POST
+    @Consumes("text/uri-list")
+    @Produces(MediaType.APPLICATION_JSON)
+    public StreamingOutput resolve(String uriList) {
+        List<String> links = BatchResolver.uriList(uriList);
+        Object maxSize = configuration.getProperty(MAX_SIZE_PROPERTY);
+        if (links.size() > (maxSize == null ? 500 : Integer.parseInt(maxSize.toString()))) {
+            throw new WebApplicationException(Response.Status.REQUEST_ENTITY_TOO_LARGE);
+        }
+        BatchResolver resolver = new BatchResolver(Routes.INSTANCE, executor(), LinkBatchResource::status);
+        MessageBodyWriter<BatchResult> writer = providers.getMessageBodyWriter(BatchResult.class, BatchResult.class, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE);
+        if (writer == null) {
+            throw new InternalServerErrorException("No JSON writer of batch results");
+        }
+        String contextPath = ContextPathHolder.getContextPath();
+        return output -> resolver.resolve(links, resources::getResource, contextPath, output,
+                (result, element) -> writer.writeTo(result, BatchResult.class, BatchResult.class, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(), element));
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (ownExecutor != null) {
+            ownExecutor.shutdown();
+        }
+    }
+
+    private synchronized Executor executor() {
+        Object executor = configuration.getProperty(EXECUTOR_PROPERTY);
+        if (executor instanceof Executor) {
+            return (Executor) executor;
+        }
+        if (ownExecutor == null) {
+            ownExecutor = InvocationExecutors.bounded("jax-rs-linker-batch");
+        }
+        return ownExecutor;
+    }
+
+    private static int status(Throwable failure) {
+        if (failure instanceof WebApplicationException) {
+            return ((WebApplicationException) failure).getResponse().getStatus();
+        }
+        if (failure instanceof RejectedExecutionException) {
+            return Response.Status.SERVICE_UNAVAILABLE.getStatusCode();
+        }
+        return Response.Status.INTERNAL_SERVER_ERROR.getStatusCode();
+    }
+}
@@ -0,0 +1,56 @@
+package entity_binding;
+
+import fr.vidal.oss.jax_rs_linker.model.UriComponents;
+import java.lang.Boolean;
+import java.lang.String;
+import java.lang.StringBuilder;
+import java.net.URI;
+import java.util.List;
+import javax.annotation.Generated;
+
+@Generated("fr.vidal.oss.jax_rs_linker.LinkerAnnotationProcessor")
+public final class OrderResourceClientLinks {
+    private final String baseUrl;
+
+    public OrderResourceClientLinks(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    public final String self(int id) {
+        StringBuilder linkBuffer = new StringBuilder(this.baseUrl.length() + 23).append(this.baseUrl);
+        linkBuffer.append("/order/");
+        UriComponents.appendPathSegment(linkBuffer, String.valueOf(id));
+        return linkBuffer.toString();
+    }
+
+    public final URI selfUri(int id) {
+        return URI.create(self(id));
+    }
+
+    public final String relatedOrderResourceLines(int id, String status, List<String> tag, Boolean urgent) {
+        StringBuilder linkBuffer = new StringBuilder(this.baseUrl.length() + 77).append(this.baseUrl);
+        linkBuffer.append("/order/");
+        UriComponents.appendPathSegment(linkBuffer, String.valueOf(id));
+        linkBuffer.append("/lines");
+        char querySeparator = '?';
+        querySeparator = UriComponents.appendQueryParameter(linkBuffer, querySeparator, "status", status);
+        querySeparator = UriComponents.appendQueryParameter(linkBuffer, querySeparator, "tag", tag);
+        querySeparator = UriComponents.appendQueryParameter(linkBuffer, querySeparator, "urgent", urgent);
+        return linkBuffer.toString();
+    }
+
+    public final URI relatedOrderResourceLinesUri(int id, String status, List<String> tag, Boolean urgent) {
+        return URI.create(relatedOrderResourceLines(id, status, tag, urgent));
+    }
+
+    public final String relatedOrderResourceCustomer(String customerId) {
+        StringBuilder linkBuffer = new StringBuilder(this.baseUrl.length() + 32).append(this.baseUrl);
+        linkBuffer.append("/order/customer/");
+        UriComponents.appendPathSegment(linkBuffer, customerId);
+        return linkBuffer.toString();
+    }
+
+    public final URI relatedOrderResourceCustomerUri(String customerId) {
+        return URI.create(relatedOrderResourceCustomer(customerId));
+    }
+}
@@ -0,0 +1,40 @@
+package entity_binding;
+
+import java.util.List;
+
+public class Order {
+
+    private final Integer id;
+    private final String customer;
+    private final String status;
+    private final boolean urgent;
+    private final List<String> tags;
+
+    public Order(Integer id, String customer, String status, boolean urgent, List<String> tags) {
+        this.id = id;
+        this.customer = customer;
+        this.status = status;
+        this.urgent = urgent;
+        this.tags = tags;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String customer() {
+        return customer;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public boolean isUrgent() {
+        return urgent;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+}
@@ -0,0 +1,45 @@
+package entity_binding;
+
+import fr.vidal.oss.jax_rs_linker.api.Binding;
+import fr.vidal.oss.jax_rs_linker.api.LinkedEntity;
+import fr.vidal.oss.jax_rs_linker.api.Self;
+import fr.vidal.oss.jax_rs_linker.api.SubResource;
+
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import java.util.List;
+
+@Path("/order")
+@LinkedEntity(value = Order.class, bindings = {
+    @Binding(parameter = "customer-id", accessor = "customer"),
+    @Binding(parameter = "tag", accessor = "getTags")
+})
+public class OrderResource {
+
+    @GET
+    @Path("/{id}")
+    @Self
+    public Order findById(@PathParam("id") int id) {
+        return null;
+    }
+
+    @GET
+    @Path("/{id}/lines")
+    @SubResource(value = OrderResource.class, qualifier = "lines")
+    public List<Order> findLines(@PathParam("id") int id,
+                                 @QueryParam("status") @DefaultValue("open") String status,
+                                 @QueryParam("urgent") @DefaultValue("false") boolean urgent,
+                                 @QueryParam("tag") List<String> tags) {
+        return null;
+    }
+
+    @GET
+    @Path("/customer/{customer-id}")
+    @SubResource(value = OrderResource.class, qualifier = "customer")
+    public List<Order> findByCustomer(@PathParam("customer-id") String customerId) {
+        return null;
+    }
+}
@@ -0,0 +1,104 @@
+package entity_binding;
+
+import fr.vidal.oss.jax_rs_linker.ContextPathHolder;
+import fr.vidal.oss.jax_rs_linker.api.NoQueryParameters;
+import fr.vidal.oss.jax_rs_linker.metrics.LinkerMetricsHolder;
+import fr.vidal.oss.jax_rs_linker.model.ClassName;
+import fr.vidal.oss.jax_rs_linker.model.LinkSet;
+import fr.vidal.oss.jax_rs_linker.model.PathParameter;
+import fr.vidal.oss.jax_rs_linker.model.QueryParameter;
+import fr.vidal.oss.jax_rs_linker.model.TemplatedUrl;
+import java.lang.Object;
+import java.lang.String;
+import java.lang.StringBuilder;
+import java.lang.System;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Generated;
+
+@Generated("fr.vidal.oss.jax_rs_linker.LinkerAnnotationProcessor")
+public enum OrderResourceLinker {
+    INSTANCE;
+
+    private static final String[] LINK_RELATIONS = {"self", "orderResourceLines", "orderResourceCustomer"};
+
+    private final String contextPath = ContextPathHolder.getContextPath();
+
+    public static OrderResourceLinker orderResourceLinker() {
+        return INSTANCE;
+    }
+
+    public final TemplatedUrl<OrderResourcePathParameters, NoQueryParameters> self() {
+        return new TemplatedUrl<OrderResourcePathParameters, NoQueryParameters>(contextPath + "/order/{id}", Arrays.<PathParameter>asList(pathParameter("int", "id")), Arrays.<QueryParameter>asList());
+    }
+
+    public final TemplatedUrl<OrderResourcePathParameters, OrderResourceQueryParameters> relatedOrderResourceLines(
+            ) {
+        return new TemplatedUrl<OrderResourcePathParameters, OrderResourceQueryParameters>(contextPath + "/order/{id}/lines", Arrays.<PathParameter>asList(pathParameter("int", "id")), Arrays.<QueryParameter>asList(queryParameter("status", "open"),queryParameter("urgent", "false"),queryParameter("tag")));
+    }
+
+    public final TemplatedUrl<OrderResourcePathParameters, NoQueryParameters> relatedOrderResourceCustomer(
+            ) {
+        return new TemplatedUrl<OrderResourcePathParameters, NoQueryParameters>(contextPath + "/order/customer/{customer-id}", Arrays.<PathParameter>asList(pathParameter("java.lang.String", "customer-id")), Arrays.<QueryParameter>asList());
+    }
+
+    public final LinkSet links(int id, String customerId) {
+        long renderStart = LinkerMetricsHolder.ENABLED ? System.nanoTime() : 0L;
+        StringBuilder linkBuffer = new StringBuilder(contextPath.length() * 3 + 84);
+        int[] linkEnds = new int[3];
+        linkEnds[0] = linkBuffer.append(contextPath).append("/order/").append(id).length();
+        linkEnds[1] = linkBuffer.append(contextPath).append("/order/").append(id).append("/lines").length();
+        linkEnds[2] = linkBuffer.append(contextPath).append("/order/customer/").append(customerId).length();
+        if (LinkerMetricsHolder.ENABLED) {
+            LinkerMetricsHolder.METRICS.rendered("entity_binding.OrderResource#links", 2, System.nanoTime() - renderStart, linkBuffer);
+        }
+        return new LinkSet(LINK_RELATIONS, linkBuffer.toString(), linkEnds);
+    }
+
+    public final LinkSet links(Order entity) {
+        long renderStart = LinkerMetricsHolder.ENABLED ? System.nanoTime() : 0L;
+        int id = entity.getId();
+        String customerId = Objects.requireNonNull(entity.customer(), "customer-id");
+        String status = entity.getStatus();
+        List<String> tag = entity.getTags();
+        boolean urgent = entity.isUrgent();
+        StringBuilder linkBuffer = new StringBuilder(contextPath.length() * 3 + 84);
+        int[] linkEnds = new int[3];
+        char querySeparator;
+        linkEnds[0] = linkBuffer.append(contextPath).append("/order/").append(id).length();
+        linkBuffer.append(contextPath).append("/order/").append(id).append("/lines");
+        querySeparator = '?';
+        if (status != null && !"open".equals(status)) {
+            linkBuffer.append(querySeparator).append("status=").append(status);
+            querySeparator = '&';
+        }
+        if (tag != null) {
+            for (Object tagValue : tag) {
+                linkBuffer.append(querySeparator).append("tag=").append(tagValue);
+                querySeparator = '&';
+            }
+        }
+        if (urgent) {
+            linkBuffer.append(querySeparator).append("urgent=").append(urgent);
+        }
+        linkEnds[1] = linkBuffer.length();
+        linkEnds[2] = linkBuffer.append(contextPath).append("/order/customer/").append(customerId).length();
+        if (LinkerMetricsHolder.ENABLED) {
+            LinkerMetricsHolder.METRICS.rendered("entity_binding.OrderResource#links", 5, System.nanoTime() - renderStart, linkBuffer);
+        }
+        return new LinkSet(LINK_RELATIONS, linkBuffer.toString(), linkEnds);
+    }
+
+    private static PathParameter pathParameter(final String type, final String name) {
+        return new PathParameter(ClassName.valueOf(type), name);
+    }
+
+    private static QueryParameter queryParameter(final String name) {
+        return new QueryParameter(name);
+    }
+
+    private static QueryParameter queryParameter(final String name, final String defaultValue) {
+        return new QueryParameter(name, defaultValue);
+    }
+}
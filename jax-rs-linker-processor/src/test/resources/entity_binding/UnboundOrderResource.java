@@ -0,0 +1,20 @@
+package entity_binding;
+
+import fr.vidal.oss.jax_rs_linker.api.LinkedEntity;
+import fr.vidal.oss.jax_rs_linker.api.Self;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+@Path("/order")
+@LinkedEntity(Order.class)
+public class UnboundOrderResource {
+
+    @GET
+    @Path("/{reference}")
+    @Self
+    public Order findByReference(@PathParam("reference") String reference) {
+        return null;
+    }
+}
@@ -0,0 +1,39 @@
+package enum_parameters;
+
+import fr.vidal.oss.jax_rs_linker.api.Self;
+import fr.vidal.oss.jax_rs_linker.api.SubResource;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+@Path("/catalog")
+public class CatalogResource {
+
+    @GET
+    @Path("/{region}")
+    @Self
+    public String findByRegion(@PathParam("region") Region region) {
+        return null;
+    }
+
+    @GET
+    @Path("/{region}/{category}")
+    @SubResource(value = CatalogResource.class, qualifier = "category")
+    public String findByCategory(@PathParam("region") Region region,
+                                 @PathParam("category") Category category) {
+        return null;
+    }
+
+    @GET
+    @Path("/{region}/product/{id}")
+    @SubResource(value = CatalogResource.class, qualifier = "product")
+    public String findProduct(@PathParam("region") Region region,
+                              @PathParam("id") String id) {
+        return null;
+    }
+
+    public enum Category {
+        DRUG, DEVICE
+    }
+}
@@ -0,0 +1,94 @@
+package enum_parameters;
+
+import fr.vidal.oss.jax_rs_linker.ContextPathHolder;
+import fr.vidal.oss.jax_rs_linker.api.NoQueryParameters;
+import fr.vidal.oss.jax_rs_linker.metrics.LinkerMetricsHolder;
+import fr.vidal.oss.jax_rs_linker.model.ClassName;
+import fr.vidal.oss.jax_rs_linker.model.LinkSet;
+import fr.vidal.oss.jax_rs_linker.model.PathParameter;
+import fr.vidal.oss.jax_rs_linker.model.QueryParameter;
+import fr.vidal.oss.jax_rs_linker.model.TemplatedUrl;
+import java.lang.String;
+import java.lang.StringBuilder;
+import java.lang.System;
+import java.util.Arrays;
+import javax.annotation.Generated;
+
+@Generated("fr.vidal.oss.jax_rs_linker.LinkerAnnotationProcessor")
+public enum CatalogResourceLinker {
+    INSTANCE;
+
+    private static final String[] LINK_RELATIONS = {"self", "catalogResourceCategory", "catalogResourceProduct"};
+
+    private final String contextPath = ContextPathHolder.getContextPath();
+
+    private final String[] selfLinks = selfLinks();
+
+    private final String[][] relatedCatalogResourceCategoryLinks = relatedCatalogResourceCategoryLinks();
+
+    public static CatalogResourceLinker catalogResourceLinker() {
+        return INSTANCE;
+    }
+
+    public final TemplatedUrl<CatalogResourcePathParameters, NoQueryParameters> self() {
+        return new TemplatedUrl<CatalogResourcePathParameters, NoQueryParameters>(contextPath + "/catalog/{region}", Arrays.<PathParameter>asList(pathParameter("enum_parameters.Region", "region")), Arrays.<QueryParameter>asList());
+    }
+
+    private String[] selfLinks() {
+        String[] linkTable = new String[Region.values().length];
+        for (Region region : Region.values()) {
+            linkTable[region.ordinal()] = contextPath + "/catalog/" + region.name();
+        }
+        return linkTable;
+    }
+
+    public final String self(Region region) {
+        return selfLinks[region.ordinal()];
+    }
+
+    public final TemplatedUrl<CatalogResourcePathParameters, NoQueryParameters> relatedCatalogResourceCategory(
+            ) {
+        return new TemplatedUrl<CatalogResourcePathParameters, NoQueryParameters>(contextPath + "/catalog/{region}/{category}", Arrays.<PathParameter>asList(pathParameter("enum_parameters.Region", "region"),pathParameter("enum_parameters.CatalogResource.Category", "category")), Arrays.<QueryParameter>asList());
+    }
+
+    private String[][] relatedCatalogResourceCategoryLinks() {
+        String[][] linkTable = new String[Region.values().length][CatalogResource.Category.values().length];
+        for (Region region : Region.values()) {
+            for (CatalogResource.Category category : CatalogResource.Category.values()) {
+                linkTable[region.ordinal()][category.ordinal()] = contextPath + "/catalog/" + region.name() + "/" + category.name();
+            }
+        }
+        return linkTable;
+    }
+
+    public final String relatedCatalogResourceCategory(Region region,
+            CatalogResource.Category category) {
+        return relatedCatalogResourceCategoryLinks[region.ordinal()][category.ordinal()];
+    }
+
+    public final TemplatedUrl<CatalogResourcePathParameters, NoQueryParameters> relatedCatalogResourceProduct(
+            ) {
+        return new TemplatedUrl<CatalogResourcePathParameters, NoQueryParameters>(contextPath + "/catalog/{region}/product/{id}", Arrays.<PathParameter>asList(pathParameter("enum_parameters.Region", "region"),pathParameter("java.lang.String", "id")), Arrays.<QueryParameter>asList());
+    }
+
+    public final LinkSet links(Region region, CatalogResource.Category category, String id) {
+        long renderStart = LinkerMetricsHolder.ENABLED ? System.nanoTime() : 0L;
+        StringBuilder linkBuffer = new StringBuilder(contextPath.length() * 3 + 117);
+        int[] linkEnds = new int[3];
+        linkEnds[0] = linkBuffer.append(contextPath).append("/catalog/").append(region).length();
+        linkEnds[1] = linkBuffer.append(contextPath).append("/catalog/").append(region).append("/").append(category).length();
+        linkEnds[2] = linkBuffer.append(contextPath).append("/catalog/").append(region).append("/product/").append(id).length();
+        if (LinkerMetricsHolder.ENABLED) {
+            LinkerMetricsHolder.METRICS.rendered("enum_parameters.CatalogResource#links", 3, System.nanoTime() - renderStart, linkBuffer);
+        }
+        return new LinkSet(LINK_RELATIONS, linkBuffer.toString(), linkEnds);
+    }
+
+    private static PathParameter pathParameter(final String type, final String name) {
+        return new PathParameter(ClassName.valueOf(type), name);
+    }
+
+    private static QueryParameter queryParameter(final String name) {
+        return new QueryParameter(name);
+    }
+}
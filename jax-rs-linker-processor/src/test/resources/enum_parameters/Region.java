@@ -0,0 +1,5 @@
+package enum_parameters;
+
+public enum Region {
+    EUROPE, AMERICA, ASIA
+}
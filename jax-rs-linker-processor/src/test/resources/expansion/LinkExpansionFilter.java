@@ -0,0 +1,81 @@
+package fr.vidal.oss.jax_rs_linker;
+
+import fr.vidal.oss.jax_rs_linker.invocation.Expander;
+import fr.vidal.oss.jax_rs_linker.invocation.InvocationExecutors;
+import fr.vidal.oss.jax_rs_linker.model.Route;
+import java.lang.Integer;
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.String;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.Generated;
+import javax.annotation.PreDestroy;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceContext;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.ext.Provider;
+
+@Provider
+@Generated("fr.vidal.oss.jax_rs_linker.LinkerAnnotationProcessor")
+public final class LinkExpansionFilter implements ContainerResponseFilter {
+    public static final String EXPAND_PARAMETER = "expand";
+
+    public static final String MAX_DEPTH_PROPERTY = "jax-rs-linker.expansion.max-depth";
+
+    public static final String EXECUTOR_PROPERTY = "jax-rs-linker.expansion.executor";
+
+    @Context
+    private ResourceContext resources;
+
+    @Context
+    private Configuration configuration;
+
+    private Expander expander;
+
+    private ExecutorService ownExecutor;
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        List<String> expansions = request.getUriInfo().getQueryParameters().get(EXPAND_PARAMETER);
+        if (expansions == null || !response.hasEntity()) {
+            return;
+        }
+        Optional<Route> route = Routes.INSTANCE.route(request.getUriInfo().getPath(false));
+        if (!route.isPresent()) {
+            return;
+        }
+        Object expanded = expander().expand(response.getEntity(), route.get(), expansions, resources::getResource, ContextPathHolder.getContextPath());
+        if (expanded != response.getEntity()) {
+            response.setEntity(expanded, response.getEntityAnnotations(), response.getMediaType());
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (ownExecutor != null) {
+            ownExecutor.shutdown();
+        }
+    }
+
+    private synchronized Expander expander() {
+        if (expander == null) {
+            Object maxDepth = configuration.getProperty(MAX_DEPTH_PROPERTY);
+            Object executor = configuration.getProperty(EXECUTOR_PROPERTY);
+            if (!(executor instanceof Executor)) {
+                ownExecutor = InvocationExecutors.bounded("jax-rs-linker-expansion");
+                executor = ownExecutor;
+            }
+            expander = new Expander(
+                    Routes.INSTANCE,
+                    (Executor) executor,
+                    maxDepth == null ? 2 : Integer.parseInt(maxDepth.toString()));
+        }
+        return expander;
+    }
+}
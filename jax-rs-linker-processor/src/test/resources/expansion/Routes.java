@@ -0,0 +1,81 @@
+package fr.vidal.oss.jax_rs_linker;
+
+import entity_binding.Order;
+import entity_binding.OrderResource;
+import entity_binding.OrderResourceLinker;
+import entity_binding.OrderResourcePathParameters;
+import fr.vidal.oss.jax_rs_linker.invocation.ResourceIndex;
+import fr.vidal.oss.jax_rs_linker.invocation.ResourceInvoker;
+import fr.vidal.oss.jax_rs_linker.model.Route;
+import fr.vidal.oss.jax_rs_linker.model.Router;
+import java.lang.Boolean;
+import java.lang.CharSequence;
+import java.lang.Class;
+import java.lang.Integer;
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.String;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Generated;
+
+@Generated("fr.vidal.oss.jax_rs_linker.LinkerAnnotationProcessor")
+public enum Routes implements ResourceIndex {
+    INSTANCE;
+
+    private final Router router = Router.builder()
+        .route(OrderResource.class, OrderResource.class, "self", OrderResourcePathParameters.class, "/order/{id}")
+        .route(OrderResource.class, OrderResource.class, "orderResourceLines", OrderResourcePathParameters.class, "/order/{id}/lines")
+        .route(OrderResource.class, OrderResource.class, "orderResourceCustomer", OrderResourcePathParameters.class, "/order/customer/{customer-id}")
+        .build();
+
+    private final Map<Class<?>, Map<String, ResourceInvoker>> invokers = invokers();
+
+    @Override
+    public final Optional<Route> route(CharSequence path) {
+        return router.route(path);
+    }
+
+    @Override
+    public final Optional<ResourceInvoker> invoker(Class<?> resource, String relation) {
+        Map<String, ResourceInvoker> relations = invokers.get(resource);
+        return relations == null ? Optional.empty() : Optional.ofNullable(relations.get(relation));
+    }
+
+    @Override
+    public final Optional<String> selfLink(Object entity) {
+        if (entity instanceof Order) {
+            return Optional.of(OrderResourceLinker.INSTANCE.links((Order) entity).href(0));
+        }
+        return Optional.empty();
+    }
+
+    private static Map<Class<?>, Map<String, ResourceInvoker>> invokers() {
+        Map<Class<?>, Map<String, ResourceInvoker>> invokers = new HashMap<>();
+        invokers.put(OrderResource.class, orderResourceInvokers());
+        return invokers;
+    }
+
+    private static Map<String, ResourceInvoker> orderResourceInvokers() {
+        Map<String, ResourceInvoker> invokers = new HashMap<>();
+        invokers.put("self", (resources, route) -> {
+            OrderResource resource = resources.getResource(OrderResource.class);
+            int id = Integer.valueOf(Objects.requireNonNull(route.parameter(OrderResourcePathParameters.ID), "id"));
+            return () -> resource.findById(id);
+        });
+        invokers.put("orderResourceLines", (resources, route) -> {
+            OrderResource resource = resources.getResource(OrderResource.class);
+            int id = Integer.valueOf(Objects.requireNonNull(route.parameter(OrderResourcePathParameters.ID), "id"));
+            return () -> resource.findLines(id, "open", Boolean.valueOf("false"), new ArrayList<>());
+        });
+        invokers.put("orderResourceCustomer", (resources, route) -> {
+            OrderResource resource = resources.getResource(OrderResource.class);
+            String customerId = Objects.requireNonNull(route.parameter(OrderResourcePathParameters.CUSTOMER_ID), "customer-id");
+            return () -> resource.findByCustomer(customerId);
+        });
+        return invokers;
+    }
+}
@@ -0,0 +1,51 @@
+package fr.vidal.oss.jax_rs_linker;
+
+import fr.vidal.oss.jax_rs_linker.model.LinkHeaders;
+import fr.vidal.oss.jax_rs_linker.model.Route;
+import java.lang.Class;
+import java.lang.Override;
+import java.lang.String;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+import link_headers.HintedProductResource;
+import link_headers.HintedProductResourcePathParameters;
+
+@Provider
+@Generated("fr.vidal.oss.jax_rs_linker.LinkerAnnotationProcessor")
+public final class LinkHeaderFilter implements ContainerResponseFilter {
+    private static final Map<Class<?>, LinkHeaders> LINK_HEADERS = linkHeaders();
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+            return;
+        }
+        Optional<Route> route = Routes.INSTANCE.route(request.getUriInfo().getPath(false));
+        if (!route.isPresent() || !"self".equals(route.get().relation())) {
+            return;
+        }
+        String links = LINK_HEADERS.get(route.get().resource()).render(ContextPathHolder.getContextPath(), route.get());
+        if (!links.isEmpty()) {
+            response.getHeaders().add(HttpHeaders.LINK, links);
+        }
+    }
+
+    private static Map<Class<?>, LinkHeaders> linkHeaders() {
+        Map<Class<?>, LinkHeaders> linkHeaders = new HashMap<>();
+        linkHeaders.put(HintedProductResource.class, LinkHeaders.builder()
+            .link("self", HintedProductResourcePathParameters.class, "/product/{id}")
+            .link("hintedProductResourceBrand", LinkHeaders.Hint.PRELOAD, HintedProductResourcePathParameters.class, "/product/{id}/brand")
+            .link("hintedProductResourceCompany", LinkHeaders.Hint.PREFETCH, HintedProductResourcePathParameters.class, "/product/{id}/company")
+            .link("hintedProductResourceReviews", HintedProductResourcePathParameters.class, "/product/{id}/reviews")
+            .build());
+        return linkHeaders;
+    }
+}
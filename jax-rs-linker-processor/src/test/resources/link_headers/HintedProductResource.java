@@ -0,0 +1,42 @@
+package link_headers;
+
+import fr.vidal.oss.jax_rs_linker.api.LinkHints;
+import fr.vidal.oss.jax_rs_linker.api.Self;
+import fr.vidal.oss.jax_rs_linker.api.SubResource;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+@Path("/product")
+@LinkHints(preload = "hintedProductResourceBrand", prefetch = "hintedProductResourceCompany")
+public class HintedProductResource {
+
+    @Self
+    @Path("/{id}")
+    @GET
+    public String getById(@PathParam("id") int id) {
+        return null;
+    }
+
+    @SubResource(value = HintedProductResource.class, qualifier = "brand")
+    @Path("/{id}/brand")
+    @GET
+    public String getBrand(@PathParam("id") int id) {
+        return null;
+    }
+
+    @SubResource(value = HintedProductResource.class, qualifier = "company")
+    @Path("/{id}/company")
+    @GET
+    public String getCompany(@PathParam("id") int id) {
+        return null;
+    }
+
+    @SubResource(value = HintedProductResource.class, qualifier = "reviews")
+    @Path("/{id}/reviews")
+    @GET
+    public String getReviews(@PathParam("id") int id) {
+        return null;
+    }
+}
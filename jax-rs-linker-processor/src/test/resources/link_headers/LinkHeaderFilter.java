@@ -0,0 +1,62 @@
+package fr.vidal.oss.jax_rs_linker;
+
+import fr.vidal.oss.jax_rs_linker.model.LinkHeaders;
+import fr.vidal.oss.jax_rs_linker.model.Route;
+import fr.vidal.oss.jax_rs_linker.parser.BrandResource;
+import fr.vidal.oss.jax_rs_linker.parser.BrandResourcePathParameters;
+import fr.vidal.oss.jax_rs_linker.parser.PersonResource;
+import fr.vidal.oss.jax_rs_linker.parser.PersonResourcePathParameters;
+import fr.vidal.oss.jax_rs_linker.parser.ProductResource;
+import fr.vidal.oss.jax_rs_linker.parser.ProductResourcePathParameters;
+import java.lang.Class;
+import java.lang.Override;
+import java.lang.String;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+
+@Provider
+@Generated("fr.vidal.oss.jax_rs_linker.LinkerAnnotationProcessor")
+public final class LinkHeaderFilter implements ContainerResponseFilter {
+    private static final Map<Class<?>, LinkHeaders> LINK_HEADERS = linkHeaders();
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+            return;
+        }
+        Optional<Route> route = Routes.INSTANCE.route(request.getUriInfo().getPath(false));
+        if (!route.isPresent() || !"self".equals(route.get().relation())) {
+            return;
+        }
+        String links = LINK_HEADERS.get(route.get().resource()).render(ContextPathHolder.getContextPath(), route.get());
+        if (!links.isEmpty()) {
+            response.getHeaders().add(HttpHeaders.LINK, links);
+        }
+    }
+
+    private static Map<Class<?>, LinkHeaders> linkHeaders() {
+        Map<Class<?>, LinkHeaders> linkHeaders = new HashMap<>();
+        linkHeaders.put(BrandResource.class, LinkHeaders.builder()
+            .link("self", BrandResourcePathParameters.class, "/brand/{id}")
+            .link("brandResource", BrandResourcePathParameters.class, "/brand/{code}")
+            .link("brandResourceZip", BrandResourcePathParameters.class, "/brand/{zip}")
+            .build());
+        linkHeaders.put(PersonResource.class, LinkHeaders.builder()
+            .link("self", PersonResourcePathParameters.class, "/person/{id}")
+            .link("personResource", PersonResourcePathParameters.class, "/person/name/{firstName}")
+            .build());
+        linkHeaders.put(ProductResource.class, LinkHeaders.builder()
+            .link("self", ProductResourcePathParameters.class, "/product/{id}")
+            .link("brandResource", ProductResourcePathParameters.class, "/product/{id}/brand")
+            .build());
+        return linkHeaders;
+    }
+}
@@ -0,0 +1,20 @@
+package link_headers;
+
+import fr.vidal.oss.jax_rs_linker.api.LinkHints;
+import fr.vidal.oss.jax_rs_linker.api.Self;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+@Path("/product")
+@LinkHints(preload = "self")
+public class MishintedProductResource {
+
+    @Self
+    @Path("/{id}")
+    @GET
+    public String getById(@PathParam("id") int id) {
+        return null;
+    }
+}
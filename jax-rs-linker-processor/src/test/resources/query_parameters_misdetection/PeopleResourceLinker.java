@@ -3,11 +3,16 @@ package query_parameters_misdetection;
 
 import fr.vidal.oss.jax_rs_linker.ContextPathHolder;
 import fr.vidal.oss.jax_rs_linker.api.NoQueryParameters;
+import fr.vidal.oss.jax_rs_linker.metrics.LinkerMetricsHolder;
 import fr.vidal.oss.jax_rs_linker.model.ClassName;
+import fr.vidal.oss.jax_rs_linker.model.LinkSet;
 import fr.vidal.oss.jax_rs_linker.model.PathParameter;
 import fr.vidal.oss.jax_rs_linker.model.QueryParameter;
 import fr.vidal.oss.jax_rs_linker.model.TemplatedUrl;
+import java.lang.Integer;
 import java.lang.String;
+import java.lang.StringBuilder;
+import java.lang.System;
 import java.util.Arrays;
 import javax.annotation.Generated;
 
@@ -15,6 +20,8 @@ import javax.annotation.Generated;
 public enum PeopleResourceLinker {
     INSTANCE;
 
+    private static final String[] LINK_RELATIONS = {"self", "peopleResourceFriends"};
+
     private final String contextPath = ContextPathHolder.getContextPath();
 
     public static PeopleResourceLinker peopleResourceLinker() {
@@ -29,6 +36,18 @@ public enum PeopleResourceLinker {
         return new TemplatedUrl<PeopleResourcePathParameters, PeopleResourceQueryParameters>(contextPath + "/{id}/friends", Arrays.<PathParameter>asList(pathParameter("java.lang.Integer", "id")), Arrays.<QueryParameter>asList(queryParameter("pays"),queryParameter("ville")));
     }
 
+    public final LinkSet links(Integer id) {
+        long renderStart = LinkerMetricsHolder.ENABLED ? System.nanoTime() : 0L;
+        StringBuilder linkBuffer = new StringBuilder(contextPath.length() * 2 + 42);
+        int[] linkEnds = new int[2];
+        linkEnds[0] = linkBuffer.append(contextPath).append("/").append(id).length();
+        linkEnds[1] = linkBuffer.append(contextPath).append("/").append(id).append("/friends").length();
+        if (LinkerMetricsHolder.ENABLED) {
+            LinkerMetricsHolder.METRICS.rendered("query_parameters_misdetection.PeopleResource#links", 1, System.nanoTime() - renderStart, linkBuffer);
+        }
+        return new LinkSet(LINK_RELATIONS, linkBuffer.toString(), linkEnds);
+    }
+
     private static PathParameter pathParameter(final String type, final String name) {
         return new PathParameter(ClassName.valueOf(type), name);
     }
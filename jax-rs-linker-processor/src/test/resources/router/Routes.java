@@ -0,0 +1,35 @@
+package fr.vidal.oss.jax_rs_linker;
+
+import fr.vidal.oss.jax_rs_linker.model.Route;
+import fr.vidal.oss.jax_rs_linker.model.Router;
+import fr.vidal.oss.jax_rs_linker.parser.BrandResource;
+import fr.vidal.oss.jax_rs_linker.parser.BrandResourcePathParameters;
+import fr.vidal.oss.jax_rs_linker.parser.PersonResource;
+import fr.vidal.oss.jax_rs_linker.parser.PersonResourcePathParameters;
+import fr.vidal.oss.jax_rs_linker.parser.ProductResource;
+import fr.vidal.oss.jax_rs_linker.parser.ProductResourcePathParameters;
+import java.lang.CharSequence;
+import java.util.Optional;
+import javax.annotation.Generated;
+
+@Generated("fr.vidal.oss.jax_rs_linker.LinkerAnnotationProcessor")
+public enum Routes {
+    INSTANCE;
+
+    private final Router router = Router.builder()
+        .route(BrandResource.class, BrandResource.class, "self", BrandResourcePathParameters.class, "/brand/{id}")
+        .route(BrandResource.class, BrandResource.class, "brandResource", BrandResourcePathParameters.class, "/brand/{code}")
+        .route(BrandResource.class, BrandResource.class, "brandResourceZip", BrandResourcePathParameters.class, "/brand/{zip}")
+        .route(PersonResource.class, PersonResource.class, "self", PersonResourcePathParameters.class, "/person/{id}")
+        .route(PersonResource.class, PersonResource.class, "personResource", PersonResourcePathParameters.class, "/person/name/{firstName}")
+        .route(ProductResource.class, ProductResource.class, "self", ProductResourcePathParameters.class, "/product/{id}")
+        .route(ProductResource.class, BrandResource.class, "brandResource", ProductResourcePathParameters.class, "/product/{id}/brand")
+        .build();
+
+    /**
+     * Routes a path, context path excluded, to the matching resource method.
+     */
+    public final Optional<Route> route(CharSequence path) {
+        return router.route(path);
+    }
+}